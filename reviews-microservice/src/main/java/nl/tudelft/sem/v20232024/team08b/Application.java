@@ -1,6 +1,7 @@
 package nl.tudelft.sem.v20232024.team08b;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 
@@ -10,7 +11,7 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 @SpringBootApplication(
         exclude = {
                 SecurityAutoConfiguration.class,
-                //ManagementWebSecurityAutoConfiguration.class
+                ManagementWebSecurityAutoConfiguration.class
         })
 public class Application {
     public static void main(String[] args) {
@@ -8,6 +8,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ManualAssignment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -49,6 +55,36 @@ public interface AssignmentsAPI {
         @PathVariable @Parameter(description = "The ID of a paper to assign") Long paperID
     );
 
+    @Operation(summary = "Manually assign many reviewers at once",
+        description = "Manually assigns reviewers to papers, given as a list of (paper, reviewer) pairs. " +
+            "Every pair is checked as in the single assignment, and if any of them fails nothing is assigned. " +
+            "Pairs that are already assigned are skipped."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Reviewers successfully assigned to the papers.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "400", description = "Bad Request. No assignments were given.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "403", description = "Forbidden. You are not allowed to assign reviewers." +
+            " Only chairs for track can do that", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. One of the papers " +
+            "or users does not exist.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "409", description = "Conflict. There is a Conflict of Interest " +
+            "between one of the reviewers and their paper.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error." +
+            " An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @PostMapping(path = "/papers/assignees", consumes = "application/json")
+    public ResponseEntity<Void> assignManualBulk(
+        @RequestParam @Parameter(description = "The ID of a user making the request") Long requesterID,
+        @RequestBody @Parameter(description = "The reviewers to assign and their papers")
+        List<ManualAssignment> assignments
+    );
+
     @Operation(summary = "Automatically assign the reviewers",
         description = "Automatically assigns a reviewer to a specific paper. " +
             "At least 3 reviewers will be assigned to each paper (taking into account the manual assignments as well), " +
@@ -74,7 +110,83 @@ public interface AssignmentsAPI {
     public ResponseEntity<Void> assignAuto(
         @RequestParam @Parameter(description = "The ID of the user making the request") Long requesterID,
         @PathVariable @Parameter(description = "The ID of the conference the track belongs to") Long conferenceID,
-        @PathVariable @Parameter(description = "The ID of the track for which to do the automatic assignment") Long trackID
+        @PathVariable @Parameter(description = "The ID of the track for which to do the automatic assignment") Long trackID,
+        @RequestParam(required = false) @Parameter(description = "The strategy to assign the reviewers with. " +
+            "THREE_SMALLEST if not given") AssignmentStrategyType strategy
+    );
+
+    @Operation(summary = "Simulate the automatic assignment",
+        description = "Responds with the reviewers each of the given strategies would assign in the track, " +
+            "together with the variance of the load of the reviewers, the fraction of CAN_REVIEW matches " +
+            "and the papers that would still lack reviewers. Nothing is saved. " +
+            "All the strategies run on the same snapshot of the track, so they can be compared side by side."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Success."),
+        @ApiResponse(responseCode = "400", description = "Bad Request. One of the strategies is not available.",
+            content = {@Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "403", description = "Forbidden. Only the chairs of the track " +
+            "can simulate the assignment.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. The specified track or user " +
+            "does not exist.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error." +
+            " An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @GetMapping(path = "/conferences/{conferenceID}/tracks/{trackID}/automatic/simulation",
+        produces = "application/json")
+    public ResponseEntity<List<AssignmentSimulation>> simulateAssignment(
+        @RequestParam @Parameter(description = "The ID of the user making the request") Long requesterID,
+        @PathVariable @Parameter(description = "The ID of the conference the track belongs to") Long conferenceID,
+        @PathVariable @Parameter(description = "The ID of the track to simulate the assignment of") Long trackID,
+        @RequestParam(required = false) @Parameter(description = "The strategies to compare. " +
+            "All the available strategies if not given") List<AssignmentStrategyType> strategies
+    );
+
+    @Operation(summary = "Start an automatic assignment job",
+        description = "Starts the automatic assignment of one or more tracks in the background. " +
+            "The tracks are assigned in parallel, each with the permissions of the requester, " +
+            "and a track that fails does not affect the others. " +
+            "The progress of the job can be polled until it finishes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "The job was started."),
+        @ApiResponse(responseCode = "400", description = "Bad Request. No tracks were given.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error." +
+            " An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @PostMapping(path = "/automatic-assignment-jobs", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<AssignmentJobStatus> submitAssignmentJob(
+        @RequestParam @Parameter(description = "The ID of the user making the request") Long requesterID,
+        @RequestBody @Parameter(description = "The tracks to assign and the strategy to use")
+        AssignmentJobRequest request
+    );
+
+    @Operation(summary = "Get the progress of an automatic assignment job",
+        description = "Responds with the status of the job and of each of its tracks, " +
+            "the number of papers and reviewers assigned so far, and the time elapsed. " +
+            "Finished jobs are kept for a while after they finish."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Success."),
+        @ApiResponse(responseCode = "403", description = "Forbidden. Only the user that started the job " +
+            "can see its progress.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. The job does not exist " +
+            "or finished too long ago.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error." +
+            " An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @GetMapping(path = "/automatic-assignment-jobs/{jobID}", produces = "application/json")
+    public ResponseEntity<AssignmentJobStatus> getAssignmentJob(
+        @RequestParam @Parameter(description = "The ID of the user making the request") Long requesterID,
+        @PathVariable @Parameter(description = "The ID of the job") Long jobID
     );
 
     @Operation(summary = "Finalise reviewers",
@@ -129,7 +241,9 @@ public interface AssignmentsAPI {
     );
 
     @Operation(summary = "Removes a reviewer from a paper",
-        description = "Removes a reviewer previously assigned to a paper."
+        description = "Removes a reviewer previously assigned to a paper. " +
+            "If replace is set and the paper is left with less than 3 reviewers, a replacement is assigned " +
+            "from the other bidders on the paper, without re-assigning the rest of the track."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully removed the reviewer for this paper.", content = {
@@ -148,7 +262,9 @@ public interface AssignmentsAPI {
     public ResponseEntity<Void> remove(
         @RequestParam @Parameter(description = "The ID of a user making the request") Long requesterID,
         @PathVariable @Parameter(description = "The ID of a paper reviewer belongs to") Long paperID,
-        @PathVariable @Parameter(description = "The ID of a reviewer to remove") Long reviewerID
+        @PathVariable @Parameter(description = "The ID of a reviewer to remove") Long reviewerID,
+        @RequestParam(required = false, defaultValue = "false") @Parameter(description = "Whether to assign " +
+            "a replacement reviewer to the paper") boolean replace
     );
 
     @Operation(summary = "Gets all papers a reviewer (the requester) is assigned to.",
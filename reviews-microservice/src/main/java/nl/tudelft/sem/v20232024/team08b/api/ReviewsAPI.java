@@ -13,15 +13,18 @@ import java.util.List;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.DiscussionComment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.Review;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @OpenAPIDefinition(info = @Info(title = "EasyConf Reviews Microservice", version = "0.0.1-SNAPSHOT",
     description = "EasyConf is web-based conference management system, designed to organize and administrate " +
@@ -188,7 +191,8 @@ public interface ReviewsAPI {
     );
 
     @Operation(summary = "Gets the discussion comments",
-        description = "Responds with all the discussion comments for a paper. " +
+        description = "Responds with a page of the discussion comments for a paper, oldest first. " +
+            "To get the next page, pass the ID of the last comment of the page as the after parameter. " +
             "Discussion comments are comments that can be left on reviews during the Discussion phase. " +
             "These comments will not be revealed to authors. " +
             "The requester must be a chair of the track that the paper is in, or a reviewer " +
@@ -196,6 +200,9 @@ public interface ReviewsAPI {
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Success."),
+        @ApiResponse(responseCode = "400", description = "Bad Request. " +
+            "The limit must be between 1 and 500.", content = {
+            @Content(schema = @Schema())}),
         @ApiResponse(responseCode = "403", description = "Forbidden. " +
             "The requester is not a valid chair or reviewer.", content = {
             @Content(schema = @Schema())}),
@@ -210,6 +217,45 @@ public interface ReviewsAPI {
     public ResponseEntity<List<DiscussionComment>> getDiscussionComments(
         @RequestParam @Parameter(description = "The ID of the user making the request.") Long requesterID,
         @PathVariable @Parameter(description = "The ID of a reviewer in charge of this paper") Long reviewerID,
-        @PathVariable @Parameter(description = "The ID of a paper to get the comments from") Long paperID
+        @PathVariable @Parameter(description = "The ID of a paper to get the comments from") Long paperID,
+        @RequestParam(required = false)
+        @Parameter(description = "The ID of the last comment already read. Omit it to start from the first one")
+        Long after,
+        @RequestParam(defaultValue = "100")
+        @Parameter(description = "The most comments to return, at most 500") int limit
+    );
+
+    @Operation(summary = "Streams the discussion comments",
+        description = "Opens a stream of Server-Sent Events that pushes every discussion comment posted on the " +
+            "review from now on, as a \"comment\" event whose ID is the ID of the comment. " +
+            "To also get the comments posted after a given one, pass its ID as the after parameter, or as the " +
+            "Last-Event-ID header when reconnecting. Clients that can not keep up are disconnected and " +
+            "should reconnect. The requester must be a chair of the track that the paper is in, or a reviewer " +
+            "also assigned to the given paper."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Success. The stream is open."),
+        @ApiResponse(responseCode = "403", description = "Forbidden. " +
+            "The requester is not a valid chair or reviewer.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. " +
+            "The requested paper or reviewer was not found.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error. " +
+            "An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @GetMapping(path = "/reviews/by-reviewer/{reviewerID}/discussion-comments/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDiscussionComments(
+        @RequestParam @Parameter(description = "The ID of the user making the request.") Long requesterID,
+        @PathVariable @Parameter(description = "The ID of a reviewer in charge of this paper") Long reviewerID,
+        @PathVariable @Parameter(description = "The ID of a paper to stream the comments of") Long paperID,
+        @RequestParam(required = false)
+        @Parameter(description = "The ID of the last comment already read. Omit it to only get new comments")
+        Long after,
+        @RequestHeader(value = "Last-Event-ID", required = false)
+        @Parameter(description = "The ID of the last event received, sent by the client when it reconnects")
+        Long lastEventID
     );
 }
@@ -9,9 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.Date;
 import java.util.List;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhaseWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackAnalytics;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -50,6 +52,31 @@ public interface TracksAPI {
         @PathVariable @Parameter(description = "The ID of a track") Long trackID
     );
 
+    @Operation(summary = "Get the phases of the papers in a track",
+        description = "Returns the current phase of every paper in the given track of a conference, " +
+            "so that the phases do not have to be requested paper by paper."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful retrieval of the phases of the papers " +
+            "in given track of given conference"),
+        @ApiResponse(responseCode = "403", description = "Forbidden. " +
+            "The requester must be a chair of the track.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. " +
+            "The requested track or conference was not found.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error. " +
+            "An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @ResponseBody
+    @GetMapping(path = "/papers/phases", produces = "application/json")
+    public ResponseEntity<List<PaperPhaseWithID>> getPaperPhases(
+        @RequestParam @Parameter(description = "The ID of a user making the request") Long requesterID,
+        @PathVariable @Parameter(description = "The ID of a conference") Long conferenceID,
+        @PathVariable @Parameter(description = "The ID of a track") Long trackID
+    );
+
     @Operation(summary = "Get the summary stats of a track",
         description = "Returns the numbers of accepted, rejected and not-yet-decided papers."
     )
@@ -72,6 +99,30 @@ public interface TracksAPI {
         @PathVariable @Parameter(description = "The ID of a track") Long trackID
     );
 
+    @Operation(summary = "Get the review analytics of a track",
+        description = "Returns the distributions of the recommendation and confidence scores, " +
+            "the workload of every reviewer, the bids on every paper and the share of reviewed " +
+            "papers whose reviewers agree."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successful retrieval of track review analytics"),
+        @ApiResponse(responseCode = "403", description = "Forbidden. " +
+            "The requester has to be a chair of the track.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "404", description = "Not Found. The requested track was not found.", content = {
+            @Content(schema = @Schema())}),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error. " +
+            "An unexpected server error occurred.", content = {
+            @Content(schema = @Schema())})
+    })
+    @GetMapping(path = "/analytics/reviews", produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<TrackReviewAnalytics> getReviewAnalytics(
+        @RequestParam @Parameter(description = "The ID of a user making the request") Long requesterID,
+        @PathVariable @Parameter(description = "The ID of a conference") Long conferenceID,
+        @PathVariable @Parameter(description = "The ID of a track") Long trackID
+    );
+
     @Operation(summary = "Changes the bidding deadline",
         description = "Changes the bidding deadline to the one provided in the body. If the deadline isn't set, " +
             "it will automatically be set to a few days after the submission deadline for the track. " +
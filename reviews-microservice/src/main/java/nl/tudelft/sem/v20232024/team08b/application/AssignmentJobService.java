@@ -0,0 +1,171 @@
+package nl.tudelft.sem.v20232024.team08b.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.jobs.AssignmentJob;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrack;
+import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs automatic assignments in the background. A job can cover several tracks, which
+ * are assigned in parallel on a bounded pool of workers, and its progress can be polled
+ * until it finishes. Finished jobs are kept for a while, so their summary can still be read.
+ */
+@Service
+public class AssignmentJobService {
+    private final AssignmentsService assignmentsService;
+    private final Executor assignmentJobExecutor;
+    private final ExpiringLruCache<Long, AssignmentJob> jobs;
+    private final Clock clock;
+    private final AtomicLong nextJobID = new AtomicLong(1);
+
+    /**
+     * Default constructor for the service.
+     *
+     * @param assignmentsService service that assigns the reviewers of a single track
+     * @param assignmentJobExecutor the workers that run the tracks of the jobs
+     * @param retentionMillis how long a job is kept after it was last updated
+     * @param maximumJobs the most jobs kept at the same time
+     */
+    @Autowired
+    public AssignmentJobService(AssignmentsService assignmentsService,
+                                @Qualifier("assignmentJobExecutor") Executor assignmentJobExecutor,
+                                @Value("${assignment.jobs.retention-ms:3600000}") long retentionMillis,
+                                @Value("${assignment.jobs.maximum-jobs:1000}") int maximumJobs) {
+        this(assignmentsService, assignmentJobExecutor,
+                new ExpiringLruCache<>(Duration.ofMillis(retentionMillis), maximumJobs), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor used for testing purposes.
+     *
+     * @param assignmentsService service that assigns the reviewers of a single track
+     * @param assignmentJobExecutor the workers that run the tracks of the jobs
+     * @param jobs the store of the jobs
+     * @param clock the clock used to measure the progress of the jobs
+     */
+    public AssignmentJobService(AssignmentsService assignmentsService,
+                                Executor assignmentJobExecutor,
+                                ExpiringLruCache<Long, AssignmentJob> jobs,
+                                Clock clock) {
+        this.assignmentsService = assignmentsService;
+        this.assignmentJobExecutor = assignmentJobExecutor;
+        this.jobs = jobs;
+        this.clock = clock;
+    }
+
+    /**
+     * Submits a job that assigns the reviewers of the given tracks. Every track is
+     * assigned on its own, with the permissions of the requester, so a track the
+     * requester may not assign fails without affecting the others.
+     *
+     * @param requesterID the ID of the user submitting the job
+     * @param request the tracks to assign and the strategy to use
+     * @return the progress of the job right after it was submitted
+     * @throws IllegalArgumentException if no tracks are given
+     */
+    public AssignmentJobStatus submit(Long requesterID, AssignmentJobRequest request) {
+        AssignmentJob job = new AssignmentJob(nextJobID.getAndIncrement(), requesterID,
+                collectTracks(request), request.getStrategy(), clock.millis());
+        jobs.put(job.getJobID(), job);
+
+        for (int track = 0; track < job.getTrackCount(); track++) {
+            int index = track;
+            try {
+                assignmentJobExecutor.execute(() -> runTrack(job, index));
+            } catch (RejectedExecutionException e) {
+                job.fail(index, "Too many automatic assignments are running", clock.millis());
+            }
+        }
+        return job.toStatus(clock.millis());
+    }
+
+    /**
+     * Gets the distinct tracks of a request.
+     *
+     * @param request the request of the job
+     * @return the IDs of the tracks, in the order they were given
+     * @throws IllegalArgumentException if no tracks are given
+     */
+    private List<TrackID> collectTracks(AssignmentJobRequest request) {
+        if (request == null || request.getTracks() == null || request.getTracks().isEmpty()) {
+            throw new IllegalArgumentException("At least one track is needed");
+        }
+        // The same track twice would only make two workers race over the same papers
+        Set<TrackID> trackIDs = new LinkedHashSet<>();
+        for (AssignmentJobTrack track : request.getTracks()) {
+            trackIDs.add(new TrackID(track.getConferenceID(), track.getTrackID()));
+        }
+        return new ArrayList<>(trackIDs);
+    }
+
+    /**
+     * Gets the progress of a job.
+     *
+     * @param requesterID the ID of the user requesting the progress
+     * @param jobID the ID of the job
+     * @return the progress of the job and of each of its tracks
+     * @throws NotFoundException if there is no such job, or it finished too long ago
+     * @throws ForbiddenAccessException if the job was submitted by another user
+     */
+    public AssignmentJobStatus getJob(Long requesterID, Long jobID)
+            throws NotFoundException, ForbiddenAccessException {
+        Optional<AssignmentJob> job = jobs.get(jobID);
+        if (job.isEmpty()) {
+            throw new NotFoundException("No such assignment job");
+        }
+        if (!job.get().getRequesterID().equals(requesterID)) {
+            throw new ForbiddenAccessException();
+        }
+        return job.get().toStatus(clock.millis());
+    }
+
+    /**
+     * Assigns the reviewers of one track of a job. Any exception is recorded in the
+     * progress of that track only.
+     *
+     * @param job the job the track belongs to
+     * @param track the index of the track in the job
+     */
+    private void runTrack(AssignmentJob job, int track) {
+        TrackID trackID = job.getTrackID(track);
+        job.start(track, clock.millis());
+        try {
+            List<Review> assignments = assignmentsService.runAutomaticAssignment(job.getRequesterID(),
+                    trackID.getConferenceID(), trackID.getTrackID(), job.getStrategyType());
+            job.succeed(track, assignments, clock.millis());
+        } catch (Exception e) {
+            job.fail(track, describe(e), clock.millis());
+        }
+        // Storing the job again keeps it around for the whole retention after its last update
+        jobs.put(job.getJobID(), job);
+    }
+
+    private String describe(Exception e) {
+        if (e instanceof IllegalAccessException) {
+            return "Only the chairs of the track can assign its reviewers";
+        }
+        if (e.getMessage() == null) {
+            return e.getClass().getSimpleName();
+        }
+        return e.getMessage();
+    }
+}
@@ -1,25 +1,40 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentEvaluator;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentRepairer;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshot;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshotLoader;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
 import nl.tudelft.sem.v20232024.team08b.application.strategies.AutomaticAssignmentStrategy;
 import nl.tudelft.sem.v20232024.team08b.application.verification.AssignmentsVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
-import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ManualAssignment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ConflictOfInterestException;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewCount;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class AssignmentsService {
@@ -29,7 +44,14 @@ public class AssignmentsService {
 
     private final TrackRepository trackRepository;
     private final AssignmentsVerification assignmentsVerification;
+    private final TrackPhaseCalculator trackPhaseCalculator;
+    private final ReviewAnalyticsCache reviewAnalyticsCache;
     private AutomaticAssignmentStrategy automaticAssignmentStrategy;
+    private final Map<AssignmentStrategyType, AutomaticAssignmentStrategy> automaticAssignmentStrategies =
+            new EnumMap<>(AssignmentStrategyType.class);
+    private AssignmentSnapshotLoader assignmentSnapshotLoader;
+    private AssignmentRepairer assignmentRepairer;
+    private final AssignmentEvaluator assignmentEvaluator = new AssignmentEvaluator();
 
     /**
      * Default constructor for the service.
@@ -38,6 +60,8 @@ public class AssignmentsService {
      * @param submissionCommunicator class, that talks to submissions microservice
      * @param trackRepository repository storing the tracks
      * @param assignmentsVerification object responsible for verifying assignments
+     * @param trackPhaseCalculator calculates track phases
+     * @param reviewAnalyticsCache keeps the review analytics of the tracks
      *
      */
     @Autowired
@@ -45,12 +69,16 @@ public class AssignmentsService {
             ReviewRepository reviewRepository,
             CommunicationWithSubmissionMicroservice submissionCommunicator,
             TrackRepository trackRepository,
-            AssignmentsVerification assignmentsVerification
+            AssignmentsVerification assignmentsVerification,
+            TrackPhaseCalculator trackPhaseCalculator,
+            ReviewAnalyticsCache reviewAnalyticsCache
     ) {
         this.reviewRepository = reviewRepository;
         this.submissionCommunicator = submissionCommunicator;
         this.trackRepository = trackRepository;
         this.assignmentsVerification = assignmentsVerification;
+        this.trackPhaseCalculator = trackPhaseCalculator;
+        this.reviewAnalyticsCache = reviewAnalyticsCache;
     }
 
     /**
@@ -70,6 +98,41 @@ public class AssignmentsService {
 
         Review toSave = new Review(paperID, reviewerID);
         reviewRepository.save(toSave);
+        reviewAnalyticsCache.invalidatePaper(paperID);
+    }
+
+    /**
+     * This method assigns manually many reviewers at once. Every assignment is verified
+     * first, and then all of them are inserted in a single transaction, leaving out
+     * those that already exist.
+     *
+     * @param requesterID ID of a requester
+     * @param assignments the reviewers to assign and the papers to assign them to
+     * @throws IllegalAccessException If the requester does not have a permission to assign
+     * @throws NotFoundException If a reviewer is not in the track of the paper
+     * @throws ConflictOfInterestException If a reviewer can not be assigned due to conflict of interest
+     * @throws IllegalArgumentException If no assignments are given
+     */
+    public void assignManually(Long requesterID, List<ManualAssignment> assignments)
+            throws IllegalAccessException, NotFoundException, ConflictOfInterestException {
+        if (assignments == null || assignments.isEmpty()) {
+            throw new IllegalArgumentException("At least one assignment is needed");
+        }
+        Set<ReviewID> toSave = new LinkedHashSet<>();
+        for (ManualAssignment assignment : assignments) {
+            assignmentsVerification.verifyIfManualAssignmentIsPossible(requesterID,
+                    assignment.getPaperID(), assignment.getReviewerID());
+            toSave.add(new ReviewID(assignment.getPaperID(), assignment.getReviewerID()));
+        }
+
+        Set<Long> paperIDs = toSave.stream().map(ReviewID::getPaperID).collect(Collectors.toSet());
+        for (Review existing : reviewRepository.findByReviewIDPaperIDIn(paperIDs)) {
+            toSave.remove(existing.getReviewID());
+        }
+        reviewRepository.insertAll(toSave.stream()
+                .map(reviewID -> new Review(reviewID.getPaperID(), reviewID.getReviewerID()))
+                .collect(Collectors.toList()));
+        reviewAnalyticsCache.invalidatePapers(paperIDs);
     }
 
     /**
@@ -82,16 +145,11 @@ public class AssignmentsService {
      */
     public List<Long> assignments(Long requesterID, Long paperID) throws IllegalAccessException, NotFoundException {
         assignmentsVerification.verifyPermissionToGetAssignments(requesterID, paperID);
-        List<Long> userIds = new ArrayList<>();
-        List<Review> reviews = reviewRepository.findByReviewIDPaperID(paperID);
-        for (Review review : reviews) {
-            userIds.add(review.getReviewID().getReviewerID());
-        }
-        return userIds;
+        return reviewRepository.findReviewersByPaper(paperID);
     }
 
     /**
-     * This method assigns automatically reviewers to papers.
+     * This method assigns automatically reviewers to papers, using the default strategy.
      *
      * @param requesterID ID of a requester
      * @param conferenceID ID of a conferenceID
@@ -102,16 +160,117 @@ public class AssignmentsService {
      */
     public void assignAuto(Long requesterID, Long conferenceID, Long trackID)
             throws NotFoundException, IllegalAccessException {
+        assignAuto(requesterID, conferenceID, trackID, null);
+    }
+
+    /**
+     * This method assigns automatically reviewers to papers.
+     *
+     * @param requesterID ID of a requester
+     * @param conferenceID ID of a conferenceID
+     * @param trackID ID of a trackID
+     * @param strategyType the strategy to assign the reviewers with. The default strategy if null
+     * @throws IllegalAccessException If the requester does not have a permission to assign
+     * @throws NotFoundException If the reviewer is not in the track of paper
+     * @throws IllegalArgumentException If reviewer can not be assigned due to conflict of interest,
+     *                                  or the strategy is not available
+     */
+    public void assignAuto(Long requesterID, Long conferenceID, Long trackID, AssignmentStrategyType strategyType)
+            throws NotFoundException, IllegalAccessException {
+        runAutomaticAssignment(requesterID, conferenceID, trackID, strategyType);
+    }
+
+    /**
+     * Assigns automatically reviewers to the papers of a track, and returns the new assignments.
+     *
+     * @param requesterID ID of a requester
+     * @param conferenceID ID of a conferenceID
+     * @param trackID ID of a trackID
+     * @param strategyType the strategy to assign the reviewers with. The default strategy if null
+     * @return the new reviews that were saved
+     * @throws IllegalAccessException If the requester does not have a permission to assign
+     * @throws NotFoundException If the reviewer is not in the track of paper
+     * @throws IllegalArgumentException If reviewer can not be assigned due to conflict of interest,
+     *                                  or the strategy is not available
+     */
+    public List<Review> runAutomaticAssignment(Long requesterID, Long conferenceID, Long trackID,
+                                               AssignmentStrategyType strategyType)
+            throws NotFoundException, IllegalAccessException {
         assignmentsVerification.verifyAutoAssignmentIsPossible(conferenceID, trackID, requesterID);
 
         TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> opTrack = trackRepository.findById(trackID1);
-        if (opTrack.isEmpty()) {
+        List<Long> paperIDs = findPaperIDs(trackID1);
+        List<Review> assignments = getStrategy(strategyType).automaticAssignment(trackID1, paperIDs);
+        reviewAnalyticsCache.invalidateTrack(trackID1);
+        return assignments;
+    }
+
+    /**
+     * Computes the assignments that the given strategies would make for a track, together
+     * with their quality, without saving anything. The track is loaded once, and all the
+     * strategies run in parallel on the same snapshot.
+     *
+     * @param requesterID ID of a requester
+     * @param conferenceID ID of a conferenceID
+     * @param trackID ID of a trackID
+     * @param strategyTypes the strategies to compare. All the available strategies if null or empty
+     * @return the assignment of every strategy, in the order the strategies were given
+     * @throws IllegalAccessException If the requester does not have a permission to assign
+     * @throws NotFoundException If the track or the requester does not exist
+     * @throws IllegalArgumentException If one of the strategies is not available
+     */
+    public List<AssignmentSimulation> simulate(Long requesterID, Long conferenceID, Long trackID,
+                                               List<AssignmentStrategyType> strategyTypes)
+            throws NotFoundException, IllegalAccessException {
+        assignmentsVerification.verifyAutoAssignmentIsPossible(conferenceID, trackID, requesterID);
+
+        List<AutomaticAssignmentStrategy> strategies = new ArrayList<>(automaticAssignmentStrategies.values());
+        if (strategyTypes != null && !strategyTypes.isEmpty()) {
+            strategies = strategyTypes.stream()
+                    .distinct()
+                    .map(this::getStrategy)
+                    .collect(Collectors.toList());
+        }
+        TrackID trackID1 = new TrackID(conferenceID, trackID);
+        AssignmentSnapshot snapshot = assignmentSnapshotLoader.load(trackID1, findPaperIDs(trackID1));
+        return strategies.parallelStream()
+                .map(strategy -> simulateStrategy(strategy, snapshot))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Computes and evaluates the assignment of a single strategy. A strategy that can not
+     * assign the track is reported as such, without affecting the other strategies.
+     *
+     * @param strategy the strategy to run
+     * @param snapshot the snapshot of the track
+     * @return the proposed assignment and its quality
+     */
+    private AssignmentSimulation simulateStrategy(AutomaticAssignmentStrategy strategy,
+                                                  AssignmentSnapshot snapshot) {
+        try {
+            return assignmentEvaluator.evaluate(strategy.getType(), snapshot, strategy.proposeAssignments(snapshot));
+        } catch (IllegalArgumentException e) {
+            List<Long> unassignedPapers = snapshot.getPaperIDs().stream()
+                    .filter(paperID -> snapshot.getNeededReviewers(paperID) > 0)
+                    .collect(Collectors.toList());
+            return new AssignmentSimulation(strategy.getType(), List.of(), 0, 0, unassignedPapers, e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the IDs of the papers of a track. Only the IDs are queried, so this works without
+     * an open session, also when the assignment runs on a background worker.
+     *
+     * @param trackID the ID of the track
+     * @return the IDs of the papers of the track
+     * @throws NotFoundException if the track is not in the repository
+     */
+    private List<Long> findPaperIDs(TrackID trackID) throws NotFoundException {
+        if (!trackRepository.existsById(trackID)) {
             throw new NotFoundException("Track was not found");
         }
-        Track track = opTrack.get();
-        List<Paper> papers = track.getPapers();
-        automaticAssignmentStrategy.automaticAssignment(trackID1, papers);
+        return trackRepository.findPaperIDs(trackID);
     }
 
     @Autowired
@@ -120,6 +279,47 @@ public class AssignmentsService {
         this.automaticAssignmentStrategy = automaticAssignmentStrategy;
     }
 
+    @Autowired
+    public void setAssignmentSnapshotLoader(AssignmentSnapshotLoader assignmentSnapshotLoader) {
+        this.assignmentSnapshotLoader = assignmentSnapshotLoader;
+    }
+
+    @Autowired
+    public void setAssignmentRepairer(AssignmentRepairer assignmentRepairer) {
+        this.assignmentRepairer = assignmentRepairer;
+    }
+
+    /**
+     * Registers the strategies a chair can choose from when assigning automatically.
+     *
+     * @param automaticAssignmentStrategies all the available strategies
+     */
+    @Autowired
+    public void setAutomaticAssignmentStrategies(
+            List<AutomaticAssignmentStrategy> automaticAssignmentStrategies) {
+        for (AutomaticAssignmentStrategy strategy : automaticAssignmentStrategies) {
+            this.automaticAssignmentStrategies.put(strategy.getType(), strategy);
+        }
+    }
+
+    /**
+     * Gets the strategy of the given type.
+     *
+     * @param strategyType the type of the strategy. The default strategy if null
+     * @return the strategy
+     * @throws IllegalArgumentException if no strategy of that type is available
+     */
+    private AutomaticAssignmentStrategy getStrategy(AssignmentStrategyType strategyType) {
+        if (strategyType == null) {
+            return automaticAssignmentStrategy;
+        }
+        AutomaticAssignmentStrategy strategy = automaticAssignmentStrategies.get(strategyType);
+        if (strategy == null) {
+            throw new IllegalArgumentException("The assignment strategy is not available");
+        }
+        return strategy;
+    }
+
     /**
      * Removes assignment from paper.
      *
@@ -138,12 +338,38 @@ public class AssignmentsService {
         for (Review r : reviews) {
             if (r.getReviewID().getReviewerID().equals(reviewerID)) {
                 reviewRepository.delete(r);
+                reviewAnalyticsCache.invalidatePaper(paperID);
                 return;
             }
         }
         throw new NotFoundException("There is no such a assignment");
     }
 
+    /**
+     * Removes assignment from paper, and assigns a replacement reviewer if the paper
+     * is left with less than three reviewers. Only the paper itself is re-assigned,
+     * with the load of the reviewers in its track, instead of the whole track.
+     *
+     * @param requesterID ID of a user making the request
+     * @param paperID ID of a paper for which there is an assignment
+     * @param reviewerID ID of a reviewer assigned to the paper
+     * @return the IDs of the reviewers newly assigned to the paper. Empty if none was needed or found
+     * @throws NotFoundException when the paper does not exist or there is no such an assignment
+     * @throws IllegalAccessException when the requester is not a pc chair
+     */
+    public List<Long> removeAndReplace(Long requesterID, Long paperID, Long reviewerID)
+            throws NotFoundException, IllegalAccessException {
+        remove(requesterID, paperID, reviewerID);
+
+        Submission submission = submissionCommunicator.getSubmission(paperID);
+        TrackID trackID1 = new TrackID(submission.getEventId(), submission.getTrackId());
+        List<Review> replacements = assignmentRepairer.repair(trackID1, Map.of(paperID, Set.of(reviewerID)));
+        reviewAnalyticsCache.invalidateTrack(trackID1);
+        return replacements.stream()
+                .map(review -> review.getReviewID().getReviewerID())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets assigned papers for a reviewer.
      *
@@ -154,10 +380,11 @@ public class AssignmentsService {
     public List<PaperSummaryWithID> getAssignedPapers(Long requesterID) throws NotFoundException {
         assignmentsVerification.verifyIfUserCanGetAssignedPapers(requesterID);
         List<Long> paperIDs = reviewRepository.findPapersByReviewer(requesterID);
+        Map<Long, Submission> papers = submissionCommunicator.getSubmissions(paperIDs);
         List<PaperSummaryWithID> list = new ArrayList<>();
         for (Long paperID : paperIDs) {
             PaperSummaryWithID summaryWithID = new PaperSummaryWithID();
-            Submission paper = submissionCommunicator.getSubmission(paperID);
+            Submission paper = papers.get(paperID);
             summaryWithID.setPaperID(paperID);
             summaryWithID.setTitle(paper.getTitle());
             summaryWithID.setAbstractSection(paper.getAbstract());
@@ -168,7 +395,8 @@ public class AssignmentsService {
 
     /**
      * This method finalizes the assignment of reviewers, so they can no longer be changed
-     * manually or automatically. It moves the track into the REVIEWING phase.
+     * manually or automatically. It moves the track into the REVIEWING phase, and starts
+     * the progress counters of the track from the papers it has at this point.
      *
      * @param requesterID  ID of a requester
      * @param conferenceID ID of the conference of the track
@@ -183,9 +411,11 @@ public class AssignmentsService {
         assignmentsVerification.verifyPermissionToFinalize(requesterID, conferenceID, trackID);
         // Ensure there is at least 3 reviewers assigned to each paper
         var submissions = submissionCommunicator.getSubmissionsInTrack(conferenceID, trackID, requesterID);
-        if (submissions.stream().anyMatch(submission ->
-                reviewRepository.findByReviewIDPaperID(submission.getSubmissionId()).size() < 3
-        )) {
+        List<Long> paperIDs = submissions.stream().map(Submission::getSubmissionId).collect(Collectors.toList());
+        List<PaperReviewCount> counts = paperIDs.isEmpty() ? List.of() : reviewRepository.countReviewsPerPaper(paperIDs);
+        Map<Long, Long> reviewsPerPaper = counts.stream()
+                .collect(Collectors.toMap(PaperReviewCount::getPaperID, PaperReviewCount::getReviews));
+        if (paperIDs.stream().anyMatch(paperID -> reviewsPerPaper.getOrDefault(paperID, 0L) < 3)) {
             throw new IllegalStateException();
         }
         // Ensure the track is in our repository
@@ -196,6 +426,9 @@ public class AssignmentsService {
         // Get the track from our database
         Track track = optional.get();
         track.setReviewersHaveBeenFinalized(true);
+        track.setTotalPapers(paperIDs.size());
+        track.setFinalizedPapers(0);
         trackRepository.save(track);
+        trackPhaseCalculator.invalidateTrackPhase(conferenceID, trackID);
     }
 }
@@ -1,6 +1,7 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
 import nl.tudelft.sem.v20232024.team08b.application.verification.BidsVerification;
 import nl.tudelft.sem.v20232024.team08b.domain.Bid;
 import nl.tudelft.sem.v20232024.team08b.domain.BidID;
@@ -18,20 +19,24 @@ import java.util.stream.Collectors;
 public class BidsService {
     private final BidRepository bidRepository;
     private final BidsVerification bidsVerification;
+    private final ReviewAnalyticsCache reviewAnalyticsCache;
 
     /**
      * Default constructor for the service.
      *
      * @param bidRepository repository storing the bids
      * @param bidsVerification service responsible for bid verification
+     * @param reviewAnalyticsCache keeps the review analytics of the tracks
      */
     @Autowired
     public BidsService(
             BidRepository bidRepository,
-            BidsVerification bidsVerification
+            BidsVerification bidsVerification,
+            ReviewAnalyticsCache reviewAnalyticsCache
     ) {
         this.bidRepository = bidRepository;
         this.bidsVerification = bidsVerification;
+        this.reviewAnalyticsCache = reviewAnalyticsCache;
     }
 
     /**
@@ -89,5 +94,6 @@ public class BidsService {
             throws ForbiddenAccessException, NotFoundException, IllegalStateException {
         bidsVerification.verifyPermissionToSubmitBid(requesterID, paperID);
         bidRepository.save(new Bid(paperID, requesterID, bid));
+        reviewAnalyticsCache.invalidatePaper(paperID);
     }
 }
@@ -1,55 +1,78 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.discussion.DiscussionCommentHub;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackProgress;
 import nl.tudelft.sem.v20232024.team08b.application.verification.DiscussionVerification;
 import nl.tudelft.sem.v20232024.team08b.domain.Comment;
 import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
-import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.DiscussionComment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+import nl.tudelft.sem.v20232024.team08b.repos.CommentRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewScores;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class DiscussionService {
+    public static final int MAX_COMMENTS_PER_PAGE = 500;
+
     private final ReviewRepository reviewRepository;
-    private final ReviewsService reviewsService;
+    private final CommentRepository commentRepository;
+    private final DiscussionCommentHub discussionCommentHub;
     private final PaperRepository paperRepository;
     private final DiscussionVerification discussionVerification;
+    private final TrackPhaseCalculator trackPhaseCalculator;
+    private final TrackProgress trackProgress;
 
     /**
      * Constructor for discussion service.
      *
      * @param reviewRepository repository storing the reviews
-     * @param reviewsService service for reviews
+     * @param commentRepository repository storing the discussion comments
+     * @param discussionCommentHub pushes new comments to the open streams
      * @param paperRepository repository storing papers
      * @param discussionVerification object that verifies permissions
+     * @param trackPhaseCalculator calculates track phases
+     * @param trackProgress keeps the progress counters of the tracks
      */
 
     public DiscussionService(ReviewRepository reviewRepository,
-                             ReviewsService reviewsService,
+                             CommentRepository commentRepository,
+                             DiscussionCommentHub discussionCommentHub,
                              PaperRepository paperRepository,
-                             DiscussionVerification discussionVerification) {
+                             DiscussionVerification discussionVerification,
+                             TrackPhaseCalculator trackPhaseCalculator,
+                             TrackProgress trackProgress) {
         this.reviewRepository = reviewRepository;
-        this.reviewsService = reviewsService;
+        this.commentRepository = commentRepository;
+        this.discussionCommentHub = discussionCommentHub;
         this.paperRepository = paperRepository;
         this.discussionVerification = discussionVerification;
+        this.trackPhaseCalculator = trackPhaseCalculator;
+        this.trackProgress = trackProgress;
     }
 
     /**
-     * Submits a confidential comment to a review.
+     * Submits a confidential comment to a review. The comment is appended with a single
+     * INSERT, without loading the review or the comments posted before it, and then pushed
+     * to everyone streaming the discussion of the review.
      *
      * @param requesterID The ID of the user submitting the comment
      * @param reviewerID The ID of the reviewer associated with the paper
      * @param paperID The ID of the paper being commented on
      * @param text The confidential comment text
-     * @throws NotFoundException if the paper does not exist
+     * @throws NotFoundException if the paper or the review does not exist
      * @throws IllegalAccessException if the user does not have the required permissions
      */
     public void submitDiscussionComment(Long requesterID,
@@ -57,38 +80,78 @@ public class DiscussionService {
                                         Long paperID,
                                         String text) throws NotFoundException, IllegalAccessException {
         discussionVerification.verifySubmitDiscussionComment(requesterID, reviewerID, paperID);
+        verifyReviewExists(reviewerID, paperID);
 
-        Comment comment = new Comment(requesterID, text);
-
-        Review review = reviewsService.getReview(reviewerID, paperID);
-        review.getConfidentialComments().add(comment);
-        reviewRepository.save(review);
+        Comment comment = commentRepository.save(new Comment(paperID, reviewerID, requesterID, text));
+        discussionCommentHub.publish(comment);
     }
 
     /**
-     * Retrieves discussion comments for a specific paper.
+     * Retrieves a page of the discussion comments of a review, oldest first.
      *
      * @param requesterID The ID of the user requesting the comments
      * @param reviewerID The ID of the reviewer associated with the paper
      * @param paperID The ID of the paper whose comments are being retrieved
+     * @param after The ID of the last comment already read, or null to start from the first one
+     * @param limit The most comments to return, at most MAX_COMMENTS_PER_PAGE
+     * @return the comments posted after the given one
      * @throws NotFoundException if the review or paper does not exist
      * @throws IllegalAccessException if the user does not have the necessary permissions
+     * @throws IllegalArgumentException if the limit is not between 1 and MAX_COMMENTS_PER_PAGE
      */
     public List<DiscussionComment> getDiscussionComments(Long requesterID,
                                                          Long reviewerID,
-                                                         Long paperID) throws NotFoundException,
+                                                         Long paperID,
+                                                         Long after,
+                                                         int limit) throws NotFoundException,
             IllegalAccessException {
+        if (limit < 1 || limit > MAX_COMMENTS_PER_PAGE) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + MAX_COMMENTS_PER_PAGE);
+        }
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+        verifyReviewExists(reviewerID, paperID);
+
+        return commentRepository.findPage(paperID, reviewerID, after, limit).stream()
+                .map(DiscussionComment::new)
+                .collect(Collectors.toList());
+    }
 
-        Review review = reviewsService.getReview(reviewerID, paperID);
-        //Retrieve the list of Comments assigned to the Review
-        List<Comment> comments = review.getConfidentialComments();
-        //Parse the list of Comments into a list of DiscussionComments
-        List<DiscussionComment> discussionComments = new ArrayList<>();
-        for (Comment comment : comments) {
-            discussionComments.add(new DiscussionComment(comment));
+    /**
+     * Opens a stream of the discussion comments of a review, which pushes every new comment
+     * as soon as it is posted, instead of the client polling for them.
+     *
+     * @param requesterID The ID of the user requesting the comments
+     * @param reviewerID The ID of the reviewer associated with the paper
+     * @param paperID The ID of the paper whose comments are being streamed
+     * @param after The ID of the last comment the client already has. The comments posted after
+     *              it are sent first. Null to only get new comments
+     * @return the stream of the comments
+     * @throws NotFoundException if the review or paper does not exist
+     * @throws IllegalAccessException if the user does not have the necessary permissions
+     * @throws IOException if the missed comments could not be sent
+     */
+    public SseEmitter streamDiscussionComments(Long requesterID,
+                                               Long reviewerID,
+                                               Long paperID,
+                                               Long after) throws NotFoundException,
+            IllegalAccessException, IOException {
+        discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+        verifyReviewExists(reviewerID, paperID);
+
+        return discussionCommentHub.subscribe(new ReviewID(paperID, reviewerID), after);
+    }
+
+    /**
+     * Checks that a reviewer has a review of the paper.
+     *
+     * @param reviewerID the ID of the reviewer
+     * @param paperID the ID of the paper
+     * @throws NotFoundException if there is no such review
+     */
+    private void verifyReviewExists(Long reviewerID, Long paperID) throws NotFoundException {
+        if (!reviewRepository.existsById(new ReviewID(paperID, reviewerID))) {
+            throw new NotFoundException("The review could not be found");
         }
-        return discussionComments;
     }
 
     /**
@@ -107,21 +170,23 @@ public class DiscussionService {
         //Check if all reviews are either in positive or negative.
         //Reviews should not be empty because paper is already in discussion phase
         //which means that there are 3 reviews for the paper.
-        List<Review> reviews = reviewRepository.findByReviewIDPaperID(paperID);
-        boolean isAgreed = isAgreed(reviews);
+        List<RecommendationScore> scores = reviewRepository.findScoresByPaper(paperID).stream()
+                .map(ReviewScores::getRecommendationScore)
+                .collect(Collectors.toList());
+        boolean isAgreed = isAgreed(scores);
         if (!isAgreed) {
             throw new IllegalStateException("Reviews are not all positive nor all negative.");
         }
-        RecommendationScore recommendationScore = reviews.get(0).getRecommendationScore();
-        Paper paper = getDomainPaper(paperID);
+        RecommendationScore recommendationScore = scores.get(0);
+        // Make sure the paper exists
+        getDomainPaper(paperID);
         if (recommendationScore == RecommendationScore.STRONG_REJECT ||
                 recommendationScore == RecommendationScore.WEAK_REJECT) {
-            paper.setStatus(PaperStatus.REJECTED);
+            trackProgress.finalizePaper(paperID, PaperStatus.REJECTED);
         } else {
-            paper.setStatus(PaperStatus.ACCEPTED);
+            trackProgress.finalizePaper(paperID, PaperStatus.ACCEPTED);
         }
-        paper.setReviewsHaveBeenFinalized(true);
-        paperRepository.save(paper);
+        trackPhaseCalculator.invalidateTrackPhaseOfPaper(paperID);
     }
 
     /**
@@ -142,27 +207,45 @@ public class DiscussionService {
     /**
      * Checks if all reviews have made a uniform decision or not.
      *
-     * @param reviews the list of reviews to check
+     * @param scores the recommendation scores of the reviews to check
      * @return true if all reviews are either agreed or disagreed. False otherwise.
      */
-    public static boolean isAgreed(List<Review> reviews) {
-        if (reviews == null || reviews.isEmpty()) {
+    public static boolean isAgreed(List<RecommendationScore> scores) {
+        if (scores == null) {
             throw new IllegalStateException("No reviews found.");
         }
 
-        boolean isAccept = reviews.get(0).getRecommendationScore() == RecommendationScore.STRONG_ACCEPT
-                | reviews.get(0).getRecommendationScore() == RecommendationScore.WEAK_ACCEPT;
-
-        for (int i = 1; i < reviews.size(); i++) { // Start from the second review
-            RecommendationScore score = reviews.get(i).getRecommendationScore();
-            boolean currentIsAccept = score == RecommendationScore.STRONG_ACCEPT
-                    | score == RecommendationScore.WEAK_ACCEPT;
-
-            if (currentIsAccept != isAccept) {
-                return false;
+        int accepting = 0;
+        for (RecommendationScore score : scores) {
+            if (isAccepting(score)) {
+                accepting++;
             }
         }
+        return isAgreed(accepting, scores.size() - accepting);
+    }
 
-        return true;
+    /**
+     * Checks if all reviews have made a uniform decision or not, given how many of them
+     * accept and how many reject the paper.
+     *
+     * @param accepting the number of reviews accepting the paper
+     * @param rejecting the number of reviews rejecting the paper
+     * @return true if all reviews are either agreed or disagreed. False otherwise.
+     */
+    public static boolean isAgreed(int accepting, int rejecting) {
+        if (accepting + rejecting == 0) {
+            throw new IllegalStateException("No reviews found.");
+        }
+        return accepting == 0 || rejecting == 0;
+    }
+
+    /**
+     * Checks if a recommendation score accepts the paper.
+     *
+     * @param score the recommendation score
+     * @return true if the score is a weak or strong accept
+     */
+    public static boolean isAccepting(RecommendationScore score) {
+        return score == RecommendationScore.STRONG_ACCEPT || score == RecommendationScore.WEAK_ACCEPT;
     }
 }
@@ -1,6 +1,8 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.PapersVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
@@ -12,7 +14,7 @@ import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,8 @@ public class ReviewsService {
     private final PapersVerification papersVerification;
     private final TracksVerification tracksVerification;
     private final UsersVerification usersVerification;
+    private final TrackPhaseCalculator trackPhaseCalculator;
+    private final ReviewAnalyticsCache reviewAnalyticsCache;
 
     /**
      * Default constructor for the service.
@@ -29,16 +33,22 @@ public class ReviewsService {
      * @param reviewRepository repository storing the reviews
      * @param tracksVerification object responsible for verifying track information
      * @param usersVerification object responsible for verifying user information
+     * @param trackPhaseCalculator calculates track phases
+     * @param reviewAnalyticsCache keeps the review analytics of the tracks
      * */
     @Autowired
     public ReviewsService(ReviewRepository reviewRepository,
                           PapersVerification papersVerification,
                           TracksVerification tracksVerification,
-                          UsersVerification usersVerification) {
+                          UsersVerification usersVerification,
+                          TrackPhaseCalculator trackPhaseCalculator,
+                          ReviewAnalyticsCache reviewAnalyticsCache) {
         this.reviewRepository = reviewRepository;
         this.papersVerification = papersVerification;
         this.tracksVerification = tracksVerification;
         this.usersVerification = usersVerification;
+        this.trackPhaseCalculator = trackPhaseCalculator;
+        this.reviewAnalyticsCache = reviewAnalyticsCache;
     }
 
     /**
@@ -87,6 +97,8 @@ public class ReviewsService {
         ReviewID reviewId = new ReviewID(paperID, requesterID);
         Review review = new Review(reviewDTO, reviewId);
         reviewRepository.save(review);
+        trackPhaseCalculator.invalidateTrackPhaseOfPaper(paperID);
+        reviewAnalyticsCache.invalidatePaper(paperID);
     }
 
     /**
@@ -118,18 +130,12 @@ public class ReviewsService {
      */
     public List<Long> getReviewersFromPaper(long requesterID, long paperID)
             throws NotFoundException, IllegalAccessException {
-        boolean isChair = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER);
-        if (!isChair && !isReviewer) {
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(requesterID, paperID);
+        if (!roles.contains(UserRole.CHAIR) && !roles.contains(UserRole.REVIEWER)) {
             throw new IllegalAccessException("Not a chair or reviewer of paper");
         }
         tracksVerification.verifyTrackPhaseThePaperIsIn(paperID, List.of(TrackPhase.REVIEWING, TrackPhase.FINAL));
-        List<Review> reviews = reviewRepository.findByReviewIDPaperID(paperID);
-        List<Long> reviewers = new ArrayList<>();
-        for (Review review : reviews) {
-            reviewers.add(review.getReviewID().getReviewerID());
-        }
-        return reviewers;
+        return reviewRepository.findReviewersByPaper(paperID);
     }
 
     /**
@@ -149,9 +155,10 @@ public class ReviewsService {
             throw new NotFoundException("No such paper exists");
         }
 
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER);
-        boolean isChair = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
-        boolean isAuthor = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR);
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(requesterID, paperID);
+        boolean isReviewer = roles.contains(UserRole.REVIEWER);
+        boolean isChair = roles.contains(UserRole.CHAIR);
+        boolean isAuthor = roles.contains(UserRole.AUTHOR);
 
         // Check if such review even exists (the method throws if it doesn't)
         getReview(reviewerID, paperID);
@@ -1,36 +1,48 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackAnalytics;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperStatusCount;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class TrackAnalyticsService {
     private final UsersVerification usersVerification;
     private final CommunicationWithSubmissionMicroservice submissionsCommunicator;
-    private final PapersService papersService;
+    private final PaperRepository paperRepository;
+    private final ReviewAnalyticsCache reviewAnalyticsCache;
 
     /**
      * Creates a calculator for track analytics.
      *
      * @param usersVerification object that performs user verification
      * @param submissionsCommunicator object storing external objects
-     * @param papersService service that handles paper operations
+     * @param paperRepository repository storing the papers
+     * @param reviewAnalyticsCache keeps the review analytics of the tracks
      */
     @Autowired
     public TrackAnalyticsService(UsersVerification usersVerification,
                                  CommunicationWithSubmissionMicroservice submissionsCommunicator,
-                                 PapersService papersService) {
+                                 PaperRepository paperRepository,
+                                 ReviewAnalyticsCache reviewAnalyticsCache) {
         this.usersVerification = usersVerification;
         this.submissionsCommunicator = submissionsCommunicator;
-        this.papersService = papersService;
+        this.paperRepository = paperRepository;
+        this.reviewAnalyticsCache = reviewAnalyticsCache;
     }
 
     /**
@@ -50,7 +62,9 @@ public class TrackAnalyticsService {
 
     /**
      * Gets the analytics of a track. Analytics that provide a summary for a particular track of
-     * the amount of papers that have been accepted, rejected and those that haven't yet been decided
+     * the amount of papers that have been accepted, rejected and those that haven't yet been decided.
+     * The statuses of all the papers are counted in a single query over the papers of the
+     * track, and papers that are not stored with the track yet are counted as not decided.
      *
      * @param trackID     the ID of the track
      * @param requesterID the ID of the requester
@@ -60,31 +74,61 @@ public class TrackAnalyticsService {
      */
     public TrackAnalytics getAnalytics(TrackID trackID, Long requesterID)
             throws NotFoundException, ForbiddenAccessException {
-        // Verify if the user is a chair
+        // Verify if the user is a chair. This also covers viewing the status of every paper
         verifyIfChair(trackID, requesterID);
 
-        var submissions = submissionsCommunicator.getSubmissionsInTrack(
-                trackID.getConferenceID(), trackID.getTrackID(), requesterID
-        );
+        List<Long> paperIDs = getPaperIDs(trackID, requesterID);
+        if (paperIDs.isEmpty()) {
+            return new TrackAnalytics(0, 0, 0);
+        }
+
         var accepted = 0;
         var rejected = 0;
-        var undecided = 0;
-        for (var submission : submissions) {
-            PaperStatus status;
-            try {
-                status = papersService.getState(requesterID, submission.getSubmissionId());
-            } catch (IllegalAccessException e) {
-                // We have already checked that the requester is a chair of the track
-                // so this shouldn't happen
-                throw new RuntimeException(e);
+        for (PaperStatusCount count : paperRepository.countPapersPerStatus(trackID)) {
+            // Not decided papers are counted together with the ones not stored yet
+            if (count.getStatus() == PaperStatus.ACCEPTED) {
+                accepted = count.getPapers().intValue();
+            } else if (count.getStatus() == PaperStatus.REJECTED) {
+                rejected = count.getPapers().intValue();
             }
+        }
+        return new TrackAnalytics(accepted, rejected, paperIDs.size() - accepted - rejected);
+    }
 
-            switch (status) {
-                case ACCEPTED -> accepted++;
-                case REJECTED -> rejected++;
-                default -> undecided++;
-            }
+    /**
+     * Gets the review analytics of a track: the distributions of the recommendation and
+     * confidence scores, the workload of every reviewer, the bids on every paper and how
+     * often the reviewers of a paper agree. The analytics are cached until a review or a
+     * bid in the track changes.
+     *
+     * @param trackID     the ID of the track
+     * @param requesterID the ID of the requester
+     * @return the review analytics of the track
+     * @throws NotFoundException        if the track does not exist
+     * @throws ForbiddenAccessException if the requester is not a chair of the track
+     */
+    public TrackReviewAnalytics getReviewAnalytics(TrackID trackID, Long requesterID)
+            throws NotFoundException, ForbiddenAccessException {
+        verifyIfChair(trackID, requesterID);
+        return reviewAnalyticsCache.getAnalytics(trackID, getPaperIDs(trackID, requesterID));
+    }
+
+    /**
+     * Gets the IDs of the papers submitted to a track.
+     *
+     * @param trackID     the ID of the track
+     * @param requesterID the ID of the requester
+     * @return the IDs of the papers in the track
+     * @throws NotFoundException if the track does not exist
+     */
+    private List<Long> getPaperIDs(TrackID trackID, Long requesterID) throws NotFoundException {
+        var submissions = submissionsCommunicator.getSubmissionsInTrack(
+                trackID.getConferenceID(), trackID.getTrackID(), requesterID
+        );
+        List<Long> paperIDs = new ArrayList<>();
+        for (Submission submission : submissions) {
+            paperIDs.add(submission.getSubmissionId());
         }
-        return new TrackAnalytics(accepted, rejected, undecided);
+        return paperIDs;
     }
 }
@@ -1,6 +1,8 @@
 package nl.tudelft.sem.v20232024.team08b.application;
 
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackDeadlineScheduler;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicroservice;
@@ -22,6 +24,8 @@ public class TrackDeadlineService {
     private final TrackRepository trackRepository;
     private final CommunicationWithUsersMicroservice usersCommunicator;
     private final UsersVerification usersVerification;
+    private final TrackPhaseCalculator trackPhaseCalculator;
+    private final TrackDeadlineScheduler trackDeadlineScheduler;
 
     /**
      * Constructs the service that handles track deadlines.
@@ -30,15 +34,21 @@ public class TrackDeadlineService {
      * @param trackRepository responsible for storing tracks
      * @param usersCommunicator communicates with users microservice
      * @param usersVerification verifies users
+     * @param trackPhaseCalculator calculates track phases
+     * @param trackDeadlineScheduler fires when the deadlines of the tracks pass
      */
     public TrackDeadlineService(TracksVerification tracksVerification,
                                 TrackRepository trackRepository,
                                 CommunicationWithUsersMicroservice usersCommunicator,
-                                UsersVerification usersVerification) {
+                                UsersVerification usersVerification,
+                                TrackPhaseCalculator trackPhaseCalculator,
+                                TrackDeadlineScheduler trackDeadlineScheduler) {
         this.tracksVerification = tracksVerification;
         this.trackRepository = trackRepository;
         this.usersCommunicator = usersCommunicator;
         this.usersVerification = usersVerification;
+        this.trackPhaseCalculator = trackPhaseCalculator;
+        this.trackDeadlineScheduler = trackDeadlineScheduler;
     }
 
     /**
@@ -92,6 +102,8 @@ public class TrackDeadlineService {
         Track track = getTrackWithInsertionToOurRepo(conferenceID, trackID);
         track.setBiddingDeadline(deadline);
         trackRepository.save(track);
+        trackPhaseCalculator.invalidateTrackPhase(conferenceID, trackID);
+        trackDeadlineScheduler.scheduleBiddingDeadline(new TrackID(conferenceID, trackID), deadline);
     }
 
     /**
@@ -115,6 +127,9 @@ public class TrackDeadlineService {
 
         // Set the bidding deadline for the track
         setBiddingDeadlineCommon(conferenceID, trackID, biddingDeadline);
+
+        // The submission deadline is known now, so the end of the submitting phase can be scheduled
+        trackDeadlineScheduler.scheduleSubmissionDeadline(new TrackID(conferenceID, trackID), submissionDeadlineUnix);
     }
 
 
@@ -4,7 +4,11 @@ import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
+import nl.tudelft.sem.v20232024.team08b.application.phase.PaperPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhaseWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
@@ -15,6 +19,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TrackInformationService {
@@ -22,7 +27,7 @@ public class TrackInformationService {
     private final UsersVerification usersVerification;
     private final TrackPhaseCalculator trackPhaseCalculator;
     private final CommunicationWithSubmissionMicroservice submissionsCommunicator;
-
+    private final PaperPhaseCalculator paperPhaseCalculator;
 
     /**
      * Default constructor for the service.
@@ -32,16 +37,20 @@ public class TrackInformationService {
      * @param tracksVerification object responsible for verifying track information
      * @param usersVerification object responsible for verifying user information
      * @param submissionsCommunicator gets objects from submissions microservice
+     * @param paperPhaseCalculator object responsible for getting the current phases
+     *                             of papers
      */
     @Autowired
     public TrackInformationService(TrackPhaseCalculator trackPhaseCalculator,
                                    TracksVerification tracksVerification,
                                    UsersVerification usersVerification,
-                                   CommunicationWithSubmissionMicroservice submissionsCommunicator) {
+                                   CommunicationWithSubmissionMicroservice submissionsCommunicator,
+                                   PaperPhaseCalculator paperPhaseCalculator) {
         this.trackPhaseCalculator = trackPhaseCalculator;
         this.tracksVerification = tracksVerification;
         this.usersVerification = usersVerification;
         this.submissionsCommunicator = submissionsCommunicator;
+        this.paperPhaseCalculator = paperPhaseCalculator;
     }
 
     /**
@@ -79,14 +88,7 @@ public class TrackInformationService {
                                               Long conferenceID,
                                               Long trackID) throws ForbiddenAccessException,
             NotFoundException {
-        if (!usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)) {
-            throw new ForbiddenAccessException();
-        }
-        if (!tracksVerification.verifyTrack(conferenceID, trackID)) {
-            throw new NotFoundException(
-                    "Not Found. The requested track or conference was not found."
-            );
-        }
+        verifyChairOfExistingTrack(requesterID, conferenceID, trackID);
         var submissions = submissionsCommunicator.getSubmissionsInTrack(conferenceID, trackID, requesterID);
 
         final List<PaperSummaryWithID> papers = new ArrayList<>();
@@ -99,4 +101,61 @@ public class TrackInformationService {
         }
         return papers;
     }
+
+    /**
+     * Gets the current phase of every paper in a track. The permissions are checked once
+     * for the whole track, and the phases are calculated together.
+     *
+     * @param requesterID the ID of the requester
+     * @param conferenceID the ID of the conference
+     * @param trackID the ID of the track
+     * @return the phases of the papers, in the order the submissions microservice lists them
+     * @throws ForbiddenAccessException if the user is not a pc chair
+     * @throws NotFoundException if the track does not exist
+     */
+    public List<PaperPhaseWithID> getPaperPhases(Long requesterID,
+                                                 Long conferenceID,
+                                                 Long trackID) throws ForbiddenAccessException,
+            NotFoundException {
+        verifyChairOfExistingTrack(requesterID, conferenceID, trackID);
+        var submissions = submissionsCommunicator.getSubmissionsInTrack(conferenceID, trackID, requesterID);
+
+        List<Long> paperIDs = new ArrayList<>();
+        for (Submission submission : submissions) {
+            paperIDs.add(submission.getSubmissionId());
+        }
+        Map<Long, PaperPhase> phases = paperPhaseCalculator.getPaperPhases(
+                new TrackID(conferenceID, trackID),
+                paperIDs
+        );
+
+        final List<PaperPhaseWithID> result = new ArrayList<>();
+        for (Map.Entry<Long, PaperPhase> entry : phases.entrySet()) {
+            result.add(new PaperPhaseWithID(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the requester is a chair of the track, and that the track exists.
+     *
+     * @param requesterID the ID of the requester
+     * @param conferenceID the ID of the conference
+     * @param trackID the ID of the track
+     * @throws ForbiddenAccessException if the user is not a pc chair
+     * @throws NotFoundException if the track does not exist
+     */
+    private void verifyChairOfExistingTrack(Long requesterID,
+                                            Long conferenceID,
+                                            Long trackID) throws ForbiddenAccessException,
+            NotFoundException {
+        if (!usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)) {
+            throw new ForbiddenAccessException();
+        }
+        if (!tracksVerification.verifyTrack(conferenceID, trackID)) {
+            throw new NotFoundException(
+                    "Not Found. The requested track or conference was not found."
+            );
+        }
+    }
 }
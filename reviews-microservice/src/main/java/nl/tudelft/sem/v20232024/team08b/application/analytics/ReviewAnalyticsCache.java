@@ -0,0 +1,152 @@
+package nl.tudelft.sem.v20232024.team08b.application.analytics;
+
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the review analytics of the tracks, so that the reviews and bids of a track
+ * are not read again on every request. The analytics of a track are dropped whenever
+ * a review or a bid on one of its papers is written, and otherwise expire after a
+ * configurable time, which also covers papers newly submitted to the track.
+ */
+@Component
+public class ReviewAnalyticsCache {
+    private final ReviewAnalyticsCalculator calculator;
+    private final ExpiringLruCache<TrackID, TrackReviewAnalytics> analyticsCache;
+    // The track of every paper of a cached track, so that writes do not have to ask the
+    // Submissions microservice which track to invalidate. Both maps are only changed while
+    // the analytics cache is locked, so they hold the papers of exactly the cached tracks.
+    private final Map<Long, TrackID> tracksOfPapers = new ConcurrentHashMap<>();
+    private final Map<TrackID, List<Long>> papersOfTracks = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Default constructor.
+     *
+     * @param calculator calculates the analytics of a track
+     * @param timeToLiveMillis how long the analytics of a track are kept, in milliseconds
+     * @param maximumSize the maximum number of tracks whose analytics are kept
+     */
+    @Autowired
+    public ReviewAnalyticsCache(ReviewAnalyticsCalculator calculator,
+                                @Value("${tracks.analytics-cache.time-to-live-ms:60000}") long timeToLiveMillis,
+                                @Value("${tracks.analytics-cache.maximum-size:1000}") int maximumSize) {
+        this(calculator, new ExpiringLruCache<>(Duration.ofMillis(timeToLiveMillis), maximumSize));
+    }
+
+    /**
+     * Constructor used for testing purposes.
+     *
+     * @param calculator calculates the analytics of a track
+     * @param analyticsCache cache to store the analytics of the tracks in
+     */
+    public ReviewAnalyticsCache(ReviewAnalyticsCalculator calculator,
+                                ExpiringLruCache<TrackID, TrackReviewAnalytics> analyticsCache) {
+        this.calculator = calculator;
+        this.analyticsCache = analyticsCache;
+        analyticsCache.setRemovalListener(this::forgetPapers);
+    }
+
+    /**
+     * Gets the review analytics of a track, calculating them if they are not cached.
+     *
+     * @param trackID the ID of the track
+     * @param paperIDs the IDs of the papers of the track
+     * @return the analytics of the track
+     */
+    public TrackReviewAnalytics getAnalytics(TrackID trackID, List<Long> paperIDs) {
+        Optional<TrackReviewAnalytics> cached = analyticsCache.get(trackID);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long generation = invalidations.get();
+        TrackReviewAnalytics analytics = calculator.calculate(paperIDs);
+        synchronized (analyticsCache) {
+            forgetPapers(trackID);
+            papersOfTracks.put(trackID, List.copyOf(paperIDs));
+            for (Long paperID : paperIDs) {
+                tracksOfPapers.put(paperID, trackID);
+            }
+            analyticsCache.put(trackID, analytics);
+        }
+        // A write during the calculation may not be included in the analytics
+        if (invalidations.get() != generation) {
+            analyticsCache.invalidate(trackID);
+        }
+        return analytics;
+    }
+
+    /**
+     * Drops the analytics of a track.
+     *
+     * @param trackID the ID of the track
+     */
+    public void invalidateTrack(TrackID trackID) {
+        invalidations.incrementAndGet();
+        analyticsCache.invalidate(trackID);
+    }
+
+    /**
+     * Drops the analytics of the track a paper is in, after a review or a bid on
+     * the paper was written.
+     *
+     * @param paperID the ID of the paper
+     */
+    public void invalidatePaper(Long paperID) {
+        invalidations.incrementAndGet();
+        TrackID trackID = tracksOfPapers.get(paperID);
+        if (trackID != null) {
+            analyticsCache.invalidate(trackID);
+        }
+    }
+
+    /**
+     * Drops the analytics of the tracks the given papers are in.
+     *
+     * @param paperIDs the IDs of the papers
+     */
+    public void invalidatePapers(Collection<Long> paperIDs) {
+        for (Long paperID : paperIDs) {
+            invalidatePaper(paperID);
+        }
+    }
+
+    /**
+     * Gets the number of papers whose track is remembered. Used for testing purposes.
+     *
+     * @return the number of papers of the cached tracks
+     */
+    public int getPaperCount() {
+        return tracksOfPapers.size();
+    }
+
+    /**
+     * Forgets the papers of a track, once its analytics left the cache. Called while
+     * the analytics cache is locked.
+     *
+     * @param trackID the ID of the track
+     */
+    private void forgetPapers(TrackID trackID) {
+        List<Long> paperIDs = papersOfTracks.remove(trackID);
+        if (paperIDs == null) {
+            return;
+        }
+        for (Long paperID : paperIDs) {
+            tracksOfPapers.remove(paperID, trackID);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package nl.tudelft.sem.v20232024.team08b.application.analytics;
+
+import nl.tudelft.sem.v20232024.team08b.application.DiscussionService;
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
+import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperBidCoverage;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ReviewerWorkload;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperBidCount;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewScores;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Calculates the review analytics of a track. The scores of the reviews are read in a
+ * single pass over a stream ordered by paper, counting into primitive counters, so that
+ * no review entity is loaded. The bids are counted by the database.
+ */
+@Component
+public class ReviewAnalyticsCalculator {
+    private static final int ASSIGNED = 0;
+    private static final int SUBMITTED = 1;
+
+    private final ReviewRepository reviewRepository;
+    private final BidRepository bidRepository;
+
+    /**
+     * Default constructor.
+     *
+     * @param reviewRepository repository storing the reviews
+     * @param bidRepository repository storing the bids
+     */
+    @Autowired
+    public ReviewAnalyticsCalculator(ReviewRepository reviewRepository,
+                                     BidRepository bidRepository) {
+        this.reviewRepository = reviewRepository;
+        this.bidRepository = bidRepository;
+    }
+
+    /**
+     * Calculates the review analytics of the given papers of a track.
+     *
+     * @param paperIDs the IDs of the papers of the track
+     * @return the analytics of the papers
+     */
+    @Transactional(readOnly = true)
+    public TrackReviewAnalytics calculate(List<Long> paperIDs) {
+        Counters counters = new Counters();
+        if (!paperIDs.isEmpty()) {
+            try (Stream<PaperReviewScores> reviews = reviewRepository.streamScoresByPapers(paperIDs)) {
+                reviews.forEach(counters::add);
+            }
+            counters.endPaper();
+        }
+
+        return new TrackReviewAnalytics(
+                toHistogram(RecommendationScore.class, RecommendationScore.values(), counters.recommendations),
+                toHistogram(ConfidenceScore.class, ConfidenceScore.values(), counters.confidences),
+                toWorkloads(counters.workloads),
+                countBids(paperIDs),
+                counters.reviewedPapers,
+                counters.agreedPapers,
+                counters.reviewedPapers == 0 ? 0 : (double) counters.agreedPapers / counters.reviewedPapers
+        );
+    }
+
+    /**
+     * Counts the bids of every kind on every paper. Papers without bids are included
+     * with zero bids.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return the bid coverage of every paper, in the order of the given IDs
+     */
+    private List<PaperBidCoverage> countBids(List<Long> paperIDs) {
+        Map<Long, PaperBidCoverage> coverage = new LinkedHashMap<>();
+        for (Long paperID : paperIDs) {
+            coverage.put(paperID, new PaperBidCoverage(paperID, 0, 0, 0));
+        }
+        if (paperIDs.isEmpty()) {
+            return new ArrayList<>(coverage.values());
+        }
+        for (PaperBidCount count : bidRepository.countBidsPerPaper(paperIDs)) {
+            PaperBidCoverage paper = coverage.get(count.getPaperID());
+            int bids = count.getBids().intValue();
+            switch (count.getBid()) {
+                case CAN_REVIEW -> paper.setCanReview(bids);
+                case NEUTRAL -> paper.setNeutral(bids);
+                default -> paper.setNotReview(bids);
+            }
+        }
+        return new ArrayList<>(coverage.values());
+    }
+
+    private static <E extends Enum<E>> Map<E, Integer> toHistogram(Class<E> type, E[] values, int[] counts) {
+        Map<E, Integer> histogram = new EnumMap<>(type);
+        for (E value : values) {
+            histogram.put(value, counts[value.ordinal()]);
+        }
+        return histogram;
+    }
+
+    private static List<ReviewerWorkload> toWorkloads(Map<Long, int[]> workloads) {
+        List<ReviewerWorkload> result = new ArrayList<>(workloads.size());
+        for (Map.Entry<Long, int[]> entry : workloads.entrySet()) {
+            int[] workload = entry.getValue();
+            result.add(new ReviewerWorkload(entry.getKey(), workload[ASSIGNED], workload[SUBMITTED]));
+        }
+        return result;
+    }
+
+    /**
+     * The counters filled by the pass over the reviews. The reviews of a paper come one
+     * after another, so the counters of a paper are closed when the next paper starts.
+     */
+    private static class Counters {
+        private final int[] recommendations = new int[RecommendationScore.values().length];
+        private final int[] confidences = new int[ConfidenceScore.values().length];
+        // Sorted by the ID of the reviewer
+        private final Map<Long, int[]> workloads = new TreeMap<>();
+        private int reviewedPapers;
+        private int agreedPapers;
+
+        private Long paperID;
+        private int paperReviews;
+        private int paperSubmitted;
+        private int paperAccepting;
+
+        void add(PaperReviewScores review) {
+            if (!review.getPaperID().equals(paperID)) {
+                endPaper();
+                paperID = review.getPaperID();
+            }
+            int[] workload = workloads.computeIfAbsent(review.getReviewerID(), id -> new int[2]);
+            workload[ASSIGNED]++;
+            paperReviews++;
+
+            // A review is submitted once it has a confidence score
+            if (review.getConfidenceScore() == null) {
+                return;
+            }
+            workload[SUBMITTED]++;
+            paperSubmitted++;
+            confidences[review.getConfidenceScore().ordinal()]++;
+            if (review.getRecommendationScore() != null) {
+                recommendations[review.getRecommendationScore().ordinal()]++;
+            }
+            if (DiscussionService.isAccepting(review.getRecommendationScore())) {
+                paperAccepting++;
+            }
+        }
+
+        void endPaper() {
+            if (paperReviews > 0 && paperSubmitted == paperReviews) {
+                reviewedPapers++;
+                if (DiscussionService.isAgreed(paperAccepting, paperSubmitted - paperAccepting)) {
+                    agreedPapers++;
+                }
+            }
+            paperReviews = 0;
+            paperSubmitted = 0;
+            paperAccepting = 0;
+        }
+    }
+}
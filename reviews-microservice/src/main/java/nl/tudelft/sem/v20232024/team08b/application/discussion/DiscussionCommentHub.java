@@ -0,0 +1,246 @@
+package nl.tudelft.sem.v20232024.team08b.application.discussion;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import nl.tudelft.sem.v20232024.team08b.application.DiscussionService;
+import nl.tudelft.sem.v20232024.team08b.domain.Comment;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.DiscussionComment;
+import nl.tudelft.sem.v20232024.team08b.repos.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes new discussion comments to the users following the discussion of a review, over
+ * Server-Sent Events. Every subscriber has a bounded buffer, drained by a small pool of
+ * workers, so a slow client never blocks the user posting a comment. A subscriber whose
+ * buffer is full is disconnected; since every event carries the ID of its comment, the
+ * client can reconnect with the Last-Event-ID header and miss nothing.
+ */
+@Component
+public class DiscussionCommentHub {
+    public static final String EVENT_NAME = "comment";
+
+    private final CommentRepository commentRepository;
+    private final Executor discussionStreamExecutor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Map<ReviewID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param commentRepository repository storing the discussion comments
+     * @param discussionStreamExecutor the workers that send the events to the subscribers
+     * @param bufferSize the most comments waiting to be sent to a single subscriber
+     * @param timeoutMillis how long a stream stays open before the client has to reconnect
+     */
+    @Autowired
+    public DiscussionCommentHub(CommentRepository commentRepository,
+                                @Qualifier("discussionStreamExecutor") Executor discussionStreamExecutor,
+                                @Value("${discussion.stream.buffer-size:64}") int bufferSize,
+                                @Value("${discussion.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.commentRepository = commentRepository;
+        this.discussionStreamExecutor = discussionStreamExecutor;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Opens a stream of the comments posted on a review from now on.
+     *
+     * @param reviewID the ID of the review
+     * @param after the ID of the last comment the client already has. The comments posted
+     *              after it are sent first. Null to only send new comments
+     * @return the stream of the comments
+     * @throws IOException if the missed comments could not be sent
+     */
+    public SseEmitter subscribe(ReviewID reviewID, Long after) throws IOException {
+        return subscribe(reviewID, after, new SseEmitter(timeoutMillis));
+    }
+
+    /**
+     * Opens a stream of the comments posted on a review over the given emitter. The
+     * subscriber is registered before the missed comments are read, and holds back the
+     * new comments until those were sent, so that no comment is lost or sent twice.
+     *
+     * @param reviewID the ID of the review
+     * @param after the ID of the last comment the client already has, or null
+     * @param emitter the emitter to send the comments over
+     * @return the emitter
+     * @throws IOException if the missed comments could not be sent
+     */
+    public SseEmitter subscribe(ReviewID reviewID, Long after, SseEmitter emitter) throws IOException {
+        Subscriber subscriber = new Subscriber(reviewID, emitter, after == null ? 0L : after);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.computeIfAbsent(reviewID, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        if (after != null) {
+            try {
+                replay(subscriber);
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+                throw e;
+            }
+        }
+        subscriber.resume();
+        return emitter;
+    }
+
+    /**
+     * Sends a new comment to everyone following the discussion of its review.
+     *
+     * @param comment the comment that was just saved
+     */
+    public void publish(Comment comment) {
+        Set<Subscriber> following = subscribers.get(new ReviewID(comment.getPaperID(), comment.getReviewerID()));
+        if (following == null) {
+            return;
+        }
+        for (Subscriber subscriber : following) {
+            subscriber.offer(comment);
+        }
+    }
+
+    /**
+     * Gets the number of open streams on a review.
+     *
+     * @param reviewID the ID of the review
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount(ReviewID reviewID) {
+        return subscribers.getOrDefault(reviewID, Set.of()).size();
+    }
+
+    /**
+     * Sends the comments a subscriber missed, page by page.
+     *
+     * @param subscriber the subscriber that just connected
+     * @throws IOException if the comments could not be sent
+     */
+    private void replay(Subscriber subscriber) throws IOException {
+        ReviewID reviewID = subscriber.reviewID;
+        List<Comment> page;
+        do {
+            page = commentRepository.findPage(reviewID.getPaperID(), reviewID.getReviewerID(),
+                    subscriber.lastSentID, DiscussionService.MAX_COMMENTS_PER_PAGE);
+            for (Comment comment : page) {
+                subscriber.send(comment);
+            }
+        } while (page.size() == DiscussionService.MAX_COMMENTS_PER_PAGE);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.reviewID, (id, following) -> {
+            following.remove(subscriber);
+            return following.isEmpty() ? null : following;
+        });
+    }
+
+    /**
+     * A single open stream, with the comments still to be sent to it.
+     */
+    private class Subscriber {
+        private final ReviewID reviewID;
+        private final SseEmitter emitter;
+        private final Queue<Comment> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private long lastSentID;
+
+        Subscriber(ReviewID reviewID, SseEmitter emitter, long lastSentID) {
+            this.reviewID = reviewID;
+            this.emitter = emitter;
+            this.lastSentID = lastSentID;
+        }
+
+        void offer(Comment comment) {
+            if (!buffer.offer(comment)) {
+                close(new IllegalStateException("The subscriber can not keep up with the comments"));
+                return;
+            }
+            schedule();
+        }
+
+        /**
+         * Disconnects the subscriber, because it can not keep up or its connection failed.
+         *
+         * @param cause why it is disconnected
+         */
+        void close(Exception cause) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            unsubscribe(this);
+            buffer.clear();
+            emitter.completeWithError(cause);
+        }
+
+        /**
+         * Starts sending the buffered comments. Until then, the subscriber is draining
+         * the missed comments itself.
+         */
+        void resume() {
+            draining.set(false);
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed.get() || buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                discussionStreamExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close(e);
+            }
+        }
+
+        private void drain() {
+            try {
+                Comment comment = buffer.poll();
+                while (comment != null) {
+                    send(comment);
+                    comment = buffer.poll();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            } finally {
+                draining.set(false);
+            }
+            // A comment may have been offered after the last poll, but before draining was reset
+            schedule();
+        }
+
+        /**
+         * Sends a comment, unless it was already sent.
+         *
+         * @param comment the comment
+         * @throws IOException if the connection failed
+         */
+        void send(Comment comment) throws IOException {
+            if (comment.getId() <= lastSentID) {
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(comment.getId()))
+                    .name(EVENT_NAME)
+                    .data(new DiscussionComment(comment)));
+            lastSentID = comment.getId();
+        }
+    }
+}
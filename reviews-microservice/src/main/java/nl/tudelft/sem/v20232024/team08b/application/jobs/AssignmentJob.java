@@ -0,0 +1,184 @@
+package nl.tudelft.sem.v20232024.team08b.application.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrackStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.JobStatus;
+
+/**
+ * An automatic assignment over one or more tracks, whose tracks are assigned in parallel
+ * by different workers. Every track keeps its own progress, so a failing track does not
+ * affect the others. All the methods are synchronized, so the progress can be read while
+ * the workers update it.
+ */
+public class AssignmentJob {
+    private final Long jobID;
+    private final Long requesterID;
+    private final AssignmentStrategyType strategyType;
+    private final long submittedAt;
+    private final List<TrackProgress> tracks = new ArrayList<>();
+
+    /**
+     * Creates a job whose tracks are all pending.
+     *
+     * @param jobID the ID of the job
+     * @param requesterID the ID of the user that submitted the job
+     * @param trackIDs the tracks to assign the reviewers of
+     * @param strategyType the strategy to assign the reviewers with. The default strategy if null
+     * @param submittedAt the time the job was submitted, in milliseconds
+     */
+    public AssignmentJob(Long jobID, Long requesterID, List<TrackID> trackIDs,
+                         AssignmentStrategyType strategyType, long submittedAt) {
+        this.jobID = jobID;
+        this.requesterID = requesterID;
+        this.strategyType = strategyType;
+        this.submittedAt = submittedAt;
+        for (TrackID trackID : trackIDs) {
+            tracks.add(new TrackProgress(trackID));
+        }
+    }
+
+    public Long getJobID() {
+        return jobID;
+    }
+
+    public Long getRequesterID() {
+        return requesterID;
+    }
+
+    public AssignmentStrategyType getStrategyType() {
+        return strategyType;
+    }
+
+    public synchronized int getTrackCount() {
+        return tracks.size();
+    }
+
+    public synchronized TrackID getTrackID(int track) {
+        return tracks.get(track).trackID;
+    }
+
+    /**
+     * Marks a track as being assigned.
+     *
+     * @param track the index of the track in the job
+     * @param now the current time, in milliseconds
+     */
+    public synchronized void start(int track, long now) {
+        TrackProgress progress = tracks.get(track);
+        progress.status = JobStatus.RUNNING;
+        progress.startedAt = now;
+    }
+
+    /**
+     * Marks a track as assigned.
+     *
+     * @param track the index of the track in the job
+     * @param assignments the new reviews of the track
+     * @param now the current time, in milliseconds
+     */
+    public synchronized void succeed(int track, List<Review> assignments, long now) {
+        TrackProgress progress = finish(track, JobStatus.SUCCEEDED, now);
+        progress.reviewersAssigned = assignments.size();
+        progress.papersAssigned = (int) assignments.stream()
+                .map(review -> review.getReviewID().getPaperID())
+                .distinct()
+                .count();
+    }
+
+    /**
+     * Marks a track as failed. A track that never started counts as finished right away.
+     *
+     * @param track the index of the track in the job
+     * @param error why the track failed
+     * @param now the current time, in milliseconds
+     */
+    public synchronized void fail(int track, String error, long now) {
+        finish(track, JobStatus.FAILED, now).error = error;
+    }
+
+    /**
+     * Gets the progress of the job and of each of its tracks.
+     *
+     * @param now the current time, in milliseconds
+     * @return the progress of the job
+     */
+    public synchronized AssignmentJobStatus toStatus(long now) {
+        List<AssignmentJobTrackStatus> trackStatuses = new ArrayList<>();
+        int finished = 0;
+        int failed = 0;
+        int pending = 0;
+        int papers = 0;
+        int reviewers = 0;
+        long finishedAt = submittedAt;
+        for (TrackProgress progress : tracks) {
+            trackStatuses.add(progress.toStatus(now));
+            papers += progress.papersAssigned;
+            reviewers += progress.reviewersAssigned;
+            if (progress.isFinished()) {
+                finished++;
+                finishedAt = Math.max(finishedAt, progress.finishedAt);
+            }
+            if (progress.status == JobStatus.FAILED) {
+                failed++;
+            }
+            if (progress.status == JobStatus.PENDING) {
+                pending++;
+            }
+        }
+        boolean done = finished == tracks.size();
+        return new AssignmentJobStatus(jobID, statusOf(done, failed, pending), tracks.size(), finished,
+                papers, reviewers, (done ? finishedAt : now) - submittedAt, trackStatuses);
+    }
+
+    private JobStatus statusOf(boolean done, int failed, int pending) {
+        if (done) {
+            return failed > 0 ? JobStatus.FAILED : JobStatus.SUCCEEDED;
+        }
+        return pending == tracks.size() ? JobStatus.PENDING : JobStatus.RUNNING;
+    }
+
+    private TrackProgress finish(int track, JobStatus status, long now) {
+        TrackProgress progress = tracks.get(track);
+        if (progress.status == JobStatus.PENDING) {
+            progress.startedAt = now;
+        }
+        progress.status = status;
+        progress.finishedAt = now;
+        return progress;
+    }
+
+    /**
+     * The progress of one track of the job.
+     */
+    private static class TrackProgress {
+        private final TrackID trackID;
+        private JobStatus status = JobStatus.PENDING;
+        private long startedAt;
+        private long finishedAt;
+        private int papersAssigned;
+        private int reviewersAssigned;
+        private String error;
+
+        TrackProgress(TrackID trackID) {
+            this.trackID = trackID;
+        }
+
+        boolean isFinished() {
+            return status == JobStatus.SUCCEEDED || status == JobStatus.FAILED;
+        }
+
+        AssignmentJobTrackStatus toStatus(long now) {
+            long elapsed = 0;
+            if (status != JobStatus.PENDING) {
+                elapsed = (isFinished() ? finishedAt : now) - startedAt;
+            }
+            return new AssignmentJobTrackStatus(trackID.getConferenceID(), trackID.getTrackID(), status,
+                    papersAssigned, reviewersAssigned, elapsed, error);
+        }
+    }
+}
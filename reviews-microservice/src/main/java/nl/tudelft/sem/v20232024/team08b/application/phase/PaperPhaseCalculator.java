@@ -2,18 +2,23 @@ package nl.tudelft.sem.v20232024.team08b.application.phase;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
-import nl.tudelft.sem.v20232024.team08b.domain.Review;
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewCount;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 public class PaperPhaseCalculator {
@@ -65,14 +70,7 @@ public class PaperPhaseCalculator {
      * @return true, iff every reviewer has submitted a paper at least once
      */
     public boolean checkIfEveryReviewerHasSubmitted(Long paperID) {
-        List<Review> reviews = reviewRepository.findByReviewIDPaperID(paperID);
-
-        for (Review review : reviews) {
-            if (review.getConfidenceScore() == null) {
-                return false;
-            }
-        }
-        return true;
+        return !reviewRepository.existsByReviewIDPaperIDAndConfidenceScoreIsNull(paperID);
     }
 
     /**
@@ -94,6 +92,18 @@ public class PaperPhaseCalculator {
         return optional.get().getReviewsHaveBeenFinalized();
     }
 
+    /**
+     * Gets the track a paper is in.
+     *
+     * @param paperID the ID of the paper
+     * @return the ID of the track of the paper
+     * @throws NotFoundException if such paper does not exist
+     */
+    public TrackID getTrackOfPaper(Long paperID) throws NotFoundException {
+        var submission = submissionsCommunicator.getSubmission(paperID);
+        return new TrackID(submission.getEventId(), submission.getTrackId());
+    }
+
     /**
      * Calculates current phase of the paper.
      * The logic of calculation is the following:
@@ -115,7 +125,7 @@ public class PaperPhaseCalculator {
         Long conferenceID = submission.getEventId();
 
         // Check if the reviewers of the containing track have not yet been assigned
-        if (!checkIfReviewersAreAssignedToTrack(trackID, conferenceID)) {
+        if (!checkIfReviewersAreAssignedToTrack(conferenceID, trackID)) {
             return PaperPhase.BEFORE_REVIEW;
         }
 
@@ -131,4 +141,44 @@ public class PaperPhaseCalculator {
 
         return PaperPhase.REVIEWED;
     }
+
+    /**
+     * Calculates the phases of all the given papers of a track at once. It follows the
+     * same logic as getPaperPhase, but the track is looked up once, the reviews of all
+     * the papers are counted in one grouped query and the finalized papers are found
+     * in another one, instead of asking for every paper separately.
+     *
+     * @param trackID the ID of the track the papers are in
+     * @param paperIDs the IDs of the papers
+     * @return the phase of every paper, in the order of the given IDs
+     */
+    public Map<Long, PaperPhase> getPaperPhases(TrackID trackID, List<Long> paperIDs) {
+        Map<Long, PaperPhase> phases = new LinkedHashMap<>();
+        if (paperIDs.isEmpty()
+                || !checkIfReviewersAreAssignedToTrack(trackID.getConferenceID(), trackID.getTrackID())) {
+            for (Long paperID : paperIDs) {
+                phases.put(paperID, PaperPhase.BEFORE_REVIEW);
+            }
+            return phases;
+        }
+
+        Map<Long, PaperReviewCount> counts = new HashMap<>();
+        for (PaperReviewCount count : reviewRepository.countReviewsPerPaper(paperIDs)) {
+            counts.put(count.getPaperID(), count);
+        }
+        Set<Long> finalized = new HashSet<>(paperRepository.findFinalizedPaperIDs(paperIDs));
+
+        for (Long paperID : paperIDs) {
+            PaperReviewCount count = counts.get(paperID);
+            // A paper without reviews has no review left to submit, like in getPaperPhase
+            if (count != null && !count.getSubmitted().equals(count.getReviews())) {
+                phases.put(paperID, PaperPhase.IN_REVIEW);
+            } else if (!finalized.contains(paperID)) {
+                phases.put(paperID, PaperPhase.IN_DISCUSSION);
+            } else {
+                phases.put(paperID, PaperPhase.REVIEWED);
+            }
+        }
+        return phases;
+    }
 }
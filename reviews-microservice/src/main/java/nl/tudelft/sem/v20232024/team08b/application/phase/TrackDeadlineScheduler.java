@@ -0,0 +1,201 @@
+package nl.tudelft.sem.v20232024.team08b.application.phase;
+
+import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicroservice;
+import nl.tudelft.sem.v20232024.team08b.domain.Track;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires when the submission or bidding deadline of a track passes. The phase of
+ * the track is then calculated again, so the cached phase is already up to date
+ * for the next request, and a TrackPhaseChangedEvent is published.
+ *
+ * <p>The deadlines wait in the delay queue of the trackDeadlineExecutor. They are
+ * kept only in memory, so on startup they are scheduled again from the tracks
+ * whose bidding has not closed yet.
+ */
+@Component
+public class TrackDeadlineScheduler {
+    private final TrackRepository trackRepository;
+    private final CommunicationWithUsersMicroservice usersCommunicator;
+    private final TrackPhaseCalculator trackPhaseCalculator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService executor;
+    private final Map<TrackID, PendingDeadline> submissionDeadlines = new HashMap<>();
+    private final Map<TrackID, PendingDeadline> biddingDeadlines = new HashMap<>();
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Default constructor.
+     *
+     * @param trackRepository repository storing the tracks
+     * @param usersCommunicator class that talks with users microservice
+     * @param trackPhaseCalculator calculates and caches the phases of the tracks
+     * @param eventPublisher publishes the changes of phase
+     * @param executor the executor the deadlines wait in
+     */
+    @Autowired
+    public TrackDeadlineScheduler(TrackRepository trackRepository,
+                                  CommunicationWithUsersMicroservice usersCommunicator,
+                                  TrackPhaseCalculator trackPhaseCalculator,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Qualifier("trackDeadlineExecutor") ScheduledExecutorService executor) {
+        this.trackRepository = trackRepository;
+        this.usersCommunicator = usersCommunicator;
+        this.trackPhaseCalculator = trackPhaseCalculator;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+    }
+
+    /**
+     * A setter for clock, so that we can inject it during testing.
+     *
+     * @param clock clock object
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules the deadlines of all the tracks whose bidding has not closed yet. The
+     * bidding deadlines are stored locally, and the submission deadlines are asked from
+     * the Users microservice without waiting for the answers.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        for (Track track : trackRepository.findByBiddingDeadlineAfter(new Date(clock.millis()))) {
+            TrackID trackID = track.getTrackID();
+            scheduleBiddingDeadline(trackID, track.getBiddingDeadline());
+            usersCommunicator.getTrackAsync(trackID.getConferenceID(), trackID.getTrackID())
+                    .thenAccept(external -> {
+                        if (external != null && external.getDeadline() != null) {
+                            scheduleSubmissionDeadline(trackID, external.getDeadline());
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Schedules the end of the submitting phase of a track, replacing the one scheduled before.
+     *
+     * @param trackID the ID of the track
+     * @param deadline the submission deadline, as a UNIX timestamp in milliseconds
+     */
+    public void scheduleSubmissionDeadline(TrackID trackID, long deadline) {
+        schedule(submissionDeadlines, trackID, deadline);
+    }
+
+    /**
+     * Schedules the end of the bidding phase of a track, replacing the one scheduled before.
+     *
+     * @param trackID the ID of the track
+     * @param deadline the bidding deadline. Nothing is scheduled if it is null
+     */
+    public void scheduleBiddingDeadline(TrackID trackID, Date deadline) {
+        if (deadline == null) {
+            cancel(biddingDeadlines, trackID);
+            return;
+        }
+        schedule(biddingDeadlines, trackID, deadline.getTime());
+    }
+
+    /**
+     * Gets the number of deadlines that have not passed yet.
+     *
+     * @return the number of scheduled deadlines
+     */
+    public synchronized int getScheduledCount() {
+        return submissionDeadlines.size() + biddingDeadlines.size();
+    }
+
+    /**
+     * Schedules a deadline of a track. A deadline that already passed is not scheduled,
+     * since the phase it ends is over.
+     *
+     * @param deadlines the pending deadlines of this kind
+     * @param trackID the ID of the track
+     * @param deadline the deadline, as a UNIX timestamp in milliseconds
+     */
+    private synchronized void schedule(Map<TrackID, PendingDeadline> deadlines, TrackID trackID, long deadline) {
+        cancel(deadlines, trackID);
+        // The phase changes once the current time is after the deadline
+        long delay = deadline + 1 - clock.millis();
+        if (delay <= 0) {
+            return;
+        }
+        PendingDeadline pending = new PendingDeadline(deadlines, trackID);
+        try {
+            pending.future = executor.schedule(pending, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The executor is shutting down. The cached phase still expires at the deadline.
+            return;
+        }
+        deadlines.put(trackID, pending);
+    }
+
+    private synchronized void cancel(Map<TrackID, PendingDeadline> deadlines, TrackID trackID) {
+        PendingDeadline previous = deadlines.remove(trackID);
+        if (previous != null) {
+            previous.future.cancel(false);
+        }
+    }
+
+    private synchronized void complete(PendingDeadline pending) {
+        pending.deadlines.remove(pending.trackID, pending);
+    }
+
+    /**
+     * Calculates the phase of a track right after one of its deadlines passed, and
+     * publishes it.
+     *
+     * @param trackID the ID of the track
+     */
+    private void fire(TrackID trackID) {
+        trackPhaseCalculator.invalidateTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+        TrackPhase phase;
+        try {
+            phase = trackPhaseCalculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+        } catch (Exception e) {
+            // The phase will be calculated by the next request instead
+            return;
+        }
+        eventPublisher.publishEvent(new TrackPhaseChangedEvent(trackID, phase));
+    }
+
+    /**
+     * A deadline waiting in the executor. It is only removed from the pending deadlines
+     * if it was not replaced by a newer deadline of the same track in the meantime.
+     */
+    private final class PendingDeadline implements Runnable {
+        private final Map<TrackID, PendingDeadline> deadlines;
+        private final TrackID trackID;
+        private ScheduledFuture<?> future;
+
+        PendingDeadline(Map<TrackID, PendingDeadline> deadlines, TrackID trackID) {
+            this.deadlines = deadlines;
+            this.trackID = trackID;
+        }
+
+        @Override
+        public void run() {
+            complete(this);
+            fire(trackID);
+        }
+    }
+}
@@ -2,42 +2,66 @@ package nl.tudelft.sem.v20232024.team08b.application.phase;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicroservice;
-import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class TrackPhaseCalculator {
     private final TrackRepository trackRepository;
     private final CommunicationWithUsersMicroservice usersCommunicator;
     private final PaperPhaseCalculator paperPhaseCalculator;
+    private final long timeToLiveMillis;
+    private final Map<TrackID, CachedPhase> phaseCache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
     private Clock clock;
+
     /**
      * Default constructor for the phase calculator.
      *
      * @param trackRepository repository storing the tracks
      * @param usersCommunicator class that talks with users microservice
      * @param paperPhaseCalculator object that calculates phase of the paper
+     * @param timeToLiveMillis the longest time a calculated phase is kept, in milliseconds.
+     *                         0 means the phase is calculated on every call
      */
     @Autowired
     public TrackPhaseCalculator(TrackRepository trackRepository,
                                 CommunicationWithUsersMicroservice usersCommunicator,
-                                PaperPhaseCalculator paperPhaseCalculator) {
+                                PaperPhaseCalculator paperPhaseCalculator,
+                                @Value("${tracks.phase-cache.time-to-live-ms:60000}") long timeToLiveMillis) {
         this.trackRepository = trackRepository;
         this.usersCommunicator = usersCommunicator;
         this.paperPhaseCalculator = paperPhaseCalculator;
+        this.timeToLiveMillis = timeToLiveMillis;
         clock = Clock.systemUTC();
     }
 
+    /**
+     * Constructor used for testing purposes. The phases are not cached.
+     *
+     * @param trackRepository repository storing the tracks
+     * @param usersCommunicator class that talks with users microservice
+     * @param paperPhaseCalculator object that calculates phase of the paper
+     */
+    public TrackPhaseCalculator(TrackRepository trackRepository,
+                                CommunicationWithUsersMicroservice usersCommunicator,
+                                PaperPhaseCalculator paperPhaseCalculator) {
+        this(trackRepository, usersCommunicator, paperPhaseCalculator, 0);
+    }
+
     /**
      * A setter for clock, so that we can inject it during testing.
      *
@@ -70,7 +94,9 @@ public class TrackPhaseCalculator {
     }
 
     /**
-     * Checks if all papers in a given track have been finalized.
+     * Checks if all papers in a given track have been finalized. If the track keeps
+     * progress counters, they are compared, otherwise the phase of every paper
+     * is calculated.
      *
      * @param conferenceID the ID of the conference the track is in
      * @param trackID the ID of the track
@@ -91,14 +117,18 @@ public class TrackPhaseCalculator {
             return false;
         }
 
-        // Get the papers of the track
-        List<Paper> papers = trackOptional.get().getPapers();
+        Track track = trackOptional.get();
+        if (track.getTotalPapers() != null && track.getFinalizedPapers() != null) {
+            return track.getFinalizedPapers() >= track.getTotalPapers();
+        }
+
+        // Get the papers of the track. Only their IDs are read, since the papers of the
+        // track are not loaded when the track is, and there might be no session open anymore
+        List<Long> paperIDs = trackRepository.findPaperIDs(track.getTrackID());
 
         // Check if all the papers are finalized
         boolean ret = true;
-        for (var paper : papers) {
-            Long paperID = paper.getId();
-
+        for (Long paperID : paperIDs) {
             // We could also use paper.reviewsHaveBeenFinalized flag, instead of calling the
             // getPaperPhase method. But calling the method gives less space for bugs to appear,
             // since it performs many additional checks.
@@ -107,6 +137,65 @@ public class TrackPhaseCalculator {
         return ret;
     }
 
+    /**
+     * Gets the current phase of a track. The phase is kept in memory once calculated,
+     * until the next deadline of the track passes, the phase is invalidated by a change
+     * that can move the track to another phase, or the time to live runs out. The time
+     * to live covers the changes we are not told about, such as a new submission deadline
+     * in the Users microservice.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     * @return the current phase of the track
+     * @throws NotFoundException if such track does not exist
+     */
+    public TrackPhase getTrackPhase(Long conferenceID,
+                                    Long trackID) throws NotFoundException {
+        long currentTime = clock.instant().toEpochMilli();
+        if (timeToLiveMillis <= 0) {
+            return calculateTrackPhase(conferenceID, trackID, currentTime).phase;
+        }
+
+        TrackID id = new TrackID(conferenceID, trackID);
+        CachedPhase cached = phaseCache.get(id);
+        if (cached != null && currentTime < cached.expiresAt) {
+            return cached.phase;
+        }
+
+        long generation = invalidations.get();
+        CachedPhase calculated = calculateTrackPhase(conferenceID, trackID, currentTime);
+        phaseCache.put(id, calculated);
+        // If the track was invalidated while we were calculating, the phase might
+        // have been calculated from the old state, so it must not stay in the cache
+        if (invalidations.get() != generation) {
+            phaseCache.remove(id, calculated);
+        }
+        return calculated.phase;
+    }
+
+    /**
+     * Drops the cached phase of a track. Called after every change that can move
+     * the track to another phase.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     */
+    public void invalidateTrackPhase(Long conferenceID, Long trackID) {
+        invalidations.incrementAndGet();
+        phaseCache.remove(new TrackID(conferenceID, trackID));
+    }
+
+    /**
+     * Drops the cached phase of the track a paper is in.
+     *
+     * @param paperID the ID of the paper
+     * @throws NotFoundException if such paper does not exist
+     */
+    public void invalidateTrackPhaseOfPaper(Long paperID) throws NotFoundException {
+        TrackID id = paperPhaseCalculator.getTrackOfPaper(paperID);
+        invalidateTrackPhase(id.getConferenceID(), id.getTrackID());
+    }
+
     /**
      * Calculates the current phase of a track.
      * The logic of calculation is the following:
@@ -115,47 +204,61 @@ public class TrackPhaseCalculator {
      * - else, if the reviewers have not yet been assigned to papers -> ASSIGNING
      * - else, if all papers of the track have not been finalized -> REVIEWING
      * - finally, if all papers have been finalized -> FINAL
+     * The phase stays valid until the deadline that ends it, if there is one.
      *
      * @param conferenceID the ID of the conference the track is in
      * @param trackID the ID of the track
-     * @return the current phase of the track
+     * @param currentTime the current time, as a UNIX timestamp in milliseconds
+     * @return the current phase of the track and until when it is valid
      */
-    public TrackPhase getTrackPhase(Long conferenceID,
-                                    Long trackID) throws NotFoundException {
+    private CachedPhase calculateTrackPhase(Long conferenceID,
+                                            Long trackID,
+                                            long currentTime) throws NotFoundException {
 
         // Get the track from external repository. Such track should always
         // exist, since we verified, so the following line will not throw.
         nl.tudelft.sem.v20232024.team08b.dtos.users.Track track =
                 usersCommunicator.getTrack(conferenceID, trackID);
-
-        // Get the current timestamp
-        long currentTime = clock.instant().toEpochMilli();
+        long expiresAt = currentTime + timeToLiveMillis;
 
         // Check if submission deadline has not yet passed
         Long submissionDeadline = track.getDeadline();
         if (currentTime <= submissionDeadline) {
-            return TrackPhase.SUBMITTING;
+            return new CachedPhase(TrackPhase.SUBMITTING, Math.min(expiresAt, submissionDeadline + 1));
         }
 
         // Get the bidding deadline
         Long biddingDeadline = getBiddingDeadlineAsLong(conferenceID, trackID);
-        if (biddingDeadline == null || currentTime <= biddingDeadline) {
-            return TrackPhase.BIDDING;
+        if (biddingDeadline == null) {
+            return new CachedPhase(TrackPhase.BIDDING, expiresAt);
+        }
+        if (currentTime <= biddingDeadline) {
+            return new CachedPhase(TrackPhase.BIDDING, Math.min(expiresAt, biddingDeadline + 1));
         }
 
         // Check if the reviewers haven't yet been assigned
         boolean reviewersAssigned = paperPhaseCalculator
                 .checkIfReviewersAreAssignedToTrack(conferenceID, trackID);
         if (!reviewersAssigned) {
-            return TrackPhase.ASSIGNING;
+            return new CachedPhase(TrackPhase.ASSIGNING, expiresAt);
         }
 
         // Check if all papers in a track have been finalized
         boolean allPapersFinalized = checkIfAllPapersFinalized(conferenceID, trackID);
         if (!allPapersFinalized) {
-            return TrackPhase.REVIEWING;
+            return new CachedPhase(TrackPhase.REVIEWING, expiresAt);
         }
 
-        return TrackPhase.FINAL;
+        return new CachedPhase(TrackPhase.FINAL, expiresAt);
+    }
+
+    private static class CachedPhase {
+        private final TrackPhase phase;
+        private final long expiresAt;
+
+        CachedPhase(TrackPhase phase, long expiresAt) {
+            this.phase = phase;
+            this.expiresAt = expiresAt;
+        }
     }
 }
@@ -0,0 +1,18 @@
+package nl.tudelft.sem.v20232024.team08b.application.phase;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+
+/**
+ * Published when a deadline of a track passes, with the phase the track is in
+ * right after it. Components that need to act when a phase starts, e.g. when
+ * the bidding closes, can listen to it with an @EventListener.
+ */
+@Data
+@AllArgsConstructor
+public class TrackPhaseChangedEvent {
+    private TrackID trackID;
+    private TrackPhase phase;
+}
@@ -0,0 +1,58 @@
+package nl.tudelft.sem.v20232024.team08b.application.phase;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the progress counters of the tracks up to date, in the same transaction as
+ * the write that changes the progress. With the counters, whether all the papers of
+ * a track are finalized is a comparison of two numbers, instead of calculating the
+ * phase of every paper in the track.
+ */
+@Component
+public class TrackProgress {
+    private final TrackRepository trackRepository;
+    private final PaperRepository paperRepository;
+    private final PaperPhaseCalculator paperPhaseCalculator;
+
+    /**
+     * Default constructor.
+     *
+     * @param trackRepository repository storing the tracks
+     * @param paperRepository repository storing the papers
+     * @param paperPhaseCalculator finds the track of a paper
+     */
+    @Autowired
+    public TrackProgress(TrackRepository trackRepository,
+                         PaperRepository paperRepository,
+                         PaperPhaseCalculator paperPhaseCalculator) {
+        this.trackRepository = trackRepository;
+        this.paperRepository = paperRepository;
+        this.paperPhaseCalculator = paperPhaseCalculator;
+    }
+
+    /**
+     * Finalizes the reviews of a paper and counts it in the finalized papers of its track.
+     * A paper that was already finalized keeps its status and is not counted again.
+     *
+     * @param paperID the ID of the paper
+     * @param status the status the paper gets
+     * @return whether the paper was finalized by this call
+     * @throws NotFoundException if such paper does not exist
+     */
+    @Transactional
+    public boolean finalizePaper(Long paperID, PaperStatus status) throws NotFoundException {
+        TrackID trackID = paperPhaseCalculator.getTrackOfPaper(paperID);
+        if (paperRepository.finalizeReviews(paperID, status) == 0) {
+            return false;
+        }
+        trackRepository.incrementFinalizedPapers(trackID);
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ProposedAssignment;
+
+/**
+ * Measures the quality of an assignment proposed by a strategy, against the snapshot
+ * it was computed from, without saving anything.
+ */
+public class AssignmentEvaluator {
+    /**
+     * Evaluates the assignment a strategy proposed for a track.
+     *
+     * @param strategyType the strategy that proposed the assignment
+     * @param snapshot the snapshot the assignment was computed from
+     * @param proposals the new reviews proposed by the strategy
+     * @return the proposed assignment and its quality
+     */
+    public AssignmentSimulation evaluate(AssignmentStrategyType strategyType,
+                                         AssignmentSnapshot snapshot,
+                                         List<Review> proposals) {
+        List<ProposedAssignment> assignments = new ArrayList<>();
+        Map<Long, Integer> newReviewers = new HashMap<>();
+        Map<Long, Integer> loads = reviewerLoads(snapshot);
+        int canReview = 0;
+        for (Review proposal : proposals) {
+            Long paperID = proposal.getReviewID().getPaperID();
+            Long reviewerID = proposal.getReviewID().getReviewerID();
+            assignments.add(new ProposedAssignment(paperID, reviewerID));
+            newReviewers.merge(paperID, 1, Integer::sum);
+            loads.merge(reviewerID, 1, Integer::sum);
+            if (bidOf(snapshot, paperID, reviewerID) == nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW) {
+                canReview++;
+            }
+        }
+
+        List<Long> unassignedPapers = new ArrayList<>();
+        for (Long paperID : snapshot.getPaperIDs()) {
+            if (snapshot.getNeededReviewers(paperID) > newReviewers.getOrDefault(paperID, 0)) {
+                unassignedPapers.add(paperID);
+            }
+        }
+        double canReviewFraction = proposals.isEmpty() ? 0 : (double) canReview / proposals.size();
+        return new AssignmentSimulation(strategyType, assignments, variance(loads.values()),
+                canReviewFraction, unassignedPapers, null);
+    }
+
+    /**
+     * Gets the current load of every reviewer that bid on a paper of the track or
+     * already reviews one, so that reviewers left without papers also count.
+     *
+     * @param snapshot the snapshot of the track
+     * @return the number of papers of the track of every reviewer
+     */
+    private Map<Long, Integer> reviewerLoads(AssignmentSnapshot snapshot) {
+        Map<Long, Integer> loads = snapshot.getLoads();
+        for (Long paperID : snapshot.getPaperIDs()) {
+            for (Bid bid : snapshot.getBids(paperID)) {
+                loads.putIfAbsent(bid.getBidderID(), 0);
+            }
+        }
+        return loads;
+    }
+
+    private nl.tudelft.sem.v20232024.team08b.dtos.review.Bid bidOf(AssignmentSnapshot snapshot,
+                                                                  Long paperID, Long reviewerID) {
+        for (Bid bid : snapshot.getBids(paperID)) {
+            if (bid.getBidderID().equals(reviewerID)) {
+                return bid.getBid();
+            }
+        }
+        return null;
+    }
+
+    private double variance(Iterable<Integer> loads) {
+        long count = 0;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int load : loads) {
+            count++;
+            sum += load;
+            sumOfSquares += (double) load * load;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        double mean = sum / count;
+        return sumOfSquares / count - mean * mean;
+    }
+}
@@ -0,0 +1,137 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.User;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewerLoad;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds replacement reviewers for papers that lost some of their reviewers, without
+ * running the automatic assignment of the whole track again. Only the bids and reviews
+ * of the affected papers are loaded, together with the load in the track of the
+ * reviewers that bid on them, and the default strategy picks the replacements from
+ * that partial snapshot.
+ */
+@Component
+public class AssignmentRepairer {
+    private final BidRepository bidRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommunicationWithSubmissionMicroservice submissionsCommunicator;
+    private final AutomaticAssignmentStrategy automaticAssignmentStrategy;
+
+    /**
+     * Default constructor.
+     *
+     * @param bidRepository repository storing the bids
+     * @param reviewRepository repository storing the reviews
+     * @param submissionsCommunicator class, that talks to submissions microservice
+     * @param automaticAssignmentStrategy the strategy that picks the replacements
+     */
+    @Autowired
+    public AssignmentRepairer(BidRepository bidRepository,
+                              ReviewRepository reviewRepository,
+                              CommunicationWithSubmissionMicroservice submissionsCommunicator,
+                              AutomaticAssignmentStrategy automaticAssignmentStrategy) {
+        this.bidRepository = bidRepository;
+        this.reviewRepository = reviewRepository;
+        this.submissionsCommunicator = submissionsCommunicator;
+        this.automaticAssignmentStrategy = automaticAssignmentStrategy;
+    }
+
+    /**
+     * Assigns new reviewers to the given papers until they have enough again. A reviewer
+     * removed from a paper is never given that paper back. Papers nobody else bid on are
+     * left as they are.
+     *
+     * @param trackID the ID of the track of the papers, to count the load of the reviewers
+     * @param removedReviewers the reviewers removed from the affected papers, indexed by paper ID
+     * @return the new reviews that were saved
+     * @throws NotFoundException if one of the papers does not exist in the Submissions microservice
+     */
+    public List<Review> repair(TrackID trackID, Map<Long, Set<Long>> removedReviewers) throws NotFoundException {
+        Map<Long, Set<Long>> reviewersByPaper = new HashMap<>();
+        for (Review review : reviewRepository.findByReviewIDPaperIDIn(removedReviewers.keySet())) {
+            reviewersByPaper.computeIfAbsent(review.getReviewID().getPaperID(), id -> new LinkedHashSet<>())
+                    .add(review.getReviewID().getReviewerID());
+        }
+        List<Long> understaffed = new ArrayList<>(removedReviewers.keySet());
+        understaffed.removeIf(paperID ->
+                reviewersByPaper.getOrDefault(paperID, Set.of()).size() >= AssignmentSnapshot.REVIEWERS_PER_PAPER);
+        if (understaffed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Bid>> bidsByPaper = new HashMap<>();
+        Set<Long> bidders = new HashSet<>();
+        for (Bid bid : bidRepository.findByPaperIDIn(understaffed)) {
+            bidsByPaper.computeIfAbsent(bid.getPaperID(), id -> new ArrayList<>()).add(bid);
+            bidders.add(bid.getBidderID());
+        }
+        // Papers nobody bid on can not be repaired, and would make the strategy give up on the others
+        understaffed.removeIf(paperID -> !bidsByPaper.containsKey(paperID));
+        if (understaffed.isEmpty()) {
+            return List.of();
+        }
+
+        AssignmentSnapshot snapshot = new AssignmentSnapshot(trackID, understaffed, bidsByPaper, reviewersByPaper,
+                loadConflicts(understaffed, removedReviewers), loadReviewerLoads(bidders, trackID));
+        List<Review> replacements = automaticAssignmentStrategy.proposeAssignments(snapshot);
+        reviewRepository.insertAll(replacements);
+        return replacements;
+    }
+
+    /**
+     * Loads the number of papers of the track each bidder already reviews, with a single
+     * grouped query over the reviews of the bidders only.
+     *
+     * @param bidders the IDs of the reviewers that bid on the affected papers
+     * @param trackID the ID of the track
+     * @return the load of every bidder with at least one paper in the track
+     */
+    private Map<Long, Integer> loadReviewerLoads(Set<Long> bidders, TrackID trackID) {
+        Map<Long, Integer> loads = new HashMap<>();
+        for (ReviewerLoad load : reviewRepository.countPapersPerReviewer(bidders, trackID)) {
+            loads.put(load.getReviewerID(), load.getPapers().intValue());
+        }
+        return loads;
+    }
+
+    /**
+     * Loads the conflicts of interest of the affected papers. The reviewers removed from
+     * a paper count as a conflict, so that they are not assigned to it again.
+     *
+     * @param paperIDs the IDs of the affected papers
+     * @param removedReviewers the reviewers removed from the affected papers, indexed by paper ID
+     * @return the IDs of the users that may not review each paper, indexed by paper ID
+     * @throws NotFoundException if one of the papers does not exist in the Submissions microservice
+     */
+    private Map<Long, Set<Long>> loadConflicts(List<Long> paperIDs, Map<Long, Set<Long>> removedReviewers)
+            throws NotFoundException {
+        Map<Long, Set<Long>> conflictsByPaper = new HashMap<>();
+        Map<Long, Submission> submissions = submissionsCommunicator.getSubmissions(paperIDs);
+        for (Long paperID : paperIDs) {
+            Set<Long> conflicts = new HashSet<>(removedReviewers.get(paperID));
+            Submission submission = submissions.get(paperID);
+            if (submission != null && submission.getConflictsOfInterest() != null) {
+                submission.getConflictsOfInterest().stream().map(User::getUserId).forEach(conflicts::add);
+            }
+            conflictsByPaper.put(paperID, conflicts);
+        }
+        return conflictsByPaper;
+    }
+}
@@ -0,0 +1,110 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+
+/**
+ * Everything an automatic assignment needs to know about a track, loaded once
+ * before the assignment starts: the papers, the bids on them, the reviewers
+ * already assigned to them, the conflicts of interest and the number of papers
+ * of the track each reviewer already reviews. The snapshot is never modified,
+ * so several assignments can be computed from the same snapshot.
+ */
+public class AssignmentSnapshot {
+    public static final int REVIEWERS_PER_PAPER = 3;
+
+    private final TrackID trackID;
+    private final List<Long> paperIDs;
+    private final Map<Long, List<Bid>> bidsByPaper;
+    private final Map<Long, Set<Long>> reviewersByPaper;
+    private final Map<Long, Set<Long>> conflictsByPaper;
+    private final Map<Long, Integer> loadByReviewer;
+
+    /**
+     * Creates a snapshot of a track.
+     *
+     * @param trackID the ID of the track
+     * @param paperIDs the IDs of the papers in the track
+     * @param bidsByPaper the bids on the papers, indexed by paper ID
+     * @param reviewersByPaper the reviewers already assigned to the papers, indexed by paper ID
+     * @param conflictsByPaper the users with a conflict of interest, indexed by paper ID
+     * @param loadByReviewer the number of papers of the track each reviewer already reviews
+     */
+    public AssignmentSnapshot(TrackID trackID,
+                              List<Long> paperIDs,
+                              Map<Long, List<Bid>> bidsByPaper,
+                              Map<Long, Set<Long>> reviewersByPaper,
+                              Map<Long, Set<Long>> conflictsByPaper,
+                              Map<Long, Integer> loadByReviewer) {
+        this.trackID = trackID;
+        this.paperIDs = List.copyOf(paperIDs);
+        this.bidsByPaper = bidsByPaper;
+        this.reviewersByPaper = reviewersByPaper;
+        this.conflictsByPaper = conflictsByPaper;
+        this.loadByReviewer = loadByReviewer;
+    }
+
+    public TrackID getTrackID() {
+        return trackID;
+    }
+
+    public List<Long> getPaperIDs() {
+        return paperIDs;
+    }
+
+    /**
+     * Gets the bids on a paper.
+     *
+     * @param paperID the ID of the paper
+     * @return the bids on the paper, in the order they were loaded. Empty if there are none
+     */
+    public List<Bid> getBids(Long paperID) {
+        return Collections.unmodifiableList(bidsByPaper.getOrDefault(paperID, List.of()));
+    }
+
+    /**
+     * Gets the reviewers that were already assigned to a paper.
+     *
+     * @param paperID the ID of the paper
+     * @return the IDs of the assigned reviewers. Empty if there are none
+     */
+    public Set<Long> getReviewers(Long paperID) {
+        return Collections.unmodifiableSet(reviewersByPaper.getOrDefault(paperID, Set.of()));
+    }
+
+    /**
+     * Gets the number of reviewers a paper still needs.
+     *
+     * @param paperID the ID of the paper
+     * @return the number of reviewers missing to reach REVIEWERS_PER_PAPER. Zero if there are enough
+     */
+    public int getNeededReviewers(Long paperID) {
+        return Math.max(0, REVIEWERS_PER_PAPER - getReviewers(paperID).size());
+    }
+
+    /**
+     * Checks whether a user has a conflict of interest with a paper.
+     *
+     * @param paperID the ID of the paper
+     * @param userID the ID of the user
+     * @return whether the user may not review the paper
+     */
+    public boolean hasConflict(Long paperID, Long userID) {
+        return conflictsByPaper.getOrDefault(paperID, Set.of()).contains(userID);
+    }
+
+    /**
+     * Gets the number of papers of the track each reviewer already reviews.
+     * The returned map is a copy, so an assignment can update it as it goes.
+     *
+     * @return the load of every reviewer with at least one paper in the track
+     */
+    public Map<Long, Integer> getLoads() {
+        return new HashMap<>(loadByReviewer);
+    }
+}
@@ -0,0 +1,98 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.User;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssignmentSnapshotLoader {
+    private final BidRepository bidRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommunicationWithSubmissionMicroservice submissionsCommunicator;
+
+    /**
+     * Default constructor.
+     *
+     * @param bidRepository repository storing the bids
+     * @param reviewRepository repository storing the reviews
+     * @param submissionsCommunicator class, that talks to submissions microservice
+     */
+    @Autowired
+    public AssignmentSnapshotLoader(BidRepository bidRepository,
+                                    ReviewRepository reviewRepository,
+                                    CommunicationWithSubmissionMicroservice submissionsCommunicator) {
+        this.bidRepository = bidRepository;
+        this.reviewRepository = reviewRepository;
+        this.submissionsCommunicator = submissionsCommunicator;
+    }
+
+    /**
+     * Loads the snapshot of a track with one query for the bids and one for the
+     * reviews of all its papers. Since only the reviews of the papers of the track
+     * are loaded, the load of a reviewer is the number of papers of this track
+     * they review, without asking the Submissions microservice for each paper.
+     * The conflicts of interest come from a single listing of the track.
+     *
+     * @param trackID the ID of the track
+     * @param paperIDs the IDs of the papers in the track
+     * @return the snapshot of the track
+     * @throws NotFoundException if the track does not exist in the Submissions microservice
+     */
+    public AssignmentSnapshot load(TrackID trackID, List<Long> paperIDs) throws NotFoundException {
+        Map<Long, List<Bid>> bidsByPaper = new HashMap<>();
+        Map<Long, Set<Long>> reviewersByPaper = new HashMap<>();
+        Map<Long, Integer> loadByReviewer = new HashMap<>();
+        if (paperIDs.isEmpty()) {
+            return new AssignmentSnapshot(trackID, paperIDs, bidsByPaper, reviewersByPaper, Map.of(), loadByReviewer);
+        }
+
+        for (Bid bid : bidRepository.findByPaperIDIn(paperIDs)) {
+            bidsByPaper.computeIfAbsent(bid.getPaperID(), id -> new ArrayList<>()).add(bid);
+        }
+        for (Review review : reviewRepository.findByReviewIDPaperIDIn(paperIDs)) {
+            Long reviewerID = review.getReviewID().getReviewerID();
+            reviewersByPaper.computeIfAbsent(review.getReviewID().getPaperID(), id -> new LinkedHashSet<>())
+                    .add(reviewerID);
+            loadByReviewer.merge(reviewerID, 1, Integer::sum);
+        }
+        return new AssignmentSnapshot(trackID, paperIDs, bidsByPaper, reviewersByPaper,
+                loadConflicts(trackID), loadByReviewer);
+    }
+
+    /**
+     * Loads the conflicts of interest of all the papers of a track.
+     *
+     * @param trackID the ID of the track
+     * @return the IDs of the users with a conflict of interest, indexed by paper ID
+     * @throws NotFoundException if the track does not exist in the Submissions microservice
+     */
+    private Map<Long, Set<Long>> loadConflicts(TrackID trackID) throws NotFoundException {
+        Map<Long, Set<Long>> conflictsByPaper = new HashMap<>();
+        List<Submission> submissions =
+                submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(), trackID.getTrackID());
+        for (Submission submission : submissions) {
+            if (submission.getConflictsOfInterest() == null) {
+                continue;
+            }
+            conflictsByPaper.put(submission.getSubmissionId(), submission.getConflictsOfInterest().stream()
+                    .map(User::getUserId)
+                    .collect(Collectors.toSet()));
+        }
+        return conflictsByPaper;
+    }
+}
@@ -0,0 +1,17 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+/**
+ * The automatic assignment strategies a chair can choose from.
+ */
+public enum AssignmentStrategyType {
+    /**
+     * Greedily gives every paper the bidders with the least papers in the track.
+     */
+    THREE_SMALLEST,
+
+    /**
+     * Solves the whole track at once as a min-cost flow, preferring CAN_REVIEW bids
+     * over NEUTRAL ones while keeping the load of the reviewers balanced.
+     */
+    MIN_COST_FLOW
+}
@@ -1,117 +1,103 @@
 package nl.tudelft.sem.v20232024.team08b.application.strategies;
 
-import static java.lang.Math.min;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javassist.NotFoundException;
-import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
 import nl.tudelft.sem.v20232024.team08b.domain.Bid;
-import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.Review;
-import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
-import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
-
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+@Primary
 @Component
 public class AssignmentWithThreeSmallest implements AutomaticAssignmentStrategy {
-    private final BidRepository bidRepository;
+    private final AssignmentSnapshotLoader snapshotLoader;
     private final ReviewRepository reviewRepository;
-    private final CommunicationWithSubmissionMicroservice submissionsMicroservice;
 
     /**
     * Method that adds automatically the three reviewers with the least amount of papers.
     *
-    * @param bidRepository repository for storing the bids
+    * @param snapshotLoader loads everything the assignment needs to know about a track
     * @param reviewRepository repository for storing the reviews
-    * @param submissionsMicroservice repository for storing the external database
     */
     @Autowired
-    public AssignmentWithThreeSmallest(BidRepository bidRepository,
-                                     ReviewRepository reviewRepository,
-                                       CommunicationWithSubmissionMicroservice submissionsMicroservice) {
-
-        this.bidRepository = bidRepository;
+    public AssignmentWithThreeSmallest(AssignmentSnapshotLoader snapshotLoader,
+                                       ReviewRepository reviewRepository) {
+        this.snapshotLoader = snapshotLoader;
         this.reviewRepository = reviewRepository;
-        this.submissionsMicroservice = submissionsMicroservice;
     }
 
     @Override
-    public void automaticAssignment(TrackID trackID, List<Paper> papers) {
-        for (Paper paper : papers) {
-            List<Bid> bids = bidRepository.findByPaperID(paper.getId());
-            List<Long> users = bids.stream().map(Bid::getBidderID).collect(Collectors.toList());
+    public List<Review> automaticAssignment(TrackID trackID, List<Long> paperIDs) throws NotFoundException {
+        AssignmentSnapshot snapshot = snapshotLoader.load(trackID, paperIDs);
+        List<Review> assignments = proposeAssignments(snapshot);
+        reviewRepository.insertAll(assignments);
+        return assignments;
+    }
+
+    /**
+     * Assigns to every paper the bidders with the least papers in the track, until the
+     * paper has three reviewers. The load of the reviewers is kept in memory and updated
+     * after every assignment, so later papers account for the assignments made earlier in
+     * the same run.
+     *
+     * @param snapshot the snapshot of the track
+     * @return the new reviews to save
+     */
+    @Override
+    public List<Review> proposeAssignments(AssignmentSnapshot snapshot) {
+        Map<Long, Integer> loads = snapshot.getLoads();
+        List<Review> assignments = new ArrayList<>();
+        for (Long paperID : snapshot.getPaperIDs()) {
+            int needed = snapshot.getNeededReviewers(paperID);
+            if (needed == 0) {
+                continue;
+            }
+            List<Long> users = snapshot.getBids(paperID).stream()
+                    .map(Bid::getBidderID)
+                    .collect(Collectors.toList());
             if (users.isEmpty()) {
                 throw new IllegalArgumentException("At least One reviewer needed");
             }
-            List<Integer> numberOfPapers = new ArrayList<>();
-            for (Long user : users) {
-                var reviews = reviewRepository.findByReviewIDReviewerID(user);
-                var paperAmount = reviews.stream().map(x -> {
-                    try {
-                        return new TrackID(submissionsMicroservice.getSubmission(x.getReviewID().getPaperID())
-                            .getEventId(), submissionsMicroservice.getSubmission(x.getReviewID().getPaperID())
-                            .getTrackId());
-                    } catch (NotFoundException e) {
-                        throw new RuntimeException("Track does not exist!");
-                    }
-
-                })
-                    .filter(x -> x.getTrackID().equals(trackID.getTrackID())
-                    && x.getConferenceID().equals(trackID.getConferenceID())).toArray();
-                numberOfPapers.add(paperAmount.length);
+            for (Long user : gettingSmallest(users, snapshot, paperID, loads, needed)) {
+                assignments.add(new Review(paperID, user));
+                loads.merge(user, 1, Integer::sum);
             }
-            savingSmallest(gettingSmallest(numberOfPapers), paper, users);
-
         }
+        return assignments;
     }
 
-
-    /**
-     * Saves the values of the list into the repository.
-     *
-     * @param threeSmallest position of members that will review
-     * @param paper to review
-     * @param users that might review
-    */
-    private void savingSmallest(List<Integer> threeSmallest, Paper paper, List<Long> users) {
-        for (Integer index : threeSmallest) {
-            ReviewID reviewID = new ReviewID(paper.getId(), users.get(index));
-            Review toSave = new Review();
-            toSave.setReviewID(reviewID);
-            reviewRepository.save(toSave);
-        }
+    @Override
+    public AssignmentStrategyType getType() {
+        return AssignmentStrategyType.THREE_SMALLEST;
     }
+
     /**
-     * Method that gets the three smallest elements of an array.
+     * Gets the bidders with the least papers, skipping those already assigned to the paper
+     * and those with a conflict of interest. Bidders with the same amount of papers are taken
+     * in the order of their bids.
      *
-     * @param numberOfPapers A list corresponding to the number of papers of every reviewer
-     * @return a list with the 3 smallest elements
+     * @param users the bidders on the paper
+     * @param snapshot the snapshot of the track
+     * @param paperID the ID of the paper
+     * @param loads the number of papers of every reviewer
+     * @param needed the number of reviewers to pick
+     * @return at most the needed number of bidders with the smallest load
      */
-
-    private List<Integer> gettingSmallest(List<Integer> numberOfPapers) {
-        List<Integer> smallest = new ArrayList<>();
-        int numberOfRepeats = min(3, numberOfPapers.size());
-
-
-        for (int j = 0; j < numberOfRepeats; j++) {
-            int minIndex = 0;
-            // Find the index of the minimum element
-            for (int k = 1; k < numberOfPapers.size(); k++) {
-                if (numberOfPapers.get(k) < numberOfPapers.get(minIndex)) {
-                    minIndex = k;
-                }
-            }
-            // Store the indices of the smallest elements and set the chosen minimum to a large value
-            smallest.add(minIndex);
-            numberOfPapers.set(minIndex, Integer.MAX_VALUE);
-        }
-        return smallest;
-
+    private List<Long> gettingSmallest(List<Long> users, AssignmentSnapshot snapshot, Long paperID,
+                                       Map<Long, Integer> loads, int needed) {
+        Set<Long> assigned = snapshot.getReviewers(paperID);
+        return users.stream()
+                .filter(user -> !assigned.contains(user) && !snapshot.hasConflict(paperID, user))
+                .sorted(Comparator.comparingInt(user -> loads.getOrDefault(user, 0)))
+                .limit(needed)
+                .collect(Collectors.toList());
     }
-
 }
@@ -2,11 +2,27 @@ package nl.tudelft.sem.v20232024.team08b.application.strategies;
 
 import java.util.List;
 import javassist.NotFoundException;
-import nl.tudelft.sem.v20232024.team08b.domain.Paper;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 
 public interface AutomaticAssignmentStrategy {
-    void automaticAssignment(TrackID trackID, List<Paper> papers) throws NotFoundException;
+    /**
+     * Assigns reviewers to the papers of a track and saves the assignments.
+     *
+     * @param trackID the ID of the track
+     * @param paperIDs the IDs of the papers in the track
+     * @return the new reviews that were saved
+     * @throws NotFoundException if the track does not exist in the Submissions microservice
+     */
+    List<Review> automaticAssignment(TrackID trackID, List<Long> paperIDs) throws NotFoundException;
 
-}
+    /**
+     * Computes the assignments for a track without saving them.
+     *
+     * @param snapshot the snapshot of the track
+     * @return the new reviews the strategy would save
+     */
+    List<Review> proposeAssignments(AssignmentSnapshot snapshot);
 
+    AssignmentStrategyType getType();
+}
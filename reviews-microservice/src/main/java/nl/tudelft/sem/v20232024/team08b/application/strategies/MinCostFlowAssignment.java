@@ -0,0 +1,214 @@
+package nl.tudelft.sem.v20232024.team08b.application.strategies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.utils.MinCostFlow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns the reviewers of a whole track at once, by solving a min-cost flow over the
+ * network source -> paper -> reviewer -> sink. Every paper asks for the reviewers it is
+ * still missing, every bid that is not NOT_REVIEW and has no conflict of interest is an
+ * edge from the paper to the bidder, and every reviewer can take one more paper per unit
+ * edge to the sink. The n-th extra paper of a reviewer costs more than the (n-1)-th, so
+ * the cheapest flow spreads the papers evenly, while CAN_REVIEW bids are preferred over
+ * NEUTRAL ones.
+ */
+@Component
+public class MinCostFlowAssignment implements AutomaticAssignmentStrategy {
+    private static final int SOURCE = 0;
+    private static final int SINK = 1;
+    private static final int FIRST_PAPER = 2;
+
+    private static final int CAN_REVIEW_COST = 0;
+    private static final int NEUTRAL_COST = 4;
+    private static final int LOAD_COST = 1;
+
+    private final AssignmentSnapshotLoader snapshotLoader;
+    private final ReviewRepository reviewRepository;
+    private final int maxPapersPerReviewer;
+
+    /**
+     * Default constructor.
+     *
+     * @param snapshotLoader loads everything the assignment needs to know about a track
+     * @param reviewRepository repository for storing the reviews
+     * @param maxPapersPerReviewer the most papers of a track a reviewer can get. 0 means no limit
+     */
+    @Autowired
+    public MinCostFlowAssignment(AssignmentSnapshotLoader snapshotLoader,
+                                 ReviewRepository reviewRepository,
+                                 @Value("${assignment.max-papers-per-reviewer:0}") int maxPapersPerReviewer) {
+        this.snapshotLoader = snapshotLoader;
+        this.reviewRepository = reviewRepository;
+        this.maxPapersPerReviewer = maxPapersPerReviewer;
+    }
+
+    @Override
+    public List<Review> automaticAssignment(TrackID trackID, List<Long> paperIDs) throws NotFoundException {
+        AssignmentSnapshot snapshot = snapshotLoader.load(trackID, paperIDs);
+        List<Review> assignments = proposeAssignments(snapshot);
+        reviewRepository.insertAll(assignments);
+        return assignments;
+    }
+
+    /**
+     * Computes the assignment of the track with the lowest total cost. Papers without any
+     * eligible bidder are left without new reviewers.
+     *
+     * @param snapshot the snapshot of the track
+     * @return the new reviews to save
+     */
+    @Override
+    public List<Review> proposeAssignments(AssignmentSnapshot snapshot) {
+        Candidates candidates = collectCandidates(snapshot);
+        int paperCount = snapshot.getPaperIDs().size();
+        int firstReviewer = FIRST_PAPER + paperCount;
+        MinCostFlow network = new MinCostFlow(firstReviewer + candidates.reviewerIDs.size(),
+                paperCount + 2 * candidates.size);
+
+        for (int paper = 0; paper < paperCount; paper++) {
+            int needed = snapshot.getNeededReviewers(snapshot.getPaperIDs().get(paper));
+            network.addEdge(SOURCE, FIRST_PAPER + paper, needed, 0);
+        }
+        int[] bidEdges = new int[candidates.size];
+        for (int i = 0; i < candidates.size; i++) {
+            bidEdges[i] = network.addEdge(FIRST_PAPER + candidates.papers[i],
+                    firstReviewer + candidates.reviewers[i], 1, candidates.costs[i]);
+        }
+        addReviewerEdges(network, snapshot.getLoads(), candidates, firstReviewer);
+        network.solve(SOURCE, SINK);
+
+        List<Review> assignments = new ArrayList<>();
+        for (int i = 0; i < candidates.size; i++) {
+            if (network.getFlow(bidEdges[i]) > 0) {
+                assignments.add(new Review(snapshot.getPaperIDs().get(candidates.papers[i]),
+                        candidates.reviewerIDs.get(candidates.reviewers[i])));
+            }
+        }
+        return assignments;
+    }
+
+    @Override
+    public AssignmentStrategyType getType() {
+        return AssignmentStrategyType.MIN_COST_FLOW;
+    }
+
+    /**
+     * Connects every reviewer to the sink with one unit edge per paper they can still take.
+     * The edge of the n-th paper costs n, counting the papers they already review, so that
+     * giving a paper to a reviewer with fewer papers is always cheaper.
+     *
+     * @param network the network to add the edges to
+     * @param loads the number of papers of the track every reviewer already reviews
+     * @param candidates the candidate edges between papers and reviewers
+     * @param firstReviewer the node of the first reviewer
+     */
+    private void addReviewerEdges(MinCostFlow network, Map<Long, Integer> loads,
+                                  Candidates candidates, int firstReviewer) {
+        for (int reviewer = 0; reviewer < candidates.reviewerIDs.size(); reviewer++) {
+            int load = loads.getOrDefault(candidates.reviewerIDs.get(reviewer), 0);
+            int units = capacityOf(load, candidates.bidsPerReviewer[reviewer]);
+            for (int unit = 0; unit < units; unit++) {
+                network.addEdge(firstReviewer + reviewer, SINK, 1, (load + unit) * LOAD_COST);
+            }
+        }
+    }
+
+    /**
+     * Gets how many more papers of the track a reviewer can take.
+     *
+     * @param load the number of papers of the track the reviewer already reviews
+     * @param bids the number of eligible bids of the reviewer
+     * @return the number of papers the reviewer can still get
+     */
+    private int capacityOf(int load, int bids) {
+        if (maxPapersPerReviewer <= 0) {
+            return bids;
+        }
+        return Math.max(0, Math.min(bids, maxPapersPerReviewer - load));
+    }
+
+    /**
+     * Collects the edges between papers and reviewers: the bids on papers that still need
+     * reviewers, leaving out NOT_REVIEW bids, conflicts of interest and reviewers that are
+     * already assigned to the paper. Papers without bids do not stop the others from
+     * being assigned.
+     *
+     * @param snapshot the snapshot of the track
+     * @return the candidate edges
+     */
+    private Candidates collectCandidates(AssignmentSnapshot snapshot) {
+        Candidates candidates = new Candidates();
+        List<Long> paperIDs = snapshot.getPaperIDs();
+        for (int paper = 0; paper < paperIDs.size(); paper++) {
+            Long paperID = paperIDs.get(paper);
+            if (snapshot.getNeededReviewers(paperID) == 0) {
+                continue;
+            }
+            // A paper nobody bid on gets no edges, so its demand is simply left unmet
+            for (Bid bid : snapshot.getBids(paperID)) {
+                if (isEligible(snapshot, bid)) {
+                    candidates.add(paper, bid.getBidderID(), costOf(bid));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isEligible(AssignmentSnapshot snapshot, Bid bid) {
+        return bid.getBid() != nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NOT_REVIEW
+                && !snapshot.getReviewers(bid.getPaperID()).contains(bid.getBidderID())
+                && !snapshot.hasConflict(bid.getPaperID(), bid.getBidderID());
+    }
+
+    private int costOf(Bid bid) {
+        if (bid.getBid() == nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW) {
+            return CAN_REVIEW_COST;
+        }
+        return NEUTRAL_COST;
+    }
+
+    /**
+     * The candidate edges between papers and reviewers, in primitive arrays.
+     */
+    private static class Candidates {
+        private final Map<Long, Integer> reviewerIndex = new HashMap<>();
+        private final List<Long> reviewerIDs = new ArrayList<>();
+        private int[] bidsPerReviewer = new int[16];
+        private int[] papers = new int[16];
+        private int[] reviewers = new int[16];
+        private int[] costs = new int[16];
+        private int size;
+
+        void add(int paper, Long reviewerID, int cost) {
+            int reviewer = reviewerIndex.computeIfAbsent(reviewerID, id -> {
+                reviewerIDs.add(id);
+                return reviewerIDs.size() - 1;
+            });
+            if (size == papers.length) {
+                papers = Arrays.copyOf(papers, 2 * size);
+                reviewers = Arrays.copyOf(reviewers, 2 * size);
+                costs = Arrays.copyOf(costs, 2 * size);
+            }
+            if (reviewer == bidsPerReviewer.length) {
+                bidsPerReviewer = Arrays.copyOf(bidsPerReviewer, 2 * reviewer);
+            }
+            papers[size] = paper;
+            reviewers[size] = reviewer;
+            costs[size] = cost;
+            bidsPerReviewer[reviewer]++;
+            size++;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
 import java.util.List;
 
 @Service
@@ -123,14 +124,15 @@ public class AssignmentsVerification {
     public boolean verifyIfUserCanAssign(Long userID, Long paperID, UserRole role)
             throws IllegalAccessException, NotFoundException, ConflictOfInterestException {
         tracksVerification.verifyTrackPhaseThePaperIsIn(paperID, List.of(TrackPhase.ASSIGNING));
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(userID, paperID);
         switch (role) {
             case CHAIR:
-                if (!usersVerification.verifyRoleFromPaper(userID, paperID, UserRole.CHAIR)) {
+                if (!roles.contains(UserRole.CHAIR)) {
                     throw new IllegalAccessException("You are not PC chair for this track");
                 }
                 break;
             case REVIEWER:
-                if (!usersVerification.verifyRoleFromPaper(userID, paperID, UserRole.REVIEWER)) {
+                if (!roles.contains(UserRole.REVIEWER)) {
                     throw new NotFoundException("There is no such a user in this track");
                 }
                 papersVerification.verifyCOI(paperID, userID);
@@ -186,13 +188,11 @@ public class AssignmentsVerification {
             throw new NotFoundException("No such track exists");
         }
         // Check if such user exists and has correct privileges
-        if (!usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID,
-                UserRole.REVIEWER)) {
+        EnumSet<UserRole> roles = usersVerification.getRolesInTrack(requesterID, conferenceID, trackID);
+        if (!roles.contains(UserRole.REVIEWER)) {
             throw new NotFoundException("No such user exists");
         }
-        // Check if such user exists and has correct privileges
-        if (!usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID,
-                UserRole.CHAIR)) {
+        if (!roles.contains(UserRole.CHAIR)) {
             throw new IllegalAccessException("User is not a PC chair");
         }
     }
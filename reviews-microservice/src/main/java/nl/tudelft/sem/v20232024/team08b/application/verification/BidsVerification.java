@@ -10,6 +10,8 @@ import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+
 @Service
 public class BidsVerification {
     private final UsersVerification usersVerification;
@@ -41,8 +43,9 @@ public class BidsVerification {
      * @throws ForbiddenAccessException if the user is not a chair or reviewer
      */
     public void verifyPermissionToAccessBidsOfPaper(Long requesterID, Long paperID) throws ForbiddenAccessException {
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER);
-        boolean isChair = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(requesterID, paperID);
+        boolean isReviewer = roles.contains(UserRole.REVIEWER);
+        boolean isChair = roles.contains(UserRole.CHAIR);
         if (!isReviewer && !isChair) {
             throw new ForbiddenAccessException();
         }
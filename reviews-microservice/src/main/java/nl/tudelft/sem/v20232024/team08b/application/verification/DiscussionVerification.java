@@ -6,6 +6,7 @@ import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
 import java.util.Objects;
 
 @Service
@@ -71,8 +72,9 @@ public class DiscussionVerification {
                                             Long reviewerID,
                                             Long paperID) throws NotFoundException,
             IllegalAccessException {
-        boolean isChair = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER);
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(requesterID, paperID);
+        boolean isChair = roles.contains(UserRole.CHAIR);
+        boolean isReviewer = roles.contains(UserRole.REVIEWER);
         boolean isAssignedToPaper = usersVerification.isReviewerForPaper(reviewerID, paperID);
 
         if (!papersVerification.verifyPaper(paperID)) {
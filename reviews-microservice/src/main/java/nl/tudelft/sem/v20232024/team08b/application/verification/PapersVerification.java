@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
+import java.util.EnumSet;
 import java.util.List;
 
 @Service
@@ -87,11 +88,12 @@ public class PapersVerification {
      */
     public void verifyPermissionToViewStatus(Long requesterID,
                                              Long paperID) throws IllegalAccessException {
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER) &&
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(requesterID, paperID);
+        boolean isReviewer = roles.contains(UserRole.REVIEWER) &&
                 usersVerification.isReviewerForPaper(requesterID, paperID);
-        boolean isAuthor = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR) &&
+        boolean isAuthor = roles.contains(UserRole.AUTHOR) &&
                 usersVerification.isAuthorToPaper(requesterID, paperID);
-        boolean isChair = usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
+        boolean isChair = roles.contains(UserRole.CHAIR);
 
         if (!isReviewer && !isAuthor && !isChair) {
             throw new IllegalAccessException("User does not have permission to view the status of this paper");
@@ -112,8 +114,9 @@ public class PapersVerification {
         if (!verifyPaper(paperID)) {
             throw new NotFoundException("No such paper exists");
         }
-        boolean isChair = usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.CHAIR);
-        boolean isReviewer = usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER);
+        EnumSet<UserRole> roles = usersVerification.getRolesFromPaper(reviewerID, paperID);
+        boolean isChair = roles.contains(UserRole.CHAIR);
+        boolean isReviewer = roles.contains(UserRole.REVIEWER);
         boolean isReviewerForPaper = usersVerification.isReviewerForPaper(reviewerID, paperID);
         if (!isChair && !isReviewer) {
             throw new IllegalCallerException("No such user exists");
@@ -7,7 +7,6 @@ import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicr
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
-import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -153,15 +152,8 @@ public class TracksVerification {
             throw new NotFoundException("Such track could not be found");
         }
 
-        boolean isReviewer = usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
-                trackID, UserRole.REVIEWER);
-        boolean isChair = usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
-                trackID, UserRole.CHAIR);
-        boolean isAuthor = usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
-                trackID, UserRole.AUTHOR);
-
-        // Check if the requesting user is either a chair or a reviewer in that conference
-        if (!isReviewer && !isChair && !isAuthor) {
+        // Check if the requesting user is either a chair, a reviewer or an author in that conference
+        if (usersVerification.getRolesInTrack(requesterID, conferenceID, trackID).isEmpty()) {
             throw new IllegalAccessException("The requester is not allowed to access the track");
         }
     }
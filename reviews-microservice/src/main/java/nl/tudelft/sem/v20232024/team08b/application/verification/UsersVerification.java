@@ -3,16 +3,19 @@ package nl.tudelft.sem.v20232024.team08b.application.verification;
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithSubmissionMicroservice;
 import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicroservice;
+import nl.tudelft.sem.v20232024.team08b.communicators.RolesByTrack;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.User;
-import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
-import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUserTracksInner;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.utils.HttpRequestSender;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UsersVerification {
@@ -51,6 +54,42 @@ public class UsersVerification {
         }
     }
 
+    /**
+     * Gets all the roles a user has in a track. The roles of the user are looked up only once,
+     * so checking for multiple roles should be done on the returned set.
+     *
+     * @param userID the ID of the user.
+     * @param conferenceID the ID of the conference.
+     * @param trackID the ID of the track.
+     * @return the roles of the user in that track. Empty if the user does not exist.
+     */
+    public EnumSet<UserRole> getRolesInTrack(Long userID, Long conferenceID, Long trackID) {
+        try {
+            return usersCommunicator.getRolesOfUserByTrack(userID).getRoles(conferenceID, trackID);
+        } catch (NotFoundException e) {
+            return EnumSet.noneOf(UserRole.class);
+        }
+    }
+
+    /**
+     * Gets all the roles a user has in the track of a paper. The paper and the roles of
+     * the user are requested in parallel.
+     *
+     * @param userID the ID of the user.
+     * @param paperID the ID of the paper.
+     * @return the roles of the user in the track of the paper. Empty if the user or the paper does not exist.
+     */
+    public EnumSet<UserRole> getRolesFromPaper(Long userID, Long paperID) {
+        CompletableFuture<Submission> submissionFuture = submissionsCommunicator.getSubmissionAsync(paperID);
+        CompletableFuture<RolesByTrack> rolesFuture = usersCommunicator.getRolesOfUserByTrackAsync(userID);
+        try {
+            Submission submission = HttpRequestSender.await(submissionFuture);
+            return HttpRequestSender.await(rolesFuture).getRoles(submission.getEventId(), submission.getTrackId());
+        } catch (NotFoundException e) {
+            return EnumSet.noneOf(UserRole.class);
+        }
+    }
+
     /**
      * Checks whether a user with a given ID exists and is in the same conference and track as a paper with a give ID.
      *
@@ -61,33 +100,7 @@ public class UsersVerification {
      * @return true, iff the given user exists with the given role.
      */
     public boolean verifyRoleFromTrack(Long userID, Long conferenceID, Long trackID, UserRole role) {
-        try {
-            // Get all roles of each track from other microservice
-            RolesOfUser roles = usersCommunicator.getRolesOfUser(userID);
-            boolean ret = false;
-
-            // Iterate over each role/track
-            for (RolesOfUserTracksInner thisTrack : roles.getTracks()) {
-
-                // Cast from Integer to Long
-                Long thisTrackID = thisTrack.getTrackId();
-                Long thisConferenceID = thisTrack.getEventId();
-
-                // If we do not care about this track, continue
-                if (!thisTrackID.equals(trackID) || !thisConferenceID.equals(conferenceID)) {
-                    continue;
-                }
-
-                // Parse the role string into enum
-                UserRole thisRole = UserRole.parse(thisTrack.getRoleName());
-
-                boolean rolesAreEqual = thisRole.equals(role);
-                ret = ret || rolesAreEqual;
-            }
-            return ret;
-        } catch (NotFoundException e) {
-            return false;
-        }
+        return getRolesInTrack(userID, conferenceID, trackID).contains(role);
     }
 
 
@@ -101,9 +114,8 @@ public class UsersVerification {
      */
     public boolean verifyRoleFromPaper(Long userID, Long paperID, UserRole role) {
         try {
-            Long trackID = submissionsCommunicator.getSubmission(paperID).getTrackId();
-            Long conferenceID = submissionsCommunicator.getSubmission(paperID).getEventId();
-            return verifyRoleFromTrack(userID, conferenceID, trackID, role);
+            Submission submission = submissionsCommunicator.getSubmission(paperID);
+            return verifyRoleFromTrack(userID, submission.getEventId(), submission.getTrackId(), role);
         } catch (NotFoundException e) {
             return false;
         }
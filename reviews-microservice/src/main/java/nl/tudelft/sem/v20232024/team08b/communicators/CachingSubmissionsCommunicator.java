@@ -0,0 +1,271 @@
+package nl.tudelft.sem.v20232024.team08b.communicators;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
+import nl.tudelft.sem.v20232024.team08b.utils.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes submissions for the duration of a single inbound HTTP request, so that
+ * all the verification steps of one request share a single call to the Submissions
+ * microservice per paper. Outside of a request (e.g. in background threads) every
+ * call is simply forwarded to the underlying communicator. Concurrent requests for the
+ * same paper that miss the cache share a single call to the Submissions microservice.
+ *
+ * <p>The hits, misses and hit rate of the request cache are published as metrics,
+ * under /actuator/metrics/submissions.cache.gets and submissions.cache.hit.ratio.
+ */
+@Primary
+@Component
+public class CachingSubmissionsCommunicator implements CommunicationWithSubmissionMicroservice, MeterBinder {
+    static final String CACHE_ATTRIBUTE = CachingSubmissionsCommunicator.class.getName() + ".submissions";
+
+    private final SubmissionsMicroserviceCommunicator submissionsCommunicator;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final SingleFlight<Long, Submission> submissionCalls = new SingleFlight<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param submissionsCommunicator communicator that actually talks to the submissions microservice
+     */
+    @Autowired
+    public CachingSubmissionsCommunicator(SubmissionsMicroserviceCommunicator submissionsCommunicator) {
+        this.submissionsCommunicator = submissionsCommunicator;
+    }
+
+    /**
+     * Gets a submission, fetching it from the Submissions microservice at most once
+     * per inbound request.
+     *
+     * @param paperID the ID of the paper to get
+     * @return the gotten Submission object
+     * @throws NotFoundException if such submission does not exist
+     */
+    @Override
+    public Submission getSubmission(Long paperID) throws NotFoundException {
+        Optional<Map<Long, Submission>> requestCache = getRequestCache();
+        if (requestCache.isEmpty()) {
+            return fetchSubmission(paperID);
+        }
+
+        Map<Long, Submission> cache = requestCache.get();
+        Submission cached = cache.get(paperID);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        Submission submission = fetchSubmission(paperID);
+        if (submission != null) {
+            cache.put(paperID, submission);
+        }
+        return submission;
+    }
+
+    /**
+     * Fetches a submission from the Submissions microservice, joining the call
+     * for the same paper if another thread has one in flight.
+     *
+     * @param paperID the ID of the paper to get
+     * @return the gotten Submission object
+     * @throws NotFoundException if such submission does not exist
+     */
+    private Submission fetchSubmission(Long paperID) throws NotFoundException {
+        return submissionCalls.execute(paperID, () -> submissionsCommunicator.getSubmission(paperID));
+    }
+
+    /**
+     * Gets a submission without blocking the calling thread. The request cache is looked
+     * up on the calling thread, since it is bound to the thread of the inbound request.
+     * On a miss, the call for the same paper is joined if another thread has one in flight.
+     *
+     * @param paperID the ID of the paper to get
+     * @return a future of the gotten Submission object
+     */
+    @Override
+    public CompletableFuture<Submission> getSubmissionAsync(Long paperID) {
+        Optional<Map<Long, Submission>> requestCache = getRequestCache();
+        if (requestCache.isEmpty()) {
+            return fetchSubmissionAsync(paperID);
+        }
+
+        Map<Long, Submission> cache = requestCache.get();
+        Submission cached = cache.get(paperID);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        misses.incrementAndGet();
+        return fetchSubmissionAsync(paperID).thenApply(submission -> {
+            if (submission != null) {
+                cache.put(paperID, submission);
+            }
+            return submission;
+        });
+    }
+
+    private CompletableFuture<Submission> fetchSubmissionAsync(Long paperID) {
+        return submissionCalls.executeAsync(paperID, () -> submissionsCommunicator.getSubmissionAsync(paperID));
+    }
+
+    /**
+     * Gets many submissions at once. Submissions already fetched during the current inbound
+     * request are served from the request cache, and only the rest are fetched in bulk.
+     *
+     * @param paperIDs the IDs of the papers to get
+     * @return the gotten Submission objects, indexed by paper ID
+     * @throws NotFoundException if any of the submissions does not exist
+     */
+    @Override
+    public Map<Long, Submission> getSubmissions(Collection<Long> paperIDs) throws NotFoundException {
+        Optional<Map<Long, Submission>> requestCache = getRequestCache();
+        if (requestCache.isEmpty()) {
+            return submissionsCommunicator.getSubmissions(paperIDs);
+        }
+
+        Map<Long, Submission> cache = requestCache.get();
+        List<Long> missing = new ArrayList<>();
+        for (Long paperID : new LinkedHashSet<>(paperIDs)) {
+            if (cache.containsKey(paperID)) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                missing.add(paperID);
+            }
+        }
+        if (!missing.isEmpty()) {
+            submissionsCommunicator.getSubmissions(missing).forEach((paperID, submission) -> {
+                if (submission != null) {
+                    cache.put(paperID, submission);
+                }
+            });
+        }
+
+        Map<Long, Submission> submissions = new LinkedHashMap<>();
+        for (Long paperID : paperIDs) {
+            submissions.put(paperID, cache.get(paperID));
+        }
+        return submissions;
+    }
+
+    @Override
+    public List<Submission> getSubmissionsInTrack(Long conferenceID, Long trackID) throws NotFoundException {
+        return submissionsCommunicator.getSubmissionsInTrack(conferenceID, trackID);
+    }
+
+    @Override
+    public List<Submission> getSubmissionsInTrack(Long conferenceID, Long trackID, Long requesterID)
+            throws NotFoundException {
+        return submissionsCommunicator.getSubmissionsInTrack(conferenceID, trackID, requesterID);
+    }
+
+    /**
+     * Gets the number of submission lookups that were served from the request cache.
+     *
+     * @return the number of cache hits since startup
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of submission lookups that had to go to the Submissions microservice
+     * while a request cache was available.
+     *
+     * @return the number of cache misses since startup
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of submission lookups that joined a call already in flight
+     * for the same paper, instead of calling the Submissions microservice themselves.
+     *
+     * @return the number of coalesced calls since startup
+     */
+    public long getCoalescedCount() {
+        return submissionCalls.getCoalescedCount();
+    }
+
+    /**
+     * Gets the fraction of lookups that were served from the request cache.
+     *
+     * @return the hit rate, between 0 and 1
+     */
+    public double getHitRate() {
+        long total = getHitCount() + getMissCount();
+        if (total == 0) {
+            return 0;
+        }
+        return (double) getHitCount() / total;
+    }
+
+    /**
+     * Registers the hits, misses and hit rate of the request cache, and the coalesced
+     * calls, as metrics. Called by Spring on startup for every MeterBinder bean.
+     *
+     * @param registry the registry to add the metrics to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("submissions.cache.gets", hits, AtomicLong::get)
+                .description("Submission lookups served from the request cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("submissions.cache.gets", misses, AtomicLong::get)
+                .description("Submission lookups that called the Submissions microservice")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("submissions.cache.hit.ratio", this, CachingSubmissionsCommunicator::getHitRate)
+                .description("Fraction of submission lookups served from the request cache")
+                .register(registry);
+        FunctionCounter.builder("downstream.calls.coalesced", this, CachingSubmissionsCommunicator::getCoalescedCount)
+                .description("Lookups that joined a call to another microservice already in flight")
+                .tag("service", "submissions")
+                .register(registry);
+    }
+
+    /**
+     * Gets the submission cache bound to the current inbound request, creating
+     * it on first use.
+     *
+     * @return the cache of the current request, or empty if there is no current request
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<Map<Long, Submission>> getRequestCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        Object cache = attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<Long, Submission>();
+            attributes.setAttribute(CACHE_ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of((Map<Long, Submission>) cache);
+    }
+}
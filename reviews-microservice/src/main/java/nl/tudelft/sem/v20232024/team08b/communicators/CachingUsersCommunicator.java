@@ -0,0 +1,188 @@
+package nl.tudelft.sem.v20232024.team08b.communicators;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.Track;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import nl.tudelft.sem.v20232024.team08b.utils.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps the roles of users in a process-wide cache, so that repeated role checks
+ * do not each send a request to the Users microservice. Entries expire after a
+ * configurable time and the least recently used ones are evicted when the cache is full.
+ * The roles are owned by the Users microservice and none of the endpoints of this
+ * microservice change them, so a change of role is only seen once the entry expires.
+ * The roles are kept already indexed by track, so that cached role checks do not
+ * have to scan and parse the whole response again. Concurrent requests for the same
+ * track, or for the roles of the same user, share a single call to the Users microservice.
+ */
+@Primary
+@Component
+public class CachingUsersCommunicator implements CommunicationWithUsersMicroservice, MeterBinder {
+    private final UsersMicroserviceCommunicator usersCommunicator;
+    private final ExpiringLruCache<Long, RolesByTrack> rolesCache;
+    private final SingleFlight<TrackID, Track> trackCalls = new SingleFlight<>();
+    private final SingleFlight<Long, RolesOfUser> rolesCalls = new SingleFlight<>();
+
+    /**
+     * Default constructor.
+     *
+     * @param usersCommunicator communicator that actually talks to the users microservice
+     * @param timeToLiveMillis how long the roles of a user are kept, in milliseconds
+     * @param maximumSize the maximum number of users whose roles are kept
+     */
+    @Autowired
+    public CachingUsersCommunicator(UsersMicroserviceCommunicator usersCommunicator,
+                                    @Value("${users.roles-cache.time-to-live-ms:60000}") long timeToLiveMillis,
+                                    @Value("${users.roles-cache.maximum-size:10000}") int maximumSize) {
+        this(usersCommunicator, new ExpiringLruCache<>(Duration.ofMillis(timeToLiveMillis), maximumSize));
+    }
+
+    /**
+     * Constructor used for testing purposes.
+     *
+     * @param usersCommunicator communicator that actually talks to the users microservice
+     * @param rolesCache cache to store the roles of users in
+     */
+    public CachingUsersCommunicator(UsersMicroserviceCommunicator usersCommunicator,
+                                    ExpiringLruCache<Long, RolesByTrack> rolesCache) {
+        this.usersCommunicator = usersCommunicator;
+        this.rolesCache = rolesCache;
+    }
+
+    /**
+     * Gets a track from the Users microservice, joining the call for the same
+     * track if another thread has one in flight.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     * @return the track object, from the Users microservice
+     * @throws NotFoundException if such track does not exist
+     */
+    @Override
+    public Track getTrack(Long conferenceID, Long trackID) throws NotFoundException {
+        return trackCalls.execute(new TrackID(conferenceID, trackID),
+                () -> usersCommunicator.getTrack(conferenceID, trackID));
+    }
+
+    /**
+     * Gets a track from the Users microservice without blocking the calling thread,
+     * joining the call for the same track if another thread has one in flight.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     * @return a future of the track object, from the Users microservice
+     */
+    @Override
+    public CompletableFuture<Track> getTrackAsync(Long conferenceID, Long trackID) {
+        return trackCalls.executeAsync(new TrackID(conferenceID, trackID),
+                () -> usersCommunicator.getTrackAsync(conferenceID, trackID));
+    }
+
+    /**
+     * Gets all the roles of a user, from the cache if possible.
+     *
+     * @param userID the ID of the user
+     * @return the roles of that user
+     * @throws NotFoundException if such user does not exist
+     */
+    @Override
+    public RolesOfUser getRolesOfUser(Long userID) throws NotFoundException {
+        RolesByTrack roles = getRolesOfUserByTrack(userID);
+        return roles == null ? null : roles.getRolesOfUser();
+    }
+
+    /**
+     * Gets all the roles of a user indexed by track, from the cache if possible.
+     *
+     * @param userID the ID of the user
+     * @return the roles of that user, indexed by track
+     * @throws NotFoundException if such user does not exist
+     */
+    @Override
+    public RolesByTrack getRolesOfUserByTrack(Long userID) throws NotFoundException {
+        Optional<RolesByTrack> cached = rolesCache.get(userID);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        RolesOfUser roles = rolesCalls.execute(userID, () -> usersCommunicator.getRolesOfUser(userID));
+        if (roles == null) {
+            return null;
+        }
+        RolesByTrack indexedRoles = RolesByTrack.of(roles);
+        rolesCache.put(userID, indexedRoles);
+        return indexedRoles;
+    }
+
+    /**
+     * Gets all the roles of a user without blocking the calling thread, from the cache if possible.
+     *
+     * @param userID the ID of the user
+     * @return a future of the roles of that user
+     */
+    @Override
+    public CompletableFuture<RolesOfUser> getRolesOfUserAsync(Long userID) {
+        return getRolesOfUserByTrackAsync(userID)
+                .thenApply(roles -> roles == null ? null : roles.getRolesOfUser());
+    }
+
+    /**
+     * Gets all the roles of a user indexed by track without blocking the calling thread,
+     * from the cache if possible. On a miss, the call for the roles of the same user is
+     * joined if another thread has one in flight.
+     *
+     * @param userID the ID of the user
+     * @return a future of the roles of that user, indexed by track
+     */
+    @Override
+    public CompletableFuture<RolesByTrack> getRolesOfUserByTrackAsync(Long userID) {
+        Optional<RolesByTrack> cached = rolesCache.get(userID);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return rolesCalls.executeAsync(userID, () -> usersCommunicator.getRolesOfUserAsync(userID)).thenApply(roles -> {
+            if (roles == null) {
+                return null;
+            }
+            RolesByTrack indexedRoles = RolesByTrack.of(roles);
+            rolesCache.put(userID, indexedRoles);
+            return indexedRoles;
+        });
+    }
+
+    /**
+     * Gets the number of lookups of tracks and roles that joined a call already
+     * in flight, instead of calling the Users microservice themselves.
+     *
+     * @return the number of coalesced calls since startup
+     */
+    public long getCoalescedCount() {
+        return trackCalls.getCoalescedCount() + rolesCalls.getCoalescedCount();
+    }
+
+    /**
+     * Registers the coalesced calls as a metric. Called by Spring on startup for every
+     * MeterBinder bean.
+     *
+     * @param registry the registry to add the metrics to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("downstream.calls.coalesced", this, CachingUsersCommunicator::getCoalescedCount)
+                .description("Lookups that joined a call to another microservice already in flight")
+                .tag("service", "users")
+                .register(registry);
+    }
+}
@@ -3,11 +3,33 @@ package nl.tudelft.sem.v20232024.team08b.communicators;
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface CommunicationWithSubmissionMicroservice {
     Submission getSubmission(Long paperID) throws NotFoundException;
 
+    /**
+     * Gets a submission without blocking the calling thread. If the submission does not exist,
+     * the future completes with a NotFoundException wrapped in a CompletionException.
+     *
+     * @param paperID the ID of the paper to get
+     * @return a future of the gotten Submission object
+     */
+    CompletableFuture<Submission> getSubmissionAsync(Long paperID);
+
+    /**
+     * Gets many submissions at once. The submissions are fetched in parallel,
+     * instead of one call after the other.
+     *
+     * @param paperIDs the IDs of the papers to get. Duplicates are fetched only once
+     * @return the gotten Submission objects, indexed by paper ID, in the order of the given IDs
+     * @throws NotFoundException if any of the submissions does not exist
+     */
+    Map<Long, Submission> getSubmissions(Collection<Long> paperIDs) throws NotFoundException;
+
     List<Submission> getSubmissionsInTrack(Long conferenceID, Long trackID) throws NotFoundException;
 
     List<Submission> getSubmissionsInTrack(Long conferenceID, Long trackID, Long requesterID)
@@ -4,8 +4,50 @@ import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
 import nl.tudelft.sem.v20232024.team08b.dtos.users.Track;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface CommunicationWithUsersMicroservice {
     Track getTrack(Long conferenceID, Long trackID) throws NotFoundException;
 
     RolesOfUser getRolesOfUser(Long userID) throws NotFoundException;
+
+    /**
+     * Gets a track without blocking the calling thread. If the track does not exist,
+     * the future completes with a NotFoundException wrapped in a CompletionException.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     * @return a future of the track
+     */
+    CompletableFuture<Track> getTrackAsync(Long conferenceID, Long trackID);
+
+    /**
+     * Gets all the roles of a user without blocking the calling thread. If the user does not exist,
+     * the future completes with a NotFoundException wrapped in a CompletionException.
+     *
+     * @param userID the ID of the user
+     * @return a future of the roles of that user
+     */
+    CompletableFuture<RolesOfUser> getRolesOfUserAsync(Long userID);
+
+    /**
+     * Gets all the roles of a user, indexed by the track they hold them in.
+     *
+     * @param userID the ID of the user
+     * @return the roles of that user, indexed by track
+     * @throws NotFoundException if such user does not exist
+     */
+    default RolesByTrack getRolesOfUserByTrack(Long userID) throws NotFoundException {
+        return RolesByTrack.of(getRolesOfUser(userID));
+    }
+
+    /**
+     * Gets all the roles of a user indexed by track, without blocking the calling thread.
+     *
+     * @param userID the ID of the user
+     * @return a future of the roles of that user, indexed by track
+     */
+    default CompletableFuture<RolesByTrack> getRolesOfUserByTrackAsync(Long userID) {
+        return getRolesOfUserAsync(userID).thenApply(RolesByTrack::of);
+    }
 }
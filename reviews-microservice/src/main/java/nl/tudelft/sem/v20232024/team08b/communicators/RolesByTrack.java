@@ -0,0 +1,70 @@
+package nl.tudelft.sem.v20232024.team08b.communicators;
+
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUserTracksInner;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The roles of a single user, indexed by the track they hold them in. The role
+ * strings of the Users microservice are parsed only once, when the index is built.
+ */
+public class RolesByTrack {
+    private final RolesOfUser rolesOfUser;
+    private final Map<TrackID, EnumSet<UserRole>> roles;
+
+    private RolesByTrack(RolesOfUser rolesOfUser, Map<TrackID, EnumSet<UserRole>> roles) {
+        this.rolesOfUser = rolesOfUser;
+        this.roles = roles;
+    }
+
+    /**
+     * Builds the index from the roles returned by the Users microservice.
+     * Roles that cannot be parsed are skipped, so that a single unknown role
+     * does not prevent checking the other tracks of the user.
+     *
+     * @param rolesOfUser the roles of the user, as received from the Users microservice
+     * @return the roles of the user indexed by track
+     */
+    public static RolesByTrack of(RolesOfUser rolesOfUser) {
+        Map<TrackID, EnumSet<UserRole>> roles = new HashMap<>();
+        if (rolesOfUser.getTracks() == null) {
+            return new RolesByTrack(rolesOfUser, roles);
+        }
+        for (RolesOfUserTracksInner track : rolesOfUser.getTracks()) {
+            UserRole role;
+            try {
+                role = UserRole.parse(track.getRoleName());
+            } catch (RuntimeException e) {
+                continue;
+            }
+            roles.computeIfAbsent(new TrackID(track.getEventId(), track.getTrackId()),
+                    trackID -> EnumSet.noneOf(UserRole.class)).add(role);
+        }
+        return new RolesByTrack(rolesOfUser, roles);
+    }
+
+    /**
+     * Gets all the roles the user has in a track.
+     *
+     * @param conferenceID the ID of the conference of the track
+     * @param trackID the ID of the track
+     * @return the roles of the user in that track. Empty if they have none
+     */
+    public EnumSet<UserRole> getRoles(Long conferenceID, Long trackID) {
+        EnumSet<UserRole> rolesInTrack = roles.get(new TrackID(conferenceID, trackID));
+        if (rolesInTrack == null) {
+            return EnumSet.noneOf(UserRole.class);
+        }
+        // Hand out a copy, so that the callers cannot modify the index
+        return EnumSet.copyOf(rolesInTrack);
+    }
+
+    public RolesOfUser getRolesOfUser() {
+        return rolesOfUser;
+    }
+}
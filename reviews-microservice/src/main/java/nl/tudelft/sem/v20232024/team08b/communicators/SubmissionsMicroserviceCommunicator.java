@@ -1,19 +1,30 @@
 package nl.tudelft.sem.v20232024.team08b.communicators;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.config.DownstreamProperties;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.utils.HttpRequestSender;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 @Component
 public class SubmissionsMicroserviceCommunicator implements CommunicationWithSubmissionMicroservice {
 
+    private static final TypeReference<List<Submission>> SUBMISSION_LIST = new TypeReference<>() {};
+
     private final Long ourID = -1L;
-    private final String submissionsURL = "http://localhost:8081";
+    private final String submissionsURL;
+    private final int bulkConcurrency;
     private final ObjectMapper objectMapper;
     private final HttpRequestSender httpRequestSender;
 
@@ -27,18 +38,27 @@ public class SubmissionsMicroserviceCommunicator implements CommunicationWithSub
     public SubmissionsMicroserviceCommunicator(ObjectMapper objectMapper, HttpRequestSender httpRequestSender) {
         this.objectMapper = objectMapper;
         this.httpRequestSender = httpRequestSender;
+        DownstreamProperties defaults = new DownstreamProperties();
+        this.submissionsURL = defaults.getSubmissionsUrl();
+        this.bulkConcurrency = defaults.getBulkConcurrency();
     }
 
 
     /**
      * Default constructor.
      *
+     * @param objectMapper the object mapper shared by the whole application
      * @param httpRequestSender class used for sending HTTP requests
+     * @param downstreamProperties the settings of the calls to other microservices
      */
     @Autowired
-    public SubmissionsMicroserviceCommunicator(HttpRequestSender httpRequestSender) {
-        this.objectMapper = new ObjectMapper();
+    public SubmissionsMicroserviceCommunicator(ObjectMapper objectMapper,
+                                               HttpRequestSender httpRequestSender,
+                                               DownstreamProperties downstreamProperties) {
+        this.objectMapper = objectMapper;
         this.httpRequestSender = httpRequestSender;
+        this.submissionsURL = downstreamProperties.getSubmissionsUrl();
+        this.bulkConcurrency = downstreamProperties.getBulkConcurrency();
     }
 
 
@@ -63,6 +83,49 @@ public class SubmissionsMicroserviceCommunicator implements CommunicationWithSub
         }
     }
 
+    /**
+     * Gets a paper (called submission) from the Submissions microservice, without
+     * blocking the calling thread.
+     *
+     * @param paperID the ID of the paper to get
+     * @return a future of the gotten Submission object
+     */
+    @Override
+    public CompletableFuture<Submission> getSubmissionAsync(Long paperID) {
+        String url = submissionsURL + "/submission/" + paperID + "/" + ourID;
+        return httpRequestSender.sendGetRequestAsync(url, objectMapper.readerFor(Submission.class));
+    }
+
+    /**
+     * Gets many papers (called submissions) from the Submissions microservice. The
+     * requests are sent in parallel, but at most bulkConcurrency of them are in flight
+     * at the same time, so that a large lookup does not flood the Submissions microservice.
+     *
+     * @param paperIDs the IDs of the papers to get
+     * @return the gotten Submission objects, indexed by paper ID
+     * @throws NotFoundException if any of the submissions does not exist
+     */
+    @Override
+    public Map<Long, Submission> getSubmissions(Collection<Long> paperIDs) throws NotFoundException {
+        Semaphore permits = new Semaphore(bulkConcurrency);
+        Map<Long, CompletableFuture<Submission>> calls = new LinkedHashMap<>();
+        try {
+            for (Long paperID : new LinkedHashSet<>(paperIDs)) {
+                permits.acquire();
+                calls.put(paperID, getSubmissionAsync(paperID).whenComplete((submission, e) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while getting the submissions", e);
+        }
+
+        Map<Long, Submission> submissions = new LinkedHashMap<>();
+        for (Map.Entry<Long, CompletableFuture<Submission>> call : calls.entrySet()) {
+            submissions.put(call.getKey(), HttpRequestSender.await(call.getValue()));
+        }
+        return submissions;
+    }
+
 
     /**
      * Gets all submissions in a track using the default requester ID (ourID).
@@ -88,10 +151,8 @@ public class SubmissionsMicroserviceCommunicator implements CommunicationWithSub
         try {
             String url = submissionsURL + "/submission/event/" + conferenceID
                 + "/track/" + trackID + "/" + requesterID;
-            String response = httpRequestSender.sendGetRequest(url);
-            List<Submission> submissions;
-            submissions = objectMapper.readValue(response, List.class);
-            return submissions;
+            // Deserialize straight from the response bytes, into actual Submission objects
+            return httpRequestSender.sendGetRequest(url, objectMapper.readerFor(SUBMISSION_LIST));
         } catch (NotFoundException e) {
             throw e;
         } catch (Exception e) {
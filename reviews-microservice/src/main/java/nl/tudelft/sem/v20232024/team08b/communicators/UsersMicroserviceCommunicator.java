@@ -2,16 +2,19 @@ package nl.tudelft.sem.v20232024.team08b.communicators;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.config.DownstreamProperties;
 import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
 import nl.tudelft.sem.v20232024.team08b.dtos.users.Track;
 import nl.tudelft.sem.v20232024.team08b.utils.HttpRequestSender;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 public class UsersMicroserviceCommunicator implements CommunicationWithUsersMicroservice {
     private final Long ourID = -1L;
-    private final String usersURL = "http://localhost:8082";
+    private final String usersURL;
     private final ObjectMapper objectMapper;
     private final HttpRequestSender httpRequestSender;
 
@@ -19,12 +22,17 @@ public class UsersMicroserviceCommunicator implements CommunicationWithUsersMicr
     /**
      * Default constructor.
      *
+     * @param objectMapper the object mapper shared by the whole application
      * @param httpRequestSender class used for sending HTTP requests
+     * @param downstreamProperties the settings of the calls to other microservices
      */
     @Autowired
-    public UsersMicroserviceCommunicator(HttpRequestSender httpRequestSender) {
+    public UsersMicroserviceCommunicator(ObjectMapper objectMapper,
+                                         HttpRequestSender httpRequestSender,
+                                         DownstreamProperties downstreamProperties) {
         this.httpRequestSender = httpRequestSender;
-        this.objectMapper = new ObjectMapper();
+        this.objectMapper = objectMapper;
+        this.usersURL = downstreamProperties.getUsersUrl();
     }
 
     /**
@@ -36,6 +44,7 @@ public class UsersMicroserviceCommunicator implements CommunicationWithUsersMicr
     public UsersMicroserviceCommunicator(ObjectMapper objectMapper, HttpRequestSender httpRequestSender) {
         this.objectMapper = objectMapper;
         this.httpRequestSender = httpRequestSender;
+        this.usersURL = new DownstreamProperties().getUsersUrl();
     }
 
     /**
@@ -81,4 +90,29 @@ public class UsersMicroserviceCommunicator implements CommunicationWithUsersMicr
             throw new RuntimeException("Failed to parse the HTTP response");
         }
     }
+
+    /**
+     * Gets a track from the Users microservice, without blocking the calling thread.
+     *
+     * @param conferenceID the ID of the conference the track is in
+     * @param trackID the ID of the track
+     * @return a future of the track object, from the Users microservice
+     */
+    @Override
+    public CompletableFuture<Track> getTrackAsync(Long conferenceID, Long trackID) {
+        String url = usersURL + "/track/" + conferenceID + "/" + trackID;
+        return httpRequestSender.sendGetRequestAsync(url, objectMapper.readerFor(Track.class));
+    }
+
+    /**
+     * Gets from the Users microservice all the roles of a user, without blocking the calling thread.
+     *
+     * @param userID the ID of the user
+     * @return a future of the roles of that user
+     */
+    @Override
+    public CompletableFuture<RolesOfUser> getRolesOfUserAsync(Long userID) {
+        String url = usersURL + "/user/" + userID + "/tracks/role";
+        return httpRequestSender.sendGetRequestAsync(url, objectMapper.readerFor(RolesOfUser.class));
+    }
 }
@@ -0,0 +1,36 @@
+package nl.tudelft.sem.v20232024.team08b.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the workers that run the automatic assignment jobs.
+ */
+@Configuration
+public class AssignmentJobConfig {
+    /**
+     * Creates the executor that assigns the tracks of the jobs, one track per task. The
+     * queue is bounded, and once it is full new tracks are rejected instead of being run
+     * by the thread that submits them, so that submitting a job never blocks the request.
+     *
+     * @param threads the number of tracks assigned at the same time
+     * @param queueCapacity the number of tracks that can wait for a worker
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor assignmentJobExecutor(@Value("${assignment.jobs.threads:4}") int threads,
+                                                    @Value("${assignment.jobs.queue-capacity:100}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package nl.tudelft.sem.v20232024.team08b.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the workers that push new discussion comments to the open streams.
+ */
+@Configuration
+public class DiscussionStreamConfig {
+    /**
+     * Creates the executor that sends the buffered comments of the subscribers, one
+     * subscriber per task. Sending only writes to an open connection, so a few threads
+     * are enough for many subscribers.
+     *
+     * @param threads the number of subscribers served at the same time
+     * @param queueCapacity the number of subscribers that can wait for a worker
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor discussionStreamExecutor(
+            @Value("${discussion.stream.threads:2}") int threads,
+            @Value("${discussion.stream.queue-capacity:1000}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package nl.tudelft.sem.v20232024.team08b.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Settings of the HTTP calls to the other microservices, bound from the
+ * "downstream" properties. The defaults match a local deployment.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "downstream")
+public class DownstreamProperties {
+    /**
+     * Base URL of the Submissions microservice.
+     */
+    private String submissionsUrl = "http://localhost:8081";
+
+    /**
+     * Base URL of the Users microservice.
+     */
+    private String usersUrl = "http://localhost:8082";
+
+    /**
+     * HTTP version the client prefers. HTTP_2 falls back to HTTP_1_1 if the server does not support it.
+     */
+    private HttpClient.Version httpVersion = HttpClient.Version.HTTP_1_1;
+
+    /**
+     * Maximum time to wait for a connection to be established.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for the response of a single request.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Number of threads that handle the responses of asynchronous requests.
+     */
+    private int executorThreads = 8;
+
+    /**
+     * Maximum number of requests a single bulk lookup keeps in flight at the same time.
+     */
+    private int bulkConcurrency = 16;
+}
@@ -1,13 +1,14 @@
 package nl.tudelft.sem.v20232024.team08b.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
 import lombok.Getter;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 
@@ -28,18 +29,47 @@ public class H2Config {
     }
 
     /**
-     * Set up the connection to the database.
+     * Set up the pool of connections to the database. Connections are reused between
+     * transactions instead of opening a new one every time. The pool is configured by
+     * the jdbc.pool.* properties, which can be overridden per environment like any
+     * other property, e.g. with JDBC_POOL_MAXIMUM_SIZE.
      *
      * @return The data source.
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        HikariDataSource dataSource = new HikariDataSource();
         dataSource.setDriverClassName(environment.getProperty("jdbc.driverClassName"));
-        dataSource.setUrl(environment.getProperty("jdbc.url"));
+        dataSource.setJdbcUrl(environment.getProperty("jdbc.url"));
         dataSource.setUsername(environment.getProperty("jdbc.user"));
         dataSource.setPassword(environment.getProperty("jdbc.pass"));
 
+        dataSource.setPoolName(environment.getProperty("jdbc.pool.name", "reviews-pool"));
+        dataSource.setMaximumPoolSize(environment.getProperty("jdbc.pool.maximum-size", Integer.class, 10));
+        dataSource.setMinimumIdle(environment.getProperty("jdbc.pool.minimum-idle", Integer.class, 10));
+        dataSource.setConnectionTimeout(environment.getProperty("jdbc.pool.connection-timeout-ms", Long.class, 30000L));
+        dataSource.setIdleTimeout(environment.getProperty("jdbc.pool.idle-timeout-ms", Long.class, 600000L));
+        dataSource.setMaxLifetime(environment.getProperty("jdbc.pool.max-lifetime-ms", Long.class, 1800000L));
+        dataSource.setLeakDetectionThreshold(
+                environment.getProperty("jdbc.pool.leak-detection-threshold-ms", Long.class, 0L));
+        // Exposes the active, idle and pending connections of the pool over JMX
+        dataSource.setRegisterMbeans(environment.getProperty("jdbc.pool.register-mbeans", Boolean.class, false));
+
         return dataSource;
     }
+
+    /**
+     * Makes Hibernate send INSERTs and UPDATEs to the database in JDBC batches, grouped
+     * by entity, instead of one statement per round trip.
+     *
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchingCustomizer() {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", environment.getProperty("hibernate.jdbc.batch_size", "50"));
+            properties.put("hibernate.order_inserts", environment.getProperty("hibernate.order_inserts", "true"));
+            properties.put("hibernate.order_updates", environment.getProperty("hibernate.order_updates", "true"));
+        };
+    }
 }
@@ -0,0 +1,59 @@
+package nl.tudelft.sem.v20232024.team08b.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the HTTP client used to talk to the other microservices.
+ *
+ * <p>The connection pool of the JDK client can only be sized through the
+ * jdk.httpclient.connectionPoolSize and jdk.httpclient.keepalive.timeout system
+ * properties, which are read once per JVM. They are therefore passed as JVM options
+ * (see bootRun in build.gradle, or JAVA_TOOL_OPTIONS in a deployment). Without them
+ * the JDK keeps an unlimited number of idle connections open for 1200 seconds.
+ */
+@Configuration
+public class HttpClientConfig {
+    /**
+     * Creates the executor that handles the responses of asynchronous requests. The number
+     * of threads is fixed and the queue is not bounded: the client hands its tasks over from
+     * its selector thread, so the executor must never reject them nor make that thread run
+     * them itself. The number of requests in flight is limited by the callers instead,
+     * e.g. by the bulk concurrency, and every request is cut off by the request timeout.
+     *
+     * @param properties the downstream settings
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor downstreamExecutor(DownstreamProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.getExecutorThreads(),
+                properties.getExecutorThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>()
+        );
+    }
+
+    /**
+     * Creates the HTTP client shared by all communicators.
+     *
+     * @param properties the downstream settings
+     * @param downstreamExecutor the executor that handles the responses
+     * @return the HTTP client
+     */
+    @Bean
+    public HttpClient httpClient(DownstreamProperties properties,
+                                 @Qualifier("downstreamExecutor") ThreadPoolExecutor downstreamExecutor) {
+        return HttpClient.newBuilder()
+                .version(properties.getHttpVersion())
+                .connectTimeout(properties.getConnectTimeout())
+                .executor(downstreamExecutor)
+                .build();
+    }
+}
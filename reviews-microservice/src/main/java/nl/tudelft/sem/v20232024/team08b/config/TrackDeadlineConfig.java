@@ -0,0 +1,29 @@
+package nl.tudelft.sem.v20232024.team08b.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Configures the timers that fire when the deadlines of the tracks pass.
+ */
+@Configuration
+public class TrackDeadlineConfig {
+    /**
+     * Creates the executor that runs the deadlines of the tracks. The pending deadlines
+     * wait in its delay queue, ordered by when they pass, so no thread is busy until
+     * the first one is due. Cancelled deadlines are removed from the queue right away,
+     * since a deadline is cancelled every time it is moved.
+     *
+     * @param threads the number of deadlines handled at the same time
+     * @return the executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledThreadPoolExecutor trackDeadlineExecutor(@Value("${tracks.deadlines.threads:1}") int threads) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
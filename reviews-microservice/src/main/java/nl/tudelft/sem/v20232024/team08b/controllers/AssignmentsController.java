@@ -2,7 +2,13 @@ package nl.tudelft.sem.v20232024.team08b.controllers;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.api.AssignmentsAPI;
+import nl.tudelft.sem.v20232024.team08b.application.AssignmentJobService;
 import nl.tudelft.sem.v20232024.team08b.application.AssignmentsService;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ManualAssignment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ConflictOfInterestException;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
@@ -17,15 +23,19 @@ import java.util.List;
 @RestController
 public class AssignmentsController implements AssignmentsAPI {
     private final AssignmentsService assignmentsService;
+    private final AssignmentJobService assignmentJobService;
 
     /**
      * Default constructor for the controller.
      *
      * @param assignmentsService the respective service to inject
+     * @param assignmentJobService service that runs automatic assignments in the background
      */
     @Autowired
-    public AssignmentsController(AssignmentsService assignmentsService) {
+    public AssignmentsController(AssignmentsService assignmentsService,
+                                 AssignmentJobService assignmentJobService) {
         this.assignmentsService = assignmentsService;
+        this.assignmentJobService = assignmentJobService;
     }
 
     /**
@@ -62,20 +72,55 @@ public class AssignmentsController implements AssignmentsAPI {
 
     }
 
+    /**
+     * Manually assigns many reviewers to papers at once.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param assignments the reviewers to assign and their papers
+     * @return response entity with the result
+     */
+    @Override
+    public ResponseEntity<Void> assignManualBulk(Long requesterID,
+                                                 List<ManualAssignment> assignments) {
+        try {
+            assignmentsService.assignManually(requesterID, assignments);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            // No assignments were given
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (IllegalCallerException | NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalAccessException e) {
+            // The requester must be a pc chair
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (ConflictOfInterestException e) {
+            // There is a COI
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (Exception e) {
+            // Internal server error
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Automatically assigns a reviewer to a specific paper.
      *
      * @param requesterID the ID of the requesting user the ID of the requesting user
      * @param conferenceID the ID of the conference
      * @param trackID the ID of the track
+     * @param strategy the strategy to assign the reviewers with, or null for the default one
      * @return response entity with the result
      */
     @Override
     public ResponseEntity<Void> assignAuto(Long requesterID,
                                            Long conferenceID,
-                                           Long trackID) {
+                                           Long trackID,
+                                           AssignmentStrategyType strategy) {
         try {
-            assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+            assignmentsService.assignAuto(requesterID, conferenceID, trackID, strategy);
             return ResponseEntity
                     .ok()
                     .contentType(MediaType.APPLICATION_JSON)
@@ -98,6 +143,82 @@ public class AssignmentsController implements AssignmentsAPI {
         }
     }
 
+    /**
+     * Simulates the automatic assignment of a track with several strategies, without saving it.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param conferenceID the ID of the conference
+     * @param trackID the ID of the track
+     * @param strategies the strategies to compare, or null for all of them
+     * @return response entity with the assignment of every strategy
+     */
+    @Override
+    public ResponseEntity<List<AssignmentSimulation>> simulateAssignment(Long requesterID,
+                                                                         Long conferenceID,
+                                                                         Long trackID,
+                                                                         List<AssignmentStrategyType> strategies) {
+        try {
+            return ResponseEntity.ok(assignmentsService.simulate(requesterID, conferenceID, trackID, strategies));
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalAccessException e) {
+            // The requester must be a chair of the track
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            // One of the strategies is not available
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            // Internal server error
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Starts the automatic assignment of one or more tracks in the background.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param request the tracks to assign and the strategy to use
+     * @return response entity with the initial progress of the job
+     */
+    @Override
+    public ResponseEntity<AssignmentJobStatus> submitAssignmentJob(Long requesterID,
+                                                                   AssignmentJobRequest request) {
+        try {
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(assignmentJobService.submit(requesterID, request));
+        } catch (IllegalArgumentException e) {
+            // No tracks were given
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            // Internal server error
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Gets the progress of an automatic assignment job.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param jobID the ID of the job
+     * @return response entity with the progress of the job
+     */
+    @Override
+    public ResponseEntity<AssignmentJobStatus> getAssignmentJob(Long requesterID, Long jobID) {
+        try {
+            return ResponseEntity.ok(assignmentJobService.getJob(requesterID, jobID));
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (ForbiddenAccessException e) {
+            // Only the user that started the job can see it
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            // Internal server error
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Finalises the assignment of reviewers, so they can no longer be changed
      * manually or automatically.
@@ -153,14 +274,20 @@ public class AssignmentsController implements AssignmentsAPI {
      * @param requesterID the ID of the requesting user
      * @param paperID the ID of the paper
      * @param reviewerID the ID of the reviewer
+     * @param replace whether to assign a replacement reviewer to the paper
      * @return response entity with the result
      */
     @Override
     public ResponseEntity<Void> remove(Long requesterID,
                                        Long paperID,
-                                       Long reviewerID) {
+                                       Long reviewerID,
+                                       boolean replace) {
         try {
-            assignmentsService.remove(requesterID, paperID, reviewerID);
+            if (replace) {
+                assignmentsService.removeAndReplace(requesterID, paperID, reviewerID);
+            } else {
+                assignmentsService.remove(requesterID, paperID, reviewerID);
+            }
             return ResponseEntity
                 .ok()
                 .contentType(MediaType.APPLICATION_JSON)
@@ -7,6 +7,7 @@ import nl.tudelft.sem.v20232024.team08b.dtos.review.*;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 @RestController
@@ -173,18 +174,50 @@ public class ReviewsController implements ReviewsAPI {
     }
 
     /**
-     * Gets the discussion comments assigned to a review during the discussion phase.
+     * Gets a page of the discussion comments assigned to a review during the discussion phase.
      *
      * @param requesterID the ID of the requesting user
      * @param reviewerID the ID of the reviewer
      * @param paperID the ID of the paper
+     * @param after the ID of the last comment already read, or null to start from the first one
+     * @param limit the most comments to return
      * @return the list of discussion comments
      */
     @Override
-    public ResponseEntity<List<DiscussionComment>> getDiscussionComments(Long requesterID, Long reviewerID, Long paperID) {
+    public ResponseEntity<List<DiscussionComment>> getDiscussionComments(Long requesterID, Long reviewerID, Long paperID,
+                                                                         Long after, int limit) {
         try {
             return ResponseEntity
-                    .ok(discussionService.getDiscussionComments(requesterID, reviewerID, paperID));
+                    .ok(discussionService.getDiscussionComments(requesterID, reviewerID, paperID, after, limit));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalAccessException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Opens a stream of the discussion comments of a review.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param reviewerID the ID of the reviewer
+     * @param paperID the ID of the paper
+     * @param after the ID of the last comment already read, or null
+     * @param lastEventID the ID of the last event received before reconnecting, or null.
+     *                    It takes precedence over after
+     * @return the stream of the comments
+     */
+    @Override
+    public ResponseEntity<SseEmitter> streamDiscussionComments(Long requesterID, Long reviewerID, Long paperID,
+                                                               Long after, Long lastEventID) {
+        try {
+            Long cursor = lastEventID == null ? after : lastEventID;
+            return ResponseEntity.ok(discussionService.streamDiscussionComments(requesterID, reviewerID,
+                    paperID, cursor));
         } catch (NotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (IllegalAccessException e) {
@@ -6,9 +6,11 @@ import nl.tudelft.sem.v20232024.team08b.application.TrackAnalyticsService;
 import nl.tudelft.sem.v20232024.team08b.application.TrackDeadlineService;
 import nl.tudelft.sem.v20232024.team08b.application.TrackInformationService;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhaseWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackAnalytics;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -64,6 +66,29 @@ public class TracksController implements TracksAPI {
         }
     }
 
+    /**
+     * Returns the current phase of every paper in the given track of a conference.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param conferenceID the ID of the conference
+     * @param trackID the ID of the track
+     * @return response entity with the result
+     */
+    @Override
+    public ResponseEntity<List<PaperPhaseWithID>> getPaperPhases(Long requesterID,
+                                                                 Long conferenceID,
+                                                                 Long trackID) {
+        try {
+            return ResponseEntity.ok(
+                trackInformationService.getPaperPhases(requesterID, conferenceID, trackID)
+            );
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (ForbiddenAccessException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+    }
+
     /**
      * Returns the numbers of accepted, rejected and not-yet-decided papers.
      *
@@ -87,6 +112,29 @@ public class TracksController implements TracksAPI {
         }
     }
 
+    /**
+     * Returns the score distributions, reviewer workloads, bid coverage and agreement rate of a track.
+     *
+     * @param requesterID the ID of the requesting user
+     * @param conferenceID the ID of the conference
+     * @param trackID the ID of the track
+     * @return response entity with the result
+     */
+    @Override
+    public ResponseEntity<TrackReviewAnalytics> getReviewAnalytics(
+            Long requesterID, Long conferenceID, Long trackID
+    ) {
+        try {
+            return ResponseEntity.ok(
+                    trackAnalyticsService.getReviewAnalytics(new TrackID(conferenceID, trackID), requesterID)
+            );
+        } catch (NotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (ForbiddenAccessException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+    }
+
     /**
      * Changes or sets the bidding deadline of a track.
      *
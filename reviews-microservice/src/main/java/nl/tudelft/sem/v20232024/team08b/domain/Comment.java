@@ -4,15 +4,48 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import javax.persistence.Embeddable;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import java.io.Serializable;
 
-@Embeddable
+@Entity
+@Table(name = "discussion_comment",
+        indexes = @Index(name = "discussion_comment_review_idx", columnList = "paperID, reviewerID, id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Comment implements Serializable {
+    /**
+     * Generated by the database, so it grows in the order the comments are posted.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long paperID;
+
+    private Long reviewerID;
+
     private Long authorID;
 
     private String text;
+
+    /**
+     * Creates a new comment on a review.
+     *
+     * @param paperID the ID of the paper of the review
+     * @param reviewerID the ID of the reviewer who wrote the review
+     * @param authorID the ID of the user writing the comment
+     * @param text the content of the comment
+     */
+    public Comment(Long paperID, Long reviewerID, Long authorID, String text) {
+        this.paperID = paperID;
+        this.reviewerID = reviewerID;
+        this.authorID = authorID;
+        this.text = text;
+    }
 }
@@ -6,10 +6,9 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "review_reviewer_paper_idx", columnList = "reviewerID, paperID"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,9 +24,6 @@ public class Review implements Serializable {
 
     private String commentForReviewers;
 
-    @ElementCollection
-    private List<Comment> confidentialComments;
-
     /**
      * Constructs an empty review given paperID and reviewID of
      * that review.
@@ -37,7 +33,6 @@ public class Review implements Serializable {
      */
     public Review(Long paperID, Long reviewerID) {
         this.reviewID = new ReviewID(paperID, reviewerID);
-        this.confidentialComments = new ArrayList<>();
     }
 
     /**
@@ -53,6 +48,5 @@ public class Review implements Serializable {
         this.commentForAuthor = reviewDTO.getCommentForAuthor();
         this.recommendationScore = reviewDTO.getRecommendationScore();
         this.commentForReviewers = reviewDTO.getConfidentialComment();
-        this.confidentialComments = new ArrayList<>();
     }
 }
@@ -26,4 +26,25 @@ public class Track implements Serializable {
 
     @OneToMany(cascade = CascadeType.ALL)
     private List<Paper> papers;
+
+    // Progress of the papers of the track, set when the reviewers are finalized.
+    // Null if the reviewers were finalized before the track kept these counters.
+    private Integer totalPapers;
+
+    private Integer finalizedPapers;
+
+    /**
+     * Creates a track without progress counters.
+     *
+     * @param trackID the ID of the track
+     * @param biddingDeadline the bidding deadline of the track
+     * @param reviewersHaveBeenFinalized whether the reviewers of the track have been finalized
+     * @param papers the papers of the track
+     */
+    public Track(TrackID trackID, Date biddingDeadline, Boolean reviewersHaveBeenFinalized, List<Paper> papers) {
+        this.trackID = trackID;
+        this.biddingDeadline = biddingDeadline;
+        this.reviewersHaveBeenFinalized = reviewersHaveBeenFinalized;
+        this.papers = papers;
+    }
 }
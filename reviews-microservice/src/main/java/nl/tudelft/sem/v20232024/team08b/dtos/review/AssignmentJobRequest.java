@@ -0,0 +1,23 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Schema(description = "The tracks to assign the reviewers of automatically, in parallel")
+public class AssignmentJobRequest {
+    @Schema(description = "The tracks to assign the reviewers of")
+    private List<AssignmentJobTrack> tracks;
+
+    @Schema(description = "The strategy to assign the reviewers with. THREE_SMALLEST if not given",
+        example = "MIN_COST_FLOW")
+    private AssignmentStrategyType strategy;
+}
@@ -0,0 +1,37 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@Schema(description = "Progress of an automatic assignment job over one or more tracks")
+public class AssignmentJobStatus {
+    @Schema(description = "The ID of the job", example = "1")
+    private Long jobID;
+
+    @Schema(description = "The status of the job as a whole")
+    private JobStatus status;
+
+    @Schema(description = "Number of tracks in the job", example = "3")
+    private int tracksTotal;
+
+    @Schema(description = "Number of tracks that succeeded or failed", example = "2")
+    private int tracksFinished;
+
+    @Schema(description = "Number of papers that got new reviewers, over all tracks", example = "80")
+    private int papersAssigned;
+
+    @Schema(description = "Number of new reviews that were assigned, over all tracks", example = "240")
+    private int reviewersAssigned;
+
+    @Schema(description = "Milliseconds since the job was submitted, or until it finished", example = "900")
+    private long elapsedMillis;
+
+    @Schema(description = "The progress of every track of the job")
+    private List<AssignmentJobTrackStatus> tracks;
+}
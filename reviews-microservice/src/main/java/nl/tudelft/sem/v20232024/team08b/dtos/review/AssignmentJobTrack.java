@@ -0,0 +1,20 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Schema(description = "A track to assign the reviewers of in an automatic assignment job")
+public class AssignmentJobTrack {
+    @Schema(description = "The ID of the conference the track belongs to", example = "1")
+    private Long conferenceID;
+
+    @Schema(description = "The ID of the track", example = "2")
+    private Long trackID;
+}
@@ -0,0 +1,34 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@Schema(description = "Progress of the automatic assignment of one track of a job")
+public class AssignmentJobTrackStatus {
+    @Schema(description = "The ID of the conference the track belongs to", example = "1")
+    private Long conferenceID;
+
+    @Schema(description = "The ID of the track", example = "2")
+    private Long trackID;
+
+    @Schema(description = "The status of the assignment of the track")
+    private JobStatus status;
+
+    @Schema(description = "Number of papers of the track that got new reviewers", example = "40")
+    private int papersAssigned;
+
+    @Schema(description = "Number of new reviews that were assigned in the track", example = "120")
+    private int reviewersAssigned;
+
+    @Schema(description = "Milliseconds spent assigning the track so far", example = "350")
+    private long elapsedMillis;
+
+    @Schema(description = "Why the assignment of the track failed. Null unless the track failed",
+        example = "At least One reviewer needed")
+    private String error;
+}
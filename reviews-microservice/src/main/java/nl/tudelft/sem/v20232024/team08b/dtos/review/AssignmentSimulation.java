@@ -0,0 +1,34 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@Schema(description = "The assignment a strategy would make for a track, and how good it is. Nothing is saved")
+public class AssignmentSimulation {
+    @Schema(description = "The strategy that proposed the assignment", example = "MIN_COST_FLOW")
+    private AssignmentStrategyType strategy;
+
+    @Schema(description = "The new reviewers the strategy would assign")
+    private List<ProposedAssignment> assignments;
+
+    @Schema(description = "Variance of the number of papers of the track per reviewer, after the assignment. " +
+        "Every reviewer that bid on a paper of the track or already reviews one is counted", example = "0.25")
+    private double loadVariance;
+
+    @Schema(description = "Fraction of the new assignments where the reviewer bid CAN_REVIEW", example = "0.8")
+    private double canReviewFraction;
+
+    @Schema(description = "The papers that would still have less than three reviewers")
+    private List<Long> unassignedPapers;
+
+    @Schema(description = "Why the strategy could not assign the track. Null if it could",
+        example = "At least One reviewer needed")
+    private String error;
+}
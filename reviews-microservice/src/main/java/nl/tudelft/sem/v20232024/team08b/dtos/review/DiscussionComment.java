@@ -1,6 +1,7 @@
 package nl.tudelft.sem.v20232024.team08b.dtos.review;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,9 +12,13 @@ import nl.tudelft.sem.v20232024.team08b.domain.Comment;
 @Setter
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 @Schema(description = "Discussion comment - it can only be seen by the reviewers and chairs" +
         " and not authors.")
 public class DiscussionComment {
+    @Schema(description = "The ID of the comment. Comments posted later have larger IDs", example = "12")
+    private Long commentID;
+
     @Schema(description = "The ID of the commenter", example = "1")
     Long commenterID;
 
@@ -23,9 +28,10 @@ public class DiscussionComment {
     /**
      * Constructor for creating a DiscussionComment DTO from a Comment domain object.
      *
-     * @param comment The Comment object from which to extract the ID of the commenter and the text
+     * @param comment The Comment object from which to extract its ID, the ID of the commenter and the text
      */
     public DiscussionComment(Comment comment) {
+        this.commentID = comment.getId();
         this.commenterID = comment.getAuthorID();
         this.comment = comment.getText();
     }
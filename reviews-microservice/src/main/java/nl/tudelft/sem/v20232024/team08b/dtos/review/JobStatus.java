@@ -0,0 +1,15 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Status of an automatic assignment job, or of one of its tracks.\n\n" +
+    "PENDING: Waiting for a free worker.\n\n" +
+    "RUNNING: The reviewers are being assigned.\n\n" +
+    "SUCCEEDED: The reviewers of every track were assigned.\n\n" +
+    "FAILED: The reviewers of at least one track could not be assigned. The other tracks are not affected.")
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Schema(description = "A reviewer to assign to a paper")
+public class ManualAssignment {
+    @Schema(description = "The ID of the paper", example = "2")
+    private Long paperID;
+
+    @Schema(description = "The ID of the reviewer", example = "1")
+    private Long reviewerID;
+}
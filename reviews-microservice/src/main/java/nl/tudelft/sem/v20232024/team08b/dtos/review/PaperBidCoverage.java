@@ -0,0 +1,26 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "The number of bids of every kind on a paper")
+public class PaperBidCoverage {
+    @Schema(description = "The ID of the paper", example = "2")
+    private Long paperID;
+
+    @Schema(description = "Number of CAN_REVIEW bids", example = "3")
+    private int canReview;
+
+    @Schema(description = "Number of NEUTRAL bids", example = "1")
+    private int neutral;
+
+    @Schema(description = "Number of NOT_REVIEW bids", example = "0")
+    private int notReview;
+}
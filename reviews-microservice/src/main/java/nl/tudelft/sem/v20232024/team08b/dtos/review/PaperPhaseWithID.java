@@ -0,0 +1,20 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Includes the ID of a paper and its current phase")
+public class PaperPhaseWithID {
+    @Schema(description = "The ID of the paper", example = "2")
+    private Long paperID;
+
+    @Schema(description = "The current phase of the paper", example = "IN_REVIEW")
+    private PaperPhase phase;
+}
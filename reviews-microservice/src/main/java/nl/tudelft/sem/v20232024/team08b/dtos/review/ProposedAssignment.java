@@ -0,0 +1,18 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@AllArgsConstructor
+@Getter
+@Setter
+@Schema(description = "A reviewer that a strategy would assign to a paper")
+public class ProposedAssignment {
+    @Schema(description = "The ID of the paper", example = "2")
+    private Long paperID;
+
+    @Schema(description = "The ID of the reviewer", example = "1")
+    private Long reviewerID;
+}
@@ -0,0 +1,23 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "The number of papers of a track a reviewer is assigned to, and has reviewed")
+public class ReviewerWorkload {
+    @Schema(description = "The ID of the reviewer", example = "4")
+    private Long reviewerID;
+
+    @Schema(description = "Number of papers the reviewer is assigned to", example = "3")
+    private int assigned;
+
+    @Schema(description = "Number of papers the reviewer has submitted a review for", example = "2")
+    private int submitted;
+}
@@ -0,0 +1,40 @@
+package nl.tudelft.sem.v20232024.team08b.dtos.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
+import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Distributions of the scores, workloads of the reviewers and bids of the papers in a track")
+public class TrackReviewAnalytics {
+    @Schema(description = "Number of submitted reviews with every recommendation score")
+    private Map<RecommendationScore, Integer> recommendationScores;
+
+    @Schema(description = "Number of submitted reviews with every confidence score")
+    private Map<ConfidenceScore, Integer> confidenceScores;
+
+    @Schema(description = "Workload of every reviewer assigned to a paper of the track")
+    private List<ReviewerWorkload> reviewerWorkloads;
+
+    @Schema(description = "Bids on every paper of the track")
+    private List<PaperBidCoverage> bidCoverage;
+
+    @Schema(description = "Number of papers whose reviews have all been submitted", example = "4")
+    private int reviewedPapers;
+
+    @Schema(description = "Number of reviewed papers whose reviews all accept or all reject it", example = "3")
+    private int agreedPapers;
+
+    @Schema(description = "Share of the reviewed papers whose reviewers agree, between 0 and 1", example = "0.75")
+    private double agreementRate;
+}
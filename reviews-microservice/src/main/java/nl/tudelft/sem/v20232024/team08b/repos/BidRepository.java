@@ -4,11 +4,33 @@ package nl.tudelft.sem.v20232024.team08b.repos;
 import nl.tudelft.sem.v20232024.team08b.domain.Bid;
 import nl.tudelft.sem.v20232024.team08b.domain.BidID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BidRepository extends JpaRepository<Bid, BidID> {
     List<Bid> findByPaperID(Long paperID);
+
+    /**
+     * Finds all the bids on any of the given papers.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return a list of bids on those papers
+     */
+    List<Bid> findByPaperIDIn(Collection<Long> paperIDs);
+
+    /**
+     * Counts the bids of every kind on each of the given papers, without loading the bids.
+     * Kinds of bids a paper did not get are left out.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return the number of bids of every kind on every paper
+     */
+    @Query("SELECT b.paperID AS paperID, b.bid AS bid, COUNT(b) AS bids FROM Bid b "
+            + "WHERE b.paperID IN :paperIDs GROUP BY b.paperID, b.bid")
+    List<PaperBidCount> countBidsPerPaper(@Param("paperIDs") Collection<Long> paperIDs);
 }
@@ -0,0 +1,41 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import nl.tudelft.sem.v20232024.team08b.domain.Comment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * Finds the comments on a review posted after a given comment, oldest first.
+     *
+     * @param paperID the ID of the paper of the review
+     * @param reviewerID the ID of the reviewer who wrote the review
+     * @param after the ID of the comment to start after
+     * @param pageable the number of comments to return
+     * @return the comments posted after the given one
+     */
+    List<Comment> findByPaperIDAndReviewerIDAndIdGreaterThanOrderByIdAsc(Long paperID, Long reviewerID,
+                                                                         Long after, Pageable pageable);
+
+    /**
+     * Finds a page of the comments on a review, oldest first. Since the IDs of the comments
+     * grow in the order they are posted, the ID of the last comment of a page is the cursor
+     * of the next one, and the index on the review and ID is used to seek to it.
+     *
+     * @param paperID the ID of the paper of the review
+     * @param reviewerID the ID of the reviewer who wrote the review
+     * @param after the ID of the last comment already read, or null to start from the first one
+     * @param limit the most comments to return
+     * @return the comments posted after the given one
+     */
+    default List<Comment> findPage(Long paperID, Long reviewerID, Long after, int limit) {
+        return findByPaperIDAndReviewerIDAndIdGreaterThanOrderByIdAsc(paperID, reviewerID,
+                after == null ? 0L : after, PageRequest.of(0, limit));
+    }
+}
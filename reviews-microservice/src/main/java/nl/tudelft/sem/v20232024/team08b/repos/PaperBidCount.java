@@ -0,0 +1,14 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import nl.tudelft.sem.v20232024.team08b.dtos.review.Bid;
+
+/**
+ * The number of bids of one kind on a paper.
+ */
+public interface PaperBidCount {
+    Long getPaperID();
+
+    Bid getBid();
+
+    Long getBids();
+}
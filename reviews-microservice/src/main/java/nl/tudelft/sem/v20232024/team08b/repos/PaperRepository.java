@@ -1,9 +1,51 @@
 package nl.tudelft.sem.v20232024.team08b.repos;
 
 import nl.tudelft.sem.v20232024.team08b.domain.Paper;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PaperRepository extends JpaRepository<Paper, Long> {
+
+    /**
+     * Finalizes the reviews of a paper and sets its status, unless it was already finalized.
+     * The check and the update are a single statement, so a paper is finalized only once
+     * even if the discussion is finalized by several requests at the same time.
+     *
+     * @param paperID the ID of the paper
+     * @param status the new status of the paper
+     * @return 1 if the paper was finalized by this call, 0 otherwise
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Paper p SET p.status = :status, p.reviewsHaveBeenFinalized = true "
+            + "WHERE p.id = :paperID AND p.reviewsHaveBeenFinalized = false")
+    int finalizeReviews(@Param("paperID") Long paperID, @Param("status") PaperStatus status);
+
+    /**
+     * Finds which of the given papers have had their reviews finalized.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return the IDs of the finalized papers
+     */
+    @Query("SELECT p.id FROM Paper p WHERE p.id IN :paperIDs AND p.reviewsHaveBeenFinalized = true")
+    List<Long> findFinalizedPaperIDs(@Param("paperIDs") Collection<Long> paperIDs);
+
+    /**
+     * Counts the papers of a track per status, joining them through the track. Papers
+     * that are not stored with the track yet are not counted.
+     *
+     * @param trackID the ID of the track
+     * @return the number of papers of every status that at least one paper of the track has
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS papers FROM TrackReviews t JOIN t.papers p "
+            + "WHERE t.trackID = :trackID GROUP BY p.status")
+    List<PaperStatusCount> countPapersPerStatus(@Param("trackID") TrackID trackID);
 }
@@ -0,0 +1,12 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+/**
+ * The number of reviewers assigned to a paper, and how many of them have submitted their review.
+ */
+public interface PaperReviewCount {
+    Long getPaperID();
+
+    Long getReviews();
+
+    Long getSubmitted();
+}
@@ -0,0 +1,8 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+/**
+ * The scores a reviewer gave to a paper, together with the ID of the paper.
+ */
+public interface PaperReviewScores extends ReviewScores {
+    Long getPaperID();
+}
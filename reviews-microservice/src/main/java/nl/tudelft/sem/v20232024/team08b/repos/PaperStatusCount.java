@@ -0,0 +1,12 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+
+/**
+ * The number of papers that have a given status.
+ */
+public interface PaperStatusCount {
+    PaperStatus getStatus();
+
+    Long getPapers();
+}
@@ -2,14 +2,18 @@ package nl.tudelft.sem.v20232024.team08b.repos;
 
 import nl.tudelft.sem.v20232024.team08b.domain.Review;
 import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, ReviewID> {
+public interface ReviewRepository extends JpaRepository<Review, ReviewID>, ReviewRepositoryCustom {
 
     /**
      * Checks whether a user is assigned as a reviewer to a specific paper.
@@ -19,7 +23,7 @@ public interface ReviewRepository extends JpaRepository<Review, ReviewID> {
      * @return whether the user is assigned to the paper or not
      */
     default boolean isReviewerForPaper(Long reviewerID, Long paperID) {
-        return findById(new ReviewID(paperID, reviewerID)).isPresent();
+        return existsById(new ReviewID(paperID, reviewerID));
     }
 
     /**
@@ -30,6 +34,83 @@ public interface ReviewRepository extends JpaRepository<Review, ReviewID> {
      */
     List<Review> findByReviewIDPaperID(Long paperID);
 
+    /**
+     * Finds a list of reviews that are assigned to any of the given papers.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return a list of reviews of those papers
+     */
+    List<Review> findByReviewIDPaperIDIn(Collection<Long> paperIDs);
+
+    /**
+     * Finds the IDs of the reviewers assigned to a paper, without loading the reviews.
+     *
+     * @param paperID the ID of the paper
+     * @return the IDs of the reviewers of the paper
+     */
+    @Query("SELECT r.reviewID.reviewerID FROM Review r WHERE r.reviewID.paperID = :paperID")
+    List<Long> findReviewersByPaper(@Param("paperID") Long paperID);
+
+    /**
+     * Finds the scores of the reviews of a paper, without loading their comments.
+     *
+     * @param paperID the ID of the paper
+     * @return the scores of every review of the paper
+     */
+    @Query("SELECT r.reviewID.reviewerID AS reviewerID, r.confidenceScore AS confidenceScore, "
+            + "r.recommendationScore AS recommendationScore FROM Review r WHERE r.reviewID.paperID = :paperID")
+    List<ReviewScores> findScoresByPaper(@Param("paperID") Long paperID);
+
+    /**
+     * Streams the scores of the reviews of the given papers, ordered by paper, without
+     * loading their comments. It has to be called inside a transaction, and the stream
+     * has to be closed.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return the scores of every review of the papers, the reviews of a paper one after another
+     */
+    @Query("SELECT r.reviewID.paperID AS paperID, r.reviewID.reviewerID AS reviewerID, "
+            + "r.confidenceScore AS confidenceScore, r.recommendationScore AS recommendationScore "
+            + "FROM Review r WHERE r.reviewID.paperID IN :paperIDs ORDER BY r.reviewID.paperID")
+    Stream<PaperReviewScores> streamScoresByPapers(@Param("paperIDs") Collection<Long> paperIDs);
+
+    /**
+     * Counts, for each of the given papers, how many reviewers are assigned to it and how
+     * many of them have submitted their review, without loading the reviews themselves.
+     * Papers without any reviewer are left out.
+     *
+     * @param paperIDs the IDs of the papers
+     * @return the number of reviews of every paper with at least one reviewer
+     */
+    @Query("SELECT r.reviewID.paperID AS paperID, COUNT(r) AS reviews, "
+            + "SUM(CASE WHEN r.confidenceScore IS NULL THEN 0 ELSE 1 END) AS submitted FROM Review r "
+            + "WHERE r.reviewID.paperID IN :paperIDs GROUP BY r.reviewID.paperID")
+    List<PaperReviewCount> countReviewsPerPaper(@Param("paperIDs") Collection<Long> paperIDs);
+
+    /**
+     * Checks whether a reviewer of a paper has not submitted their review yet.
+     *
+     * @param paperID the ID of the paper
+     * @return whether the paper has a review without a confidence score
+     */
+    boolean existsByReviewIDPaperIDAndConfidenceScoreIsNull(Long paperID);
+
+    /**
+     * Counts, for each of the given reviewers, how many papers of a track they review.
+     * The papers are joined through the track, so none of them has to be loaded.
+     * Reviewers without any paper of the track are left out.
+     *
+     * @param reviewerIDs the IDs of the reviewers
+     * @param trackID the ID of the track
+     * @return the number of papers of the track of every reviewer with at least one of them
+     */
+    @Query("SELECT r.reviewID.reviewerID AS reviewerID, COUNT(r) AS papers "
+            + "FROM TrackReviews t JOIN t.papers p, Review r "
+            + "WHERE t.trackID = :trackID AND r.reviewID.paperID = p.id AND r.reviewID.reviewerID IN :reviewerIDs "
+            + "GROUP BY r.reviewID.reviewerID")
+    List<ReviewerLoad> countPapersPerReviewer(@Param("reviewerIDs") Collection<Long> reviewerIDs,
+                                              @Param("trackID") TrackID trackID);
+
     /**
      * Finds a list of reviewIDs that are assigned to the reviewer.
      *
@@ -38,8 +119,12 @@ public interface ReviewRepository extends JpaRepository<Review, ReviewID> {
      */
     List<Review> findByReviewIDReviewerID(Long reviewerID);
 
-    default List<Long> findPapersByReviewer(Long reviewerID) {
-        List<Review> reviews = findByReviewIDReviewerID(reviewerID);
-        return reviews.stream().map(x -> x.getReviewID().getPaperID()).collect(Collectors.toList());
-    }
+    /**
+     * Finds the IDs of the papers the reviewer is assigned to, without loading the reviews.
+     *
+     * @param reviewerID the ID of the reviewer
+     * @return the IDs of the papers of the reviewer
+     */
+    @Query("SELECT r.reviewID.paperID FROM Review r WHERE r.reviewID.reviewerID = :reviewerID")
+    List<Long> findPapersByReviewer(@Param("reviewerID") Long reviewerID);
 }
@@ -0,0 +1,20 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import java.util.Collection;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Write paths of the review repository that Spring Data can not derive.
+ */
+public interface ReviewRepositoryCustom {
+    /**
+     * Inserts new reviews in a single transaction, sending the INSERTs to the database
+     * in JDBC batches. Unlike saveAll, it does not look up every review first to decide
+     * whether to insert or update it, so none of the reviews may exist yet.
+     *
+     * @param reviews the new reviews
+     */
+    @Transactional
+    void insertAll(Collection<Review> reviews);
+}
@@ -0,0 +1,41 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import java.util.Collection;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    /**
+     * Default constructor.
+     *
+     * @param batchSize the number of INSERTs sent to the database at once
+     */
+    public ReviewRepositoryCustomImpl(@Value("${hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(Collection<Review> reviews) {
+        int pending = 0;
+        for (Review review : reviews) {
+            entityManager.persist(review);
+            pending++;
+            // Flushing a full batch and clearing the context keeps it from growing with the whole track
+            if (pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+    }
+}
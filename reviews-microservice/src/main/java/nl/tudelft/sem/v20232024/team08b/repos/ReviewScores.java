@@ -0,0 +1,15 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
+import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
+
+/**
+ * The scores a reviewer gave to a paper, without the comments of the review.
+ */
+public interface ReviewScores {
+    Long getReviewerID();
+
+    ConfidenceScore getConfidenceScore();
+
+    RecommendationScore getRecommendationScore();
+}
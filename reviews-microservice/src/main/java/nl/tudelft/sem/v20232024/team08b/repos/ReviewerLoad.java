@@ -0,0 +1,10 @@
+package nl.tudelft.sem.v20232024.team08b.repos;
+
+/**
+ * The number of papers a reviewer reviews, out of a given set of papers.
+ */
+public interface ReviewerLoad {
+    Long getReviewerID();
+
+    Long getPapers();
+}
@@ -3,8 +3,13 @@ package nl.tudelft.sem.v20232024.team08b.repos;
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,32 @@ public interface TrackRepository extends JpaRepository<Track, TrackID> {
         return findById(new TrackID(conferenceID, trackID));
     }
 
+    /**
+     * Finds the tracks whose bidding deadline is after the given time.
+     *
+     * @param time the time to compare with
+     * @return the tracks whose bidding has not closed at that time
+     */
+    List<Track> findByBiddingDeadlineAfter(Date time);
+
+    /**
+     * Finds the IDs of the papers of a track, without loading the papers themselves.
+     * Unlike the papers of a loaded track, this does not need an open session, so it
+     * can be used outside of a transaction, e.g. by background workers.
+     *
+     * @param trackID the ID of the track
+     * @return the IDs of the papers of the track. Empty if the track does not exist
+     */
+    @Query("SELECT p.id FROM TrackReviews t JOIN t.papers p WHERE t.trackID = :trackID")
+    List<Long> findPaperIDs(@Param("trackID") TrackID trackID);
+
+    /**
+     * Counts one more finalized paper of the track.
+     *
+     * @param trackID the ID of the track
+     * @return the number of updated tracks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TrackReviews t SET t.finalizedPapers = t.finalizedPapers + 1 WHERE t.trackID = :trackID")
+    int incrementFinalizedPapers(@Param("trackID") TrackID trackID);
 }
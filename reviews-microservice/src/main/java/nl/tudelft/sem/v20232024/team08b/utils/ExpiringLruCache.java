@@ -0,0 +1,154 @@
+package nl.tudelft.sem.v20232024.team08b.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe, size-bounded cache whose entries expire a fixed time after
+ * they were stored. When the cache is full, the least recently used entry is evicted.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public class ExpiringLruCache<K, V> {
+    private final long timeToLiveMillis;
+    private final int maximumSize;
+    private final Clock clock;
+    private final Map<K, CacheEntry<V>> entries;
+    private Consumer<K> removalListener = key -> { };
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache that uses the system clock.
+     *
+     * @param timeToLive how long an entry stays valid after being stored
+     * @param maximumSize the maximum number of entries kept at the same time
+     */
+    public ExpiringLruCache(Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with a given clock. Used for testing purposes.
+     *
+     * @param timeToLive how long an entry stays valid after being stored
+     * @param maximumSize the maximum number of entries kept at the same time
+     * @param clock the clock used to expire entries
+     */
+    public ExpiringLruCache(Duration timeToLive, int maximumSize, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size of a cache must be positive");
+        }
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        // Access-ordered map, so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                boolean full = size() > ExpiringLruCache.this.maximumSize;
+                if (full) {
+                    evictions++;
+                    removalListener.accept(eldest.getKey());
+                }
+                return full;
+            }
+        };
+    }
+
+    /**
+     * Gets a value from the cache, if it is present and has not yet expired.
+     *
+     * @param key the key to look up
+     * @return the cached value, or empty if there is no valid entry
+     */
+    public synchronized Optional<V> get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key);
+            removalListener.accept(key);
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Stores a value in the cache, replacing any previous value of the key.
+     *
+     * @param key the key of the value
+     * @param value the value to store
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, clock.millis() + timeToLiveMillis));
+    }
+
+    /**
+     * Removes the entry of a key from the cache.
+     *
+     * @param key the key to invalidate
+     */
+    public synchronized void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            removalListener.accept(key);
+        }
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        entries.keySet().forEach(removalListener);
+        entries.clear();
+    }
+
+    /**
+     * Sets the listener that is told the key of every entry that leaves the cache,
+     * whether it was evicted, expired or invalidated. Entries replaced by a newer
+     * value of the same key are not reported. The listener is called while the cache
+     * is locked, so it must be quick and must not use the cache itself.
+     *
+     * @param removalListener the listener to call with the removed keys
+     */
+    public synchronized void setRemovalListener(Consumer<K> removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
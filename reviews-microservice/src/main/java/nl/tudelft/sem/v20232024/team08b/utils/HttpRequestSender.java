@@ -1,25 +1,36 @@
 package nl.tudelft.sem.v20232024.team08b.utils;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.config.DownstreamProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Component
 public class HttpRequestSender {
     final HttpClient httpClient;
+    private final Duration requestTimeout;
 
     /**
      * Default constructor.
+     *
+     * @param httpClient the configured HTTP client
+     * @param downstreamProperties the settings of the calls to other microservices
      */
-    public HttpRequestSender() {
-        this.httpClient = HttpClient.newHttpClient();
+    @Autowired
+    public HttpRequestSender(HttpClient httpClient, DownstreamProperties downstreamProperties) {
+        this.httpClient = httpClient;
+        this.requestTimeout = downstreamProperties.getRequestTimeout();
     }
 
     /**
@@ -28,7 +39,7 @@ public class HttpRequestSender {
      * @param httpClient httpClient to be injected
      */
     public HttpRequestSender(HttpClient httpClient) {
-        this.httpClient = httpClient;
+        this(httpClient, new DownstreamProperties());
     }
 
     /**
@@ -38,16 +49,9 @@ public class HttpRequestSender {
      * @return the response in JSON format
      */
     public String sendGetRequest(String url) throws NotFoundException {
-        HttpRequest request;
         try {
-            request = HttpRequest.newBuilder()
-                    .uri(new URI(url))
-                    .header("Content-Type", "application/json")
-                    .GET()
-                    .build();
-
             var response = httpClient.send(
-                    request, HttpResponse.BodyHandlers.ofString());
+                    buildGetRequest(url), HttpResponse.BodyHandlers.ofString());
 
             HttpStatus status = HttpStatus.valueOf(response.statusCode());
 
@@ -56,8 +60,144 @@ public class HttpRequestSender {
                 case NOT_FOUND -> throw new NotFoundException("404, not found");
                 default -> throw new RuntimeException("Failed to parse status.");
             };
-        } catch (URISyntaxException | InterruptedException | IOException e) {
+        } catch (InterruptedException | IOException e) {
             throw new RuntimeException("GET request failed");
         }
     }
+
+    /**
+     * Method that performs a GET request to a given endpoint, and deserializes the response
+     * straight from the received bytes, without building a String first. The whole body is
+     * received within the request timeout.
+     *
+     * @param url the URL of the endpoint
+     * @param reader the reader used to deserialize the response
+     * @param <T> the type of the deserialized response
+     * @return the deserialized response
+     * @throws NotFoundException if the endpoint responds with 404
+     */
+    public <T> T sendGetRequest(String url, ObjectReader reader) throws NotFoundException {
+        try {
+            var response = httpClient.send(
+                    buildGetRequest(url), HttpResponse.BodyHandlers.ofByteArray());
+            return readBody(response, reader);
+        } catch (InterruptedException | IOException e) {
+            throw new RuntimeException("GET request failed");
+        }
+    }
+
+    /**
+     * Method that performs a GET request to a given endpoint without blocking the calling thread.
+     * A 404 response completes the future with a NotFoundException, wrapped in a CompletionException.
+     *
+     * @param url the URL of the endpoint
+     * @return a future of the response in JSON format
+     */
+    public CompletableFuture<String> sendGetRequestAsync(String url) {
+        return httpClient.sendAsync(buildGetRequest(url), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    try {
+                        verifyStatus(response.statusCode());
+                    } catch (NotFoundException e) {
+                        throw new CompletionException(e);
+                    }
+                    return response.body();
+                });
+    }
+
+    /**
+     * Method that performs a GET request to a given endpoint without blocking the calling thread,
+     * and deserializes the response straight from the received bytes, without building a String first.
+     * The future only completes once the whole body was received, so the deserialization never waits
+     * for a slow body on a thread of the HTTP client, and the request timeout covers the body too.
+     * A 404 response completes the future with a NotFoundException, wrapped in a CompletionException.
+     *
+     * @param url the URL of the endpoint
+     * @param reader the reader used to deserialize the response
+     * @param <T> the type of the deserialized response
+     * @return a future of the deserialized response
+     */
+    public <T> CompletableFuture<T> sendGetRequestAsync(String url, ObjectReader reader) {
+        return httpClient.sendAsync(buildGetRequest(url), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    try {
+                        return readBody(response, reader);
+                    } catch (NotFoundException e) {
+                        throw new CompletionException(e);
+                    } catch (IOException e) {
+                        throw new CompletionException(new RuntimeException("Failed to parse the HTTP response"));
+                    }
+                });
+    }
+
+    /**
+     * Builds a GET request to a given endpoint.
+     *
+     * @param url the URL of the endpoint
+     * @return the built request
+     */
+    private HttpRequest buildGetRequest(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .GET()
+                .build();
+    }
+
+    /**
+     * Checks the status of a response and deserializes its body.
+     *
+     * @param response the received response
+     * @param reader the reader used to deserialize the response
+     * @param <T> the type of the deserialized response
+     * @return the deserialized response
+     * @throws NotFoundException if the status of the response is 404
+     * @throws IOException if the body could not be read or deserialized
+     */
+    private static <T> T readBody(HttpResponse<byte[]> response,
+                                  ObjectReader reader) throws NotFoundException, IOException {
+        verifyStatus(response.statusCode());
+        return reader.readValue(response.body());
+    }
+
+    /**
+     * Checks the status code of a response.
+     *
+     * @param statusCode the received status code
+     * @throws NotFoundException if the status is 404
+     */
+    private static void verifyStatus(int statusCode) throws NotFoundException {
+        switch (HttpStatus.valueOf(statusCode)) {
+            case OK, CREATED -> {
+                return;
+            }
+            case NOT_FOUND -> throw new NotFoundException("404, not found");
+            default -> throw new RuntimeException("Failed to parse status.");
+        }
+    }
+
+    /**
+     * Waits for the result of an asynchronous request, rethrowing the exceptions
+     * it completed with in the same way as the blocking requests do.
+     *
+     * @param future the future to wait for
+     * @param <T> the type of the result
+     * @return the result of the future
+     * @throws NotFoundException if the requested resource does not exist
+     */
+    public static <T> T await(CompletableFuture<T> future) throws NotFoundException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof NotFoundException) {
+                throw (NotFoundException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("GET request failed", cause);
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package nl.tudelft.sem.v20232024.team08b.utils;
+
+import java.util.Arrays;
+
+/**
+ * Min-cost max-flow over a network with integer capacities and non-negative integer costs.
+ * The network is kept in primitive arrays, so that networks with hundreds of thousands of
+ * edges can be solved without allocating an object per edge.
+ *
+ * <p>It uses the primal-dual method: Dijkstra computes the node potentials, and then a
+ * blocking flow is pushed over all the edges of zero reduced cost at once, instead of a
+ * single path per shortest path search. When the costs are small integers, as in the
+ * assignment of reviewers, only a few such rounds are needed.
+ */
+public class MinCostFlow {
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+
+    private final int nodes;
+    private final int[] head;
+    private int[] next;
+    private int[] to;
+    private int[] capacity;
+    private int[] cost;
+    private int edges;
+
+    private final long[] potential;
+    private final long[] distance;
+    private final int[] level;
+    private final int[] iterator;
+    private long totalCost;
+
+    /**
+     * Creates an empty network.
+     *
+     * @param nodes the number of nodes, numbered from 0
+     * @param expectedEdges the number of edges that will be added, used to size the arrays
+     */
+    public MinCostFlow(int nodes, int expectedEdges) {
+        this.nodes = nodes;
+        this.head = new int[nodes];
+        Arrays.fill(head, -1);
+        int size = Math.max(2, 2 * expectedEdges);
+        this.next = new int[size];
+        this.to = new int[size];
+        this.capacity = new int[size];
+        this.cost = new int[size];
+        this.potential = new long[nodes];
+        this.distance = new long[nodes];
+        this.level = new int[nodes];
+        this.iterator = new int[nodes];
+    }
+
+    /**
+     * Adds a directed edge to the network.
+     *
+     * @param from the node the edge starts at
+     * @param target the node the edge ends at
+     * @param edgeCapacity the capacity of the edge
+     * @param edgeCost the cost of one unit of flow over the edge. Must not be negative
+     * @return the index of the edge, to get its flow once the network is solved
+     */
+    public int addEdge(int from, int target, int edgeCapacity, int edgeCost) {
+        if (edgeCost < 0) {
+            throw new IllegalArgumentException("Costs must not be negative");
+        }
+        ensureCapacity(edges + 2);
+        int forward = edges;
+        link(forward, from, target, edgeCapacity, edgeCost);
+        link(forward + 1, target, from, 0, -edgeCost);
+        edges += 2;
+        return forward;
+    }
+
+    /**
+     * Sends as much flow as possible from the source to the sink, at the lowest total cost.
+     *
+     * @param source the source node
+     * @param sink the sink node
+     * @return the amount of flow sent
+     */
+    public long solve(int source, int sink) {
+        long flow = 0;
+        while (computePotentials(source, sink)) {
+            while (buildLevels(source, sink)) {
+                System.arraycopy(head, 0, iterator, 0, nodes);
+                long pushed = push(source, sink, Integer.MAX_VALUE);
+                while (pushed > 0) {
+                    flow += pushed;
+                    pushed = push(source, sink, Integer.MAX_VALUE);
+                }
+            }
+        }
+        return flow;
+    }
+
+    /**
+     * Gets the flow over an edge of the solved network.
+     *
+     * @param edge the index of the edge, as returned by addEdge
+     * @return the flow over the edge
+     */
+    public int getFlow(int edge) {
+        return capacity[edge ^ 1];
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    private void link(int edge, int from, int target, int edgeCapacity, int edgeCost) {
+        to[edge] = target;
+        capacity[edge] = edgeCapacity;
+        cost[edge] = edgeCost;
+        next[edge] = head[from];
+        head[from] = edge;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= to.length) {
+            return;
+        }
+        int size = Math.max(required, 2 * to.length);
+        next = Arrays.copyOf(next, size);
+        to = Arrays.copyOf(to, size);
+        capacity = Arrays.copyOf(capacity, size);
+        cost = Arrays.copyOf(cost, size);
+    }
+
+    private long reducedCost(int from, int edge) {
+        return cost[edge] + potential[from] - potential[to[edge]];
+    }
+
+    /**
+     * Runs Dijkstra over the residual network with the reduced costs, and adds the
+     * distances to the potentials, so that every shortest path gets zero reduced cost.
+     *
+     * @param source the source node
+     * @param sink the sink node
+     * @return whether the sink can still be reached
+     */
+    private boolean computePotentials(int source, int sink) {
+        Arrays.fill(distance, INFINITY);
+        distance[source] = 0;
+        LongHeap heap = new LongHeap(nodes);
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            long nodeDistance = heap.peekKey();
+            int node = heap.pop();
+            if (nodeDistance > distance[node]) {
+                continue;
+            }
+            relax(node, nodeDistance, heap);
+        }
+        if (distance[sink] >= INFINITY) {
+            return false;
+        }
+        for (int node = 0; node < nodes; node++) {
+            // Unreachable nodes get the largest distance, which keeps every reduced cost non-negative
+            potential[node] += Math.min(distance[node], distance[sink]);
+        }
+        return true;
+    }
+
+    /**
+     * Shortens the distances of the neighbours of a node, if the path over that node is shorter.
+     *
+     * @param node the node whose distance is final
+     * @param nodeDistance the distance of the node
+     * @param heap the nodes still to visit
+     */
+    private void relax(int node, long nodeDistance, LongHeap heap) {
+        for (int edge = head[node]; edge != -1; edge = next[edge]) {
+            long candidate = nodeDistance + reducedCost(node, edge);
+            if (capacity[edge] > 0 && candidate < distance[to[edge]]) {
+                distance[to[edge]] = candidate;
+                heap.push(candidate, to[edge]);
+            }
+        }
+    }
+
+    /**
+     * Levels the nodes by a breadth-first search over the edges of zero reduced cost,
+     * so that the blocking flow can not run in circles.
+     *
+     * @param source the source node
+     * @param sink the sink node
+     * @return whether the sink can be reached over edges of zero reduced cost
+     */
+    private boolean buildLevels(int source, int sink) {
+        Arrays.fill(level, -1);
+        int[] queue = new int[nodes];
+        int first = 0;
+        int last = 0;
+        queue[last++] = source;
+        level[source] = 0;
+        while (first < last) {
+            int node = queue[first++];
+            for (int edge = head[node]; edge != -1; edge = next[edge]) {
+                if (capacity[edge] > 0 && level[to[edge]] < 0 && reducedCost(node, edge) == 0) {
+                    level[to[edge]] = level[node] + 1;
+                    queue[last++] = to[edge];
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+
+    /**
+     * Pushes flow along a path of the level graph, as in Dinic's algorithm.
+     *
+     * @param node the node the path is at
+     * @param sink the sink node
+     * @param limit the most flow that may be pushed
+     * @return the flow that was pushed
+     */
+    private long push(int node, int sink, int limit) {
+        if (node == sink) {
+            return limit;
+        }
+        for (; iterator[node] != -1; iterator[node] = next[iterator[node]]) {
+            int edge = iterator[node];
+            if (isAdmissible(node, edge)) {
+                long pushed = push(to[edge], sink, Math.min(limit, capacity[edge]));
+                if (pushed > 0) {
+                    capacity[edge] -= (int) pushed;
+                    capacity[edge ^ 1] += (int) pushed;
+                    totalCost += pushed * cost[edge];
+                    return pushed;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private boolean isAdmissible(int node, int edge) {
+        return capacity[edge] > 0 && level[to[edge]] == level[node] + 1 && reducedCost(node, edge) == 0;
+    }
+
+    /**
+     * Binary min-heap of nodes keyed by their distance, kept in primitive arrays.
+     */
+    private static class LongHeap {
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongHeap(int initialCapacity) {
+            keys = new long[Math.max(1, initialCapacity)];
+            values = new int[keys.length];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peekKey() {
+            return keys[0];
+        }
+
+        void push(long key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            int index = size++;
+            while (index > 0 && keys[(index - 1) / 2] > key) {
+                int parent = (index - 1) / 2;
+                keys[index] = keys[parent];
+                values[index] = values[parent];
+                index = parent;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+
+        int pop() {
+            int top = values[0];
+            size--;
+            long key = keys[size];
+            int value = values[size];
+            int index = 0;
+            while (2 * index + 1 < size) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[index] = keys[child];
+                values[index] = values[child];
+                index = child;
+            }
+            keys[index] = key;
+            values[index] = value;
+            return top;
+        }
+    }
+}
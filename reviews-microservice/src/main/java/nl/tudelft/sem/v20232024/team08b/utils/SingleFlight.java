@@ -0,0 +1,117 @@
+package nl.tudelft.sem.v20232024.team08b.utils;
+
+import javassist.NotFoundException;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: while a call for a key is in flight,
+ * every other caller asking for that key waits for it and shares its result instead of
+ * starting a call of its own. Results are not kept once the call has finished.
+ * Blocking and asynchronous calls share the same calls in flight, so a blocking
+ * caller can join an asynchronous call for the same key and the other way around.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Performs a call for a key, or joins the call for that key that is already in flight.
+     *
+     * @param key the key of the call
+     * @param call the call to perform if none is in flight for this key
+     * @return the result of the call
+     * @throws NotFoundException if the call threw a NotFoundException
+     */
+    public V execute(K key, Callable<V> call) throws NotFoundException {
+        CompletableFuture<V> ownCall = new CompletableFuture<>();
+        CompletableFuture<V> existingCall = inFlight.putIfAbsent(key, ownCall);
+        if (existingCall != null) {
+            coalesced.incrementAndGet();
+            return HttpRequestSender.await(existingCall);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V result = call.call();
+            ownCall.complete(result);
+            return result;
+        } catch (NotFoundException | RuntimeException e) {
+            ownCall.completeExceptionally(e);
+            throw e;
+        } catch (Exception e) {
+            ownCall.completeExceptionally(e);
+            throw new RuntimeException("The call failed", e);
+        } finally {
+            // The waiting callers already hold the future, so the next caller can start a fresh call
+            inFlight.remove(key, ownCall);
+        }
+    }
+
+    /**
+     * Starts an asynchronous call for a key, or joins the call for that key that is
+     * already in flight. The calling thread is not blocked in either case.
+     *
+     * @param key the key of the call
+     * @param call starts the call if none is in flight for this key
+     * @return a future of the result of the call
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> ownCall = new CompletableFuture<>();
+        CompletableFuture<V> existingCall = inFlight.putIfAbsent(key, ownCall);
+        if (existingCall != null) {
+            coalesced.incrementAndGet();
+            // A copy, so that a caller completing its future does not complete the others
+            return existingCall.copy();
+        }
+
+        executions.incrementAndGet();
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            inFlight.remove(key, ownCall);
+            ownCall.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, e) -> {
+            inFlight.remove(key, ownCall);
+            if (e == null) {
+                ownCall.complete(value);
+            } else if (e instanceof CompletionException && e.getCause() != null) {
+                ownCall.completeExceptionally(e.getCause());
+            } else {
+                ownCall.completeExceptionally(e);
+            }
+        });
+        return ownCall.copy();
+    }
+
+    /**
+     * Gets the number of calls that were actually performed.
+     *
+     * @return the number of performed calls since startup
+     */
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    /**
+     * Gets the number of callers that shared the result of a call already in flight.
+     *
+     * @return the number of coalesced calls since startup
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+}
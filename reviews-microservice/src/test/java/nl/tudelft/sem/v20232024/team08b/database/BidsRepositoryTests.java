@@ -2,6 +2,7 @@ package nl.tudelft.sem.v20232024.team08b.database;
 
 import nl.tudelft.sem.v20232024.team08b.domain.Bid;
 import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperBidCount;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.runner.RunWith;
@@ -10,6 +11,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @DataJpaTest
 @RunWith(SpringRunner.class)
@@ -44,4 +47,40 @@ public class BidsRepositoryTests {
         Assertions.assertTrue(result.containsAll(expected));
         Assertions.assertTrue(expected.containsAll(result));
     }
+
+    @Test
+    public void testFindByPaperIDIn() {
+        bidRepository.save(new Bid(5L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+        bidRepository.save(new Bid(6L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL));
+        bidRepository.save(new Bid(7L, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+
+        var result = bidRepository.findByPaperIDIn(List.of(5L, 6L));
+
+        var expected = List.of(
+                new Bid(5L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW),
+                new Bid(6L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL)
+        );
+
+        Assertions.assertEquals(expected.size(), result.size());
+        Assertions.assertTrue(result.containsAll(expected));
+    }
+
+    @Test
+    public void testCountBidsPerPaper() {
+        bidRepository.save(new Bid(5L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+        bidRepository.save(new Bid(5L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+        bidRepository.save(new Bid(5L, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NOT_REVIEW));
+        bidRepository.save(new Bid(6L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL));
+        bidRepository.save(new Bid(7L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+
+        Map<String, Long> result = bidRepository.countBidsPerPaper(List.of(5L, 6L)).stream()
+                .collect(Collectors.toMap(count -> count.getPaperID() + " " + count.getBid(), PaperBidCount::getBids));
+
+        var expected = Map.of(
+                "5 CAN_REVIEW", 2L,
+                "5 NOT_REVIEW", 1L,
+                "6 NEUTRAL", 1L
+        );
+        Assertions.assertEquals(expected, result);
+    }
 }
@@ -0,0 +1,43 @@
+package nl.tudelft.sem.v20232024.team08b.database;
+
+import nl.tudelft.sem.v20232024.team08b.domain.Comment;
+import nl.tudelft.sem.v20232024.team08b.repos.CommentRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+@RunWith(SpringRunner.class)
+public class CommentRepositoryTests {
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private List<String> texts(List<Comment> comments) {
+        return comments.stream().map(Comment::getText).collect(Collectors.toList());
+    }
+
+    @Test
+    public void findPageInPostingOrder() {
+        commentRepository.save(new Comment(10L, 2L, 5L, "first"));
+        commentRepository.save(new Comment(10L, 3L, 5L, "other review"));
+        commentRepository.save(new Comment(10L, 2L, 6L, "second"));
+        commentRepository.save(new Comment(11L, 2L, 5L, "other paper"));
+        commentRepository.save(new Comment(10L, 2L, 5L, "third"));
+
+        List<Comment> firstPage = commentRepository.findPage(10L, 2L, null, 2);
+        assertThat(texts(firstPage)).isEqualTo(List.of("first", "second"));
+
+        // The ID of the last comment of a page is the cursor of the next one
+        Long cursor = firstPage.get(1).getId();
+        assertThat(texts(commentRepository.findPage(10L, 2L, cursor, 2))).isEqualTo(List.of("third"));
+        Long last = commentRepository.findPage(10L, 2L, cursor, 2).get(0).getId();
+        assertThat(commentRepository.findPage(10L, 2L, last, 2).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+package nl.tudelft.sem.v20232024.team08b.database;
+
+import nl.tudelft.sem.v20232024.team08b.domain.Paper;
+import nl.tudelft.sem.v20232024.team08b.domain.Track;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperStatusCount;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+@RunWith(SpringRunner.class)
+public class PaperRepositoryTests {
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Test
+    public void finalizeReviewsOnlyOnce() {
+        Paper paper = paperRepository.save(new Paper(null, null, PaperStatus.NOT_DECIDED, false));
+
+        assertThat(paperRepository.finalizeReviews(paper.getId(), PaperStatus.ACCEPTED)).isEqualTo(1);
+        assertThat(paperRepository.finalizeReviews(paper.getId(), PaperStatus.REJECTED)).isEqualTo(0);
+
+        Paper finalized = paperRepository.findById(paper.getId()).orElseThrow();
+        assertThat(finalized.getReviewsHaveBeenFinalized()).isTrue();
+        assertThat(finalized.getStatus()).isEqualTo(PaperStatus.ACCEPTED);
+    }
+
+    @Test
+    public void finalizeMissingPaper() {
+        assertThat(paperRepository.finalizeReviews(42L, PaperStatus.ACCEPTED)).isEqualTo(0);
+    }
+
+    @Test
+    public void findFinalizedPaperIDs() {
+        Paper open = paperRepository.save(new Paper(null, null, PaperStatus.NOT_DECIDED, false));
+        Paper finalized = paperRepository.save(new Paper(null, null, PaperStatus.ACCEPTED, true));
+        paperRepository.save(new Paper(null, null, PaperStatus.REJECTED, true));
+
+        List<Long> result = paperRepository.findFinalizedPaperIDs(List.of(open.getId(), finalized.getId(), 42L));
+        assertThat(result.toArray()).isEqualTo(new Long[] {finalized.getId()});
+    }
+
+    @Test
+    public void countPapersPerStatus() {
+        TrackID trackID = new TrackID(1L, 2L);
+        trackRepository.save(new Track(trackID, Date.valueOf(LocalDate.of(2012, 11, 20)), false,
+                new ArrayList<>(List.of(new Paper(null, null, PaperStatus.ACCEPTED, true),
+                        new Paper(null, null, PaperStatus.ACCEPTED, true),
+                        new Paper(null, null, PaperStatus.NOT_DECIDED, false)))));
+        // Papers of another track, and a paper without a track
+        trackRepository.save(new Track(new TrackID(1L, 3L), Date.valueOf(LocalDate.of(2012, 11, 20)), false,
+                new ArrayList<>(List.of(new Paper(null, null, PaperStatus.REJECTED, true)))));
+        paperRepository.save(new Paper(null, null, PaperStatus.REJECTED, true));
+
+        Map<PaperStatus, Long> result = paperRepository.countPapersPerStatus(trackID)
+                .stream()
+                .collect(Collectors.toMap(PaperStatusCount::getStatus, PaperStatusCount::getPapers));
+        assertThat(result).isEqualTo(Map.of(PaperStatus.ACCEPTED, 2L, PaperStatus.NOT_DECIDED, 1L));
+        assertThat(paperRepository.countPapersPerStatus(new TrackID(5L, 6L)).isEmpty()).isTrue();
+    }
+}
@@ -1,16 +1,32 @@
 package nl.tudelft.sem.v20232024.team08b.database;
 
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
+import nl.tudelft.sem.v20232024.team08b.domain.Paper;
+import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
 import nl.tudelft.sem.v20232024.team08b.domain.Review;
 import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
+import nl.tudelft.sem.v20232024.team08b.domain.Track;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewCount;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewScores;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewScores;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewerLoad;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.fail;
@@ -21,6 +37,9 @@ public class ReviewsRepositoryTests {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private TrackRepository trackRepository;
+
     @Test
     public void test() {
         Review review = new Review();
@@ -100,4 +119,130 @@ public class ReviewsRepositoryTests {
         List<Long> list = reviewRepository.findPapersByReviewer(2L);
         assertThat(list).isEqualTo(List.of(10L, 11L));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findByPaperIDIn() {
+        Review review1 = new Review(10L, 2L);
+        Review review2 = new Review(11L, 3L);
+        Review review3 = new Review(12L, 2L);
+
+        // Add them to repo
+        reviewRepository.save(review1);
+        reviewRepository.save(review2);
+        reviewRepository.save(review3);
+
+        List<ReviewID> got = reviewRepository.findByReviewIDPaperIDIn(List.of(10L, 11L)).stream()
+                .map(Review::getReviewID).collect(Collectors.toList());
+        assertThat(got.size()).isEqualTo(2);
+        assertThat(got.contains(review1.getReviewID()) && got.contains(review2.getReviewID())).isTrue();
+    }
+
+    @Test
+    public void countPapersPerReviewer() {
+        TrackID trackID = new TrackID(1L, 2L);
+        Track track = trackRepository.save(new Track(trackID, Date.valueOf(LocalDate.of(2012, 11, 20)), false,
+                new ArrayList<>(List.of(new Paper(), new Paper()))));
+        Track otherTrack = trackRepository.save(new Track(new TrackID(1L, 3L), Date.valueOf(LocalDate.of(2012, 11, 20)),
+                false, new ArrayList<>(List.of(new Paper()))));
+        Long first = track.getPapers().get(0).getId();
+        Long second = track.getPapers().get(1).getId();
+        Long other = otherTrack.getPapers().get(0).getId();
+        reviewRepository.save(new Review(first, 2L));
+        reviewRepository.save(new Review(second, 2L));
+        reviewRepository.save(new Review(other, 2L));
+        reviewRepository.save(new Review(first, 3L));
+        reviewRepository.save(new Review(first, 4L));
+
+        // The other paper is not in the track, and reviewer 4 is not one of the reviewers
+        Map<Long, Long> got = reviewRepository.countPapersPerReviewer(List.of(2L, 3L, 5L), trackID)
+                .stream().collect(Collectors.toMap(ReviewerLoad::getReviewerID, ReviewerLoad::getPapers));
+        assertThat(got).isEqualTo(Map.of(2L, 2L, 3L, 1L));
+        assertThat(reviewRepository.countPapersPerReviewer(List.of(2L), new TrackID(5L, 6L)).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void insertAll() {
+        List<Review> reviews = List.of(new Review(10L, 2L), new Review(10L, 3L), new Review(11L, 2L));
+        reviewRepository.insertAll(reviews);
+
+        List<ReviewID> got = reviewRepository.findAll().stream()
+                .map(Review::getReviewID).collect(Collectors.toList());
+        assertThat(got.size()).isEqualTo(3);
+        assertThat(got.containsAll(reviews.stream().map(Review::getReviewID).collect(Collectors.toList()))).isTrue();
+    }
+
+    @Test
+    public void countReviewsPerPaper() {
+        Review submitted = new Review(10L, 2L);
+        submitted.setConfidenceScore(ConfidenceScore.EXPERT);
+        reviewRepository.save(submitted);
+        reviewRepository.save(new Review(10L, 3L));
+        reviewRepository.save(new Review(11L, 2L));
+        reviewRepository.save(new Review(12L, 2L));
+
+        // Paper 12 is not one of the papers, and paper 13 has no reviewers
+        Map<Long, List<Long>> got = reviewRepository.countReviewsPerPaper(List.of(10L, 11L, 13L)).stream()
+                .collect(Collectors.toMap(PaperReviewCount::getPaperID,
+                    count -> List.of(count.getReviews(), count.getSubmitted())));
+        assertThat(got).isEqualTo(Map.of(10L, List.of(2L, 1L), 11L, List.of(1L, 0L)));
+    }
+
+    @Test
+    public void streamScoresByPapers() {
+        Review submitted = new Review(11L, 2L);
+        submitted.setConfidenceScore(ConfidenceScore.EXPERT);
+        submitted.setRecommendationScore(RecommendationScore.WEAK_ACCEPT);
+        reviewRepository.save(submitted);
+        reviewRepository.save(new Review(10L, 3L));
+        reviewRepository.save(new Review(11L, 3L));
+        reviewRepository.save(new Review(12L, 2L));
+
+        List<Long> paperIDs;
+        try (Stream<PaperReviewScores> scores = reviewRepository.streamScoresByPapers(List.of(10L, 11L))) {
+            List<PaperReviewScores> got = scores.collect(Collectors.toList());
+            paperIDs = got.stream().map(PaperReviewScores::getPaperID).collect(Collectors.toList());
+            assertThat(got.stream().filter(score -> score.getConfidenceScore() != null)
+                    .map(PaperReviewScores::getRecommendationScore)
+                    .collect(Collectors.toList())).isEqualTo(List.of(RecommendationScore.WEAK_ACCEPT));
+        }
+        // The reviews of a paper come one after another
+        assertThat(paperIDs).isEqualTo(List.of(10L, 11L, 11L));
+    }
+
+    @Test
+    public void existsUnsubmittedReview() {
+        Review submitted = new Review(10L, 2L);
+        submitted.setConfidenceScore(ConfidenceScore.EXPERT);
+        reviewRepository.save(submitted);
+        reviewRepository.save(new Review(11L, 2L));
+
+        assertThat(reviewRepository.existsByReviewIDPaperIDAndConfidenceScoreIsNull(10L)).isFalse();
+        assertThat(reviewRepository.existsByReviewIDPaperIDAndConfidenceScoreIsNull(11L)).isTrue();
+    }
+
+    @Test
+    public void findReviewersByPaper() {
+        reviewRepository.save(new Review(10L, 2L));
+        reviewRepository.save(new Review(10L, 3L));
+        reviewRepository.save(new Review(11L, 4L));
+
+        List<Long> got = reviewRepository.findReviewersByPaper(10L);
+        assertThat(got.size()).isEqualTo(2);
+        assertThat(got.containsAll(List.of(2L, 3L))).isTrue();
+    }
+
+    @Test
+    public void findScoresByPaper() {
+        Review review = new Review(10L, 2L);
+        review.setConfidenceScore(ConfidenceScore.BASIC);
+        review.setRecommendationScore(RecommendationScore.WEAK_ACCEPT);
+        reviewRepository.save(review);
+        reviewRepository.save(new Review(11L, 2L));
+
+        List<ReviewScores> got = reviewRepository.findScoresByPaper(10L);
+        assertThat(got.size()).isEqualTo(1);
+        assertThat(got.get(0).getReviewerID()).isEqualTo(2L);
+        assertThat(got.get(0).getConfidenceScore()).isEqualTo(ConfidenceScore.BASIC);
+        assertThat(got.get(0).getRecommendationScore()).isEqualTo(RecommendationScore.WEAK_ACCEPT);
+    }
+}
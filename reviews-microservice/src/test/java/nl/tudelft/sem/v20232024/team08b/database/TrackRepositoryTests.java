@@ -1,5 +1,6 @@
 package nl.tudelft.sem.v20232024.team08b.database;
 
+import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.Track;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
@@ -11,7 +12,10 @@ import org.springframework.test.context.junit4.SpringRunner;
 
 import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -40,4 +44,40 @@ public class TrackRepositoryTests {
         Optional<Track> optional = trackRepository.findById(conferenceID, trackID);
         assertThat(optional).isEqualTo(Optional.of(track));
     }
+
+    @Test
+    public void incrementCounters() {
+        TrackID id = new TrackID(1L, 2L);
+        Track track = new Track(id, Date.valueOf(LocalDate.of(2012, 11, 20)), true, null);
+        track.setTotalPapers(3);
+        track.setFinalizedPapers(0);
+        trackRepository.save(track);
+
+        assertThat(trackRepository.incrementFinalizedPapers(id)).isEqualTo(1);
+        assertThat(trackRepository.incrementFinalizedPapers(id)).isEqualTo(1);
+
+        Track saved = trackRepository.findById(id).orElseThrow();
+        assertThat(saved.getTotalPapers()).isEqualTo(3);
+        assertThat(saved.getFinalizedPapers()).isEqualTo(2);
+    }
+
+    @Test
+    public void incrementCountersOfMissingTrack() {
+        assertThat(trackRepository.incrementFinalizedPapers(new TrackID(5L, 6L))).isEqualTo(0);
+    }
+
+    @Test
+    public void findPaperIDs() {
+        TrackID id = new TrackID(1L, 2L);
+        Track track = trackRepository.save(new Track(id, Date.valueOf(LocalDate.of(2012, 11, 20)), false,
+                new ArrayList<>(List.of(new Paper(), new Paper()))));
+        trackRepository.save(new Track(new TrackID(1L, 3L), Date.valueOf(LocalDate.of(2012, 11, 20)), false,
+                new ArrayList<>(List.of(new Paper()))));
+
+        List<Long> expected = track.getPapers().stream().map(Paper::getId).sorted().collect(Collectors.toList());
+        List<Long> got = trackRepository.findPaperIDs(id).stream().sorted().collect(Collectors.toList());
+        assertThat(got).isEqualTo(expected);
+        assertThat(got.size()).isEqualTo(2);
+        assertThat(trackRepository.findPaperIDs(new TrackID(5L, 6L)).isEmpty()).isTrue();
+    }
 }
@@ -0,0 +1,127 @@
+package nl.tudelft.sem.v20232024.team08b.integration;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.AssignmentJobService;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.application.verification.AssignmentsVerification;
+import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.communicators.UsersMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Paper;
+import nl.tudelft.sem.v20232024.team08b.domain.Track;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrack;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.JobStatus;
+import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * Runs automatic assignment jobs end to end, on the real workers and database, with
+ * only the other microservices and the permission checks mocked. The tracks are
+ * assigned on worker threads, outside of any request or transaction of the test.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureTestDatabase
+public class AssignmentJobsTests {
+    @Autowired
+    private AssignmentJobService assignmentJobService;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @MockBean
+    private SubmissionsMicroserviceCommunicator submissionsCommunicator;
+
+    @MockBean
+    private UsersMicroserviceCommunicator usersCommunicator;
+
+    @MockBean
+    private AssignmentsVerification assignmentsVerification;
+
+    private final Long requesterID = 1L;
+    private final TrackID trackID = new TrackID(2L, 3L);
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAll();
+        bidRepository.deleteAll();
+        trackRepository.deleteAll();
+    }
+
+    /**
+     * Polls a job until all its tracks finished.
+     *
+     * @param jobID the ID of the job
+     * @return the last progress of the job
+     */
+    private AssignmentJobStatus awaitJob(Long jobID)
+            throws NotFoundException, ForbiddenAccessException, InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        AssignmentJobStatus status = assignmentJobService.getJob(requesterID, jobID);
+        while (status.getTracksFinished() < status.getTracksTotal() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            status = assignmentJobService.getJob(requesterID, jobID);
+        }
+        return status;
+    }
+
+    @Test
+    void jobAssignsTheTrackOnAWorker() throws Exception {
+        Track track = trackRepository.save(new Track(trackID, Date.valueOf(LocalDate.of(2030, 1, 1)), false,
+                new ArrayList<>(List.of(new Paper(), new Paper()))));
+        List<Long> paperIDs = track.getPapers().stream().map(Paper::getId).collect(Collectors.toList());
+        for (Long paperID : paperIDs) {
+            for (long bidderID = 10L; bidderID < 13L; bidderID++) {
+                bidRepository.save(new Bid(paperID, bidderID,
+                        nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+            }
+        }
+
+        AssignmentJobStatus submitted = assignmentJobService.submit(requesterID, new AssignmentJobRequest(
+                List.of(new AssignmentJobTrack(trackID.getConferenceID(), trackID.getTrackID())),
+                AssignmentStrategyType.THREE_SMALLEST));
+        AssignmentJobStatus finished = awaitJob(submitted.getJobID());
+
+        assertThat(finished.getTracks().get(0).getError()).isNull();
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(finished.getReviewersAssigned()).isEqualTo(6);
+        assertThat(reviewRepository.findByReviewIDPaperIDIn(paperIDs).size()).isEqualTo(6);
+    }
+
+    @Test
+    void jobFailsForMissingTrack() throws Exception {
+        AssignmentJobStatus submitted = assignmentJobService.submit(requesterID, new AssignmentJobRequest(
+                List.of(new AssignmentJobTrack(5L, 6L)), AssignmentStrategyType.THREE_SMALLEST));
+        AssignmentJobStatus finished = awaitJob(submitted.getJobID());
+
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(finished.getTracks().get(0).getError()).isEqualTo("Track was not found");
+    }
+}
@@ -2,9 +2,18 @@ package nl.tudelft.sem.v20232024.team08b.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.AssignmentJobService;
 import nl.tudelft.sem.v20232024.team08b.application.AssignmentsService;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
 import nl.tudelft.sem.v20232024.team08b.controllers.AssignmentsController;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrack;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.JobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ManualAssignment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ProposedAssignment;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ConflictOfInterestException;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +39,7 @@ public class AssignmentsControllerTests {
 
 
     private final AssignmentsService assignmentsService = Mockito.mock(AssignmentsService.class);
+    private final AssignmentJobService assignmentJobService = Mockito.mock(AssignmentJobService.class);
     private final ObjectMapper objectMapper = new ObjectMapper();
 
 
@@ -42,7 +52,7 @@ public class AssignmentsControllerTests {
 
     @BeforeEach
     void setup() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new AssignmentsController(assignmentsService)).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new AssignmentsController(assignmentsService, assignmentJobService)).build();
     }
 
     @Test
@@ -185,7 +195,7 @@ public class AssignmentsControllerTests {
     @Test
     void assignAutoReturnsOk() throws Exception {
 
-        doNothing().when(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        doNothing().when(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
 
         mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
                 .param("requesterID", String.valueOf(requesterID))
@@ -193,55 +203,77 @@ public class AssignmentsControllerTests {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
+    }
+
+    @Test
+    void assignAutoWithStrategy() throws Exception {
+        mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
+                .param("requesterID", String.valueOf(requesterID))
+                .param("strategy", "MIN_COST_FLOW")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, AssignmentStrategyType.MIN_COST_FLOW);
+    }
+
+    @Test
+    void assignAutoWithUnknownStrategy() throws Exception {
+        mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
+                .param("requesterID", String.valueOf(requesterID))
+                .param("strategy", "RANDOM")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(assignmentsService);
     }
 
     @Test
     void assignAutoReturnsNotFound() throws Exception {
         doThrow(new NotFoundException("Not found")).when(assignmentsService).assignAuto(requesterID,
-            conferenceID, trackID);
+            conferenceID, trackID, null);
 
         mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
                 .param("requesterID", String.valueOf(requesterID))
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isNotFound());
 
-        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
     }
 
     @Test
     void assignAutoReturnsForbidden() throws Exception {
 
         doThrow(new IllegalAccessException("Forbidden")).when(assignmentsService).assignAuto(requesterID,
-            conferenceID, trackID);
+            conferenceID, trackID, null);
 
         mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
                 .param("requesterID", String.valueOf(requesterID))
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isForbidden());
 
-        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
     }
 
     @Test
     void assignAutoReturnsConflict() throws Exception {
 
         doThrow(new IllegalArgumentException("CONFLICT")).when(assignmentsService).assignAuto(requesterID,
-            conferenceID, trackID);
+            conferenceID, trackID, null);
 
         mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
                 .param("requesterID", String.valueOf(requesterID))
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isConflict());
 
-        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
     }
 
     @Test
     void assignAutoReturnsInternalServerError() throws Exception {
 
         doThrow(new RuntimeException("Internal server error")).when(assignmentsService).assignAuto(requesterID,
-            conferenceID, trackID);
+            conferenceID, trackID, null);
 
 
         mockMvc.perform(put("/conferences/{conferenceID}/tracks/{trackID}/automatic", conferenceID, trackID)
@@ -249,7 +281,7 @@ public class AssignmentsControllerTests {
             .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isInternalServerError());
 
-        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID);
+        verify(assignmentsService).assignAuto(requesterID, conferenceID, trackID, null);
     }
 
     @Test
@@ -365,6 +397,32 @@ public class AssignmentsControllerTests {
         verify(assignmentsService, times(1)).remove(requesterID, paperID, reviewerID);
     }
 
+    @Test
+    void testRemoveAndReplace() throws Exception {
+        when(assignmentsService.removeAndReplace(requesterID, paperID, reviewerID)).thenReturn(List.of(7L));
+
+        mockMvc.perform(delete("/papers/{paperID}/assignees/{reviewerID}", paperID, reviewerID)
+                .param("requesterID", String.valueOf(requesterID))
+                .param("replace", "true")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+
+        verify(assignmentsService).removeAndReplace(requesterID, paperID, reviewerID);
+        verify(assignmentsService, never()).remove(requesterID, paperID, reviewerID);
+    }
+
+    @Test
+    void testRemoveAndReplaceForbidden() throws Exception {
+        when(assignmentsService.removeAndReplace(requesterID, paperID, reviewerID))
+                .thenThrow(new IllegalAccessException());
+
+        mockMvc.perform(delete("/papers/{paperID}/assignees/{reviewerID}", paperID, reviewerID)
+                .param("requesterID", String.valueOf(requesterID))
+                .param("replace", "true")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isForbidden());
+    }
+
     @Test
     void testRemoveNotFound() throws Exception {
 
@@ -404,4 +462,178 @@ public class AssignmentsControllerTests {
 
         verify(assignmentsService, times(1)).remove(requesterID, paperID, reviewerID);
     }
+
+    private AssignmentJobStatus jobStatus(JobStatus status) {
+        return new AssignmentJobStatus(7L, status, 1, 0, 0, 0, 0L, List.of());
+    }
+
+    @Test
+    void submitAssignmentJobReturnsAccepted() throws Exception {
+        AssignmentJobRequest request = new AssignmentJobRequest(
+                List.of(new AssignmentJobTrack(conferenceID, trackID)), AssignmentStrategyType.MIN_COST_FLOW);
+        AssignmentJobStatus status = jobStatus(JobStatus.PENDING);
+        when(assignmentJobService.submit(eq(requesterID), any())).thenReturn(status);
+
+        mockMvc.perform(post("/automatic-assignment-jobs")
+                .param("requesterID", String.valueOf(requesterID))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isAccepted())
+            .andExpect(content().json(objectMapper.writeValueAsString(status)));
+
+        verify(assignmentJobService).submit(eq(requesterID), argThat(submitted ->
+                submitted.getStrategy() == AssignmentStrategyType.MIN_COST_FLOW
+                        && submitted.getTracks().get(0).getTrackID().equals(trackID)));
+    }
+
+    @Test
+    void submitAssignmentJobWithoutTracks() throws Exception {
+        when(assignmentJobService.submit(eq(requesterID), any())).thenThrow(new IllegalArgumentException());
+
+        mockMvc.perform(post("/automatic-assignment-jobs")
+                .param("requesterID", String.valueOf(requesterID))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tracks\": []}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAssignmentJobReturnsOk() throws Exception {
+        AssignmentJobStatus status = jobStatus(JobStatus.RUNNING);
+        when(assignmentJobService.getJob(requesterID, 7L)).thenReturn(status);
+
+        mockMvc.perform(get("/automatic-assignment-jobs/{jobID}", 7L)
+                .param("requesterID", String.valueOf(requesterID)))
+            .andExpect(status().isOk())
+            .andExpect(content().json(objectMapper.writeValueAsString(status)));
+    }
+
+    @Test
+    void getAssignmentJobReturnsNotFound() throws Exception {
+        when(assignmentJobService.getJob(requesterID, 7L)).thenThrow(new NotFoundException("No such job"));
+
+        mockMvc.perform(get("/automatic-assignment-jobs/{jobID}", 7L)
+                .param("requesterID", String.valueOf(requesterID)))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAssignmentJobReturnsForbidden() throws Exception {
+        when(assignmentJobService.getJob(requesterID, 7L)).thenThrow(new ForbiddenAccessException());
+
+        mockMvc.perform(get("/automatic-assignment-jobs/{jobID}", 7L)
+                .param("requesterID", String.valueOf(requesterID)))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void simulateAssignmentReturnsOk() throws Exception {
+        List<AssignmentSimulation> simulations = List.of(new AssignmentSimulation(AssignmentStrategyType.MIN_COST_FLOW,
+                List.of(new ProposedAssignment(paperID, reviewerID)), 0.5, 1.0, List.of(), null));
+        when(assignmentsService.simulate(requesterID, conferenceID, trackID,
+                List.of(AssignmentStrategyType.MIN_COST_FLOW, AssignmentStrategyType.THREE_SMALLEST)))
+                .thenReturn(simulations);
+
+        mockMvc.perform(get("/conferences/{conferenceID}/tracks/{trackID}/automatic/simulation", conferenceID, trackID)
+                .param("requesterID", String.valueOf(requesterID))
+                .param("strategies", "MIN_COST_FLOW", "THREE_SMALLEST"))
+            .andExpect(status().isOk())
+            .andExpect(content().json(objectMapper.writeValueAsString(simulations)));
+    }
+
+    @Test
+    void simulateAssignmentWithoutStrategies() throws Exception {
+        when(assignmentsService.simulate(requesterID, conferenceID, trackID, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/conferences/{conferenceID}/tracks/{trackID}/automatic/simulation", conferenceID, trackID)
+                .param("requesterID", String.valueOf(requesterID)))
+            .andExpect(status().isOk());
+
+        verify(assignmentsService).simulate(requesterID, conferenceID, trackID, null);
+    }
+
+    /**
+     * Simulates an exception inside the simulation and checks if the
+     * correct status code was returned.
+     *
+     * @param exception the exception to be thrown
+     * @param expected the expected status code
+     * @throws Exception method can throw exception
+     */
+    private void simulateAssignmentExceptions(Exception exception, int expected) throws Exception {
+        when(assignmentsService.simulate(requesterID, conferenceID, trackID, null)).thenThrow(exception);
+
+        mockMvc.perform(get("/conferences/{conferenceID}/tracks/{trackID}/automatic/simulation", conferenceID, trackID)
+                .param("requesterID", String.valueOf(requesterID)))
+            .andExpect(status().is(expected));
+    }
+
+    @Test
+    void simulateAssignmentNotFound() throws Exception {
+        simulateAssignmentExceptions(new NotFoundException("No such track"), 404);
+    }
+
+    @Test
+    void simulateAssignmentForbidden() throws Exception {
+        simulateAssignmentExceptions(new IllegalAccessException(), 403);
+    }
+
+    @Test
+    void simulateAssignmentUnknownStrategy() throws Exception {
+        simulateAssignmentExceptions(new IllegalArgumentException(), 400);
+    }
+
+    @Test
+    void simulateAssignmentInternalServerError() throws Exception {
+        simulateAssignmentExceptions(new RuntimeException(), 500);
+    }
+
+    /**
+     * Calls the bulk manual assignment with a service that throws the given exception.
+     *
+     * @param exception the exception thrown by the service, or null if it succeeds
+     * @param expected the expected status code
+     * @throws Exception method can throw exception
+     */
+    private void assignManualBulk(Exception exception, int expected) throws Exception {
+        if (exception != null) {
+            doThrow(exception).when(assignmentsService).assignManually(eq(requesterID), anyList());
+        }
+        List<ManualAssignment> assignments = List.of(new ManualAssignment(paperID, reviewerID),
+                new ManualAssignment(paperID + 1, reviewerID));
+
+        mockMvc.perform(post("/papers/assignees")
+                .param("requesterID", String.valueOf(requesterID))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(assignments)))
+            .andExpect(status().is(expected));
+
+        verify(assignmentsService).assignManually(eq(requesterID), argThat((List<ManualAssignment> got) ->
+                got.size() == 2 && got.get(1).getPaperID().equals(paperID + 1)));
+    }
+
+    @Test
+    void assignManualBulkReturnsCreated() throws Exception {
+        assignManualBulk(null, 201);
+    }
+
+    @Test
+    void assignManualBulkWithoutAssignments() throws Exception {
+        assignManualBulk(new IllegalArgumentException(), 400);
+    }
+
+    @Test
+    void assignManualBulkReturnsNotFound() throws Exception {
+        assignManualBulk(new NotFoundException("No such paper"), 404);
+    }
+
+    @Test
+    void assignManualBulkReturnsForbidden() throws Exception {
+        assignManualBulk(new IllegalAccessException(), 403);
+    }
+
+    @Test
+    void assignManualBulkReturnsConflict() throws Exception {
+        assignManualBulk(new ConflictOfInterestException("COI"), 409);
+    }
 }
@@ -0,0 +1,76 @@
+package nl.tudelft.sem.v20232024.team08b.integration;
+
+import nl.tudelft.sem.v20232024.team08b.application.verification.DiscussionVerification;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Opens more streams of discussion comments than there are connections in the pool,
+ * through the whole web stack. An open stream must not keep a connection of the pool,
+ * or the requests after it would wait for a connection until they time out.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+    "jdbc.url=jdbc:h2:mem:discussion-streams;DB_CLOSE_DELAY=-1",
+    "jdbc.pool.maximum-size=2",
+    "jdbc.pool.minimum-idle=1",
+    "jdbc.pool.connection-timeout-ms=500"
+})
+@AutoConfigureMockMvc
+public class DiscussionStreamsTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @MockBean
+    private DiscussionVerification discussionVerification;
+
+    @Value("${jdbc.pool.maximum-size}")
+    private int poolSize;
+
+    private final Long requesterID = 1L;
+    private final Long reviewerID = 2L;
+    private final Long paperID = 3L;
+
+    @BeforeEach
+    void setup() {
+        reviewRepository.save(new Review(paperID, reviewerID));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAll();
+    }
+
+    @Test
+    void moreStreamsThanConnections() throws Exception {
+        for (int stream = 0; stream < poolSize + 2; stream++) {
+            mockMvc.perform(get("/papers/{paperID}/reviews/by-reviewer/{reviewerID}/discussion-comments/stream",
+                            paperID, reviewerID)
+                            .param("requesterID", requesterID.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+        }
+
+        // The streams are still open, and the database can still be used
+        assertThat(reviewRepository.count()).isEqualTo(1L);
+    }
+}
@@ -20,7 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -434,10 +436,10 @@ public class ReviewsControllerTests {
     public void getDiscussionCommentsSuccessfully() throws Exception {
 
         List<DiscussionComment> comments = new ArrayList<>();
-        comments.add(new DiscussionComment(2L, "comment"));
-        comments.add(new DiscussionComment(3L, "comment"));
+        comments.add(new DiscussionComment(8L, 2L, "comment"));
+        comments.add(new DiscussionComment(9L, 3L, "comment"));
 
-        when(discussionService.getDiscussionComments(requesterID, reviewerID, paperID)).thenReturn(comments);
+        when(discussionService.getDiscussionComments(requesterID, reviewerID, paperID, 7L, 2)).thenReturn(comments);
 
         String expectedJSON = objectMapper.writeValueAsString(comments);
 
@@ -445,12 +447,14 @@ public class ReviewsControllerTests {
                 MockMvcRequestBuilders
                         .get("/papers/{paperID}/reviews/by-reviewer/{reviewerID}/discussion-comments", paperID, reviewerID)
                         .param("requesterID", requesterID.toString())
+                        .param("after", "7")
+                        .param("limit", "2")
                         .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(MockMvcResultMatchers.status().is(200))
                 .andExpect(MockMvcResultMatchers.content().json(expectedJSON));
 
-        verify(discussionService).getDiscussionComments(requesterID, reviewerID, paperID);
+        verify(discussionService).getDiscussionComments(requesterID, reviewerID, paperID, 7L, 2);
     }
 
     /**
@@ -463,7 +467,7 @@ public class ReviewsControllerTests {
      */
     public void getDiscussionCommentsWithException(Exception exception, int expected) throws Exception {
 
-        doThrow(exception).when(discussionService).getDiscussionComments(requesterID, reviewerID, paperID);
+        doThrow(exception).when(discussionService).getDiscussionComments(requesterID, reviewerID, paperID, null, 100);
 
         mockMvc.perform(
                 MockMvcRequestBuilders
@@ -473,7 +477,12 @@ public class ReviewsControllerTests {
                 )
                 .andExpect(MockMvcResultMatchers.status().is(expected));
 
-        verify(discussionService).getDiscussionComments(requesterID, reviewerID, paperID);
+        verify(discussionService).getDiscussionComments(requesterID, reviewerID, paperID, null, 100);
+    }
+
+    @Test
+    void getDiscussionComments_InvalidLimit() throws Exception {
+        getDiscussionCommentsWithException(new IllegalArgumentException(""), 400);
     }
 
     @Test
@@ -490,4 +499,78 @@ public class ReviewsControllerTests {
     void getDiscussionComments_InternalError() throws Exception {
         getDiscussionCommentsWithException(new RuntimeException(""), 500);
     }
+
+    @Test
+    void streamDiscussionCommentsOpensStream() throws Exception {
+        when(discussionService.streamDiscussionComments(requesterID, reviewerID, paperID, 7L))
+                .thenReturn(new SseEmitter());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/papers/{paperID}/reviews/by-reviewer/{reviewerID}/discussion-comments/stream",
+                                paperID, reviewerID)
+                        .param("requesterID", requesterID.toString())
+                        .param("after", "7")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(MockMvcResultMatchers.status().is(200))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        verify(discussionService).streamDiscussionComments(requesterID, reviewerID, paperID, 7L);
+    }
+
+    @Test
+    void streamDiscussionCommentsResumesFromLastEventID() throws Exception {
+        when(discussionService.streamDiscussionComments(requesterID, reviewerID, paperID, 9L))
+                .thenReturn(new SseEmitter());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/papers/{paperID}/reviews/by-reviewer/{reviewerID}/discussion-comments/stream",
+                                paperID, reviewerID)
+                        .param("requesterID", requesterID.toString())
+                        .param("after", "7")
+                        .header("Last-Event-ID", "9")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(MockMvcResultMatchers.status().is(200));
+
+        verify(discussionService).streamDiscussionComments(requesterID, reviewerID, paperID, 9L);
+    }
+
+    /**
+     * Simulates an exception when opening a stream of discussion comments
+     * and checks for correct status code.
+     *
+     * @param exception the exception to be thrown
+     * @param expected the expected status code
+     * @throws Exception method can throw exception
+     */
+    public void streamDiscussionCommentsWithException(Exception exception, int expected) throws Exception {
+        doThrow(exception).when(discussionService).streamDiscussionComments(requesterID, reviewerID, paperID, null);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/papers/{paperID}/reviews/by-reviewer/{reviewerID}/discussion-comments/stream",
+                                paperID, reviewerID)
+                        .param("requesterID", requesterID.toString())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(MockMvcResultMatchers.status().is(expected));
+    }
+
+    @Test
+    void streamDiscussionComments_NoSuchPaper() throws Exception {
+        streamDiscussionCommentsWithException(new NotFoundException(""), 404);
+    }
+
+    @Test
+    void streamDiscussionComments_IllegalAccess() throws Exception {
+        streamDiscussionCommentsWithException(new IllegalAccessException(""), 403);
+    }
+
+    @Test
+    void streamDiscussionComments_InternalError() throws Exception {
+        streamDiscussionCommentsWithException(new IOException(""), 500);
+    }
 }
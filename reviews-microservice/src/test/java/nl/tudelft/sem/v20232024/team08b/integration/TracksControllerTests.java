@@ -7,9 +7,12 @@ import nl.tudelft.sem.v20232024.team08b.application.TrackDeadlineService;
 import nl.tudelft.sem.v20232024.team08b.application.TrackInformationService;
 import nl.tudelft.sem.v20232024.team08b.controllers.TracksController;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhaseWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackAnalytics;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 
@@ -355,4 +359,102 @@ public class TracksControllerTests {
                 .param("requesterID", requesterID.toString())
         ).andExpect(MockMvcResultMatchers.status().is(403));
     }
+
+    @Test
+    void getPaperPhasesSuccess() throws Exception {
+        var phases = List.of(
+                new PaperPhaseWithID(1L, PaperPhase.IN_REVIEW),
+                new PaperPhaseWithID(2L, PaperPhase.IN_DISCUSSION)
+        );
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(trackInformationService.getPaperPhases(requesterID, conferenceID, trackID)).thenReturn(phases);
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/papers/phases",
+                        conferenceID, trackID)
+                    .param("requesterID", requesterID.toString())
+            ).andExpect(MockMvcResultMatchers.status().is(200))
+            .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(phases)));
+    }
+
+    @Test
+    void getPaperPhasesNotFound() throws Exception {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(trackInformationService.getPaperPhases(requesterID, conferenceID, trackID))
+            .thenThrow(new NotFoundException(""));
+
+        mockMvc.perform(
+            MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/papers/phases",
+                    conferenceID, trackID)
+                .param("requesterID", requesterID.toString())
+        ).andExpect(MockMvcResultMatchers.status().is(404));
+    }
+
+    @Test
+    void getPaperPhasesForbiddenAccess() throws Exception {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(trackInformationService.getPaperPhases(requesterID, conferenceID, trackID))
+            .thenThrow(new ForbiddenAccessException());
+
+        mockMvc.perform(
+            MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/papers/phases",
+                    conferenceID, trackID)
+                .param("requesterID", requesterID.toString())
+        ).andExpect(MockMvcResultMatchers.status().is(403));
+    }
+
+    @Test
+    void getReviewAnalyticsSuccess() throws Exception {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        TrackReviewAnalytics analytics = new TrackReviewAnalytics();
+        analytics.setReviewedPapers(4);
+        analytics.setAgreedPapers(3);
+        analytics.setAgreementRate(0.75);
+        when(trackAnalyticsService.getReviewAnalytics(new TrackID(conferenceID, trackID), requesterID))
+            .thenReturn(analytics);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/analytics/reviews",
+                        conferenceID, trackID)
+                    .param("requesterID", requesterID.toString())
+            ).andExpect(MockMvcResultMatchers.status().is(200))
+            .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(analytics)));
+    }
+
+    @Test
+    void getReviewAnalyticsNotFound() throws Exception {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(trackAnalyticsService.getReviewAnalytics(new TrackID(conferenceID, trackID), requesterID))
+            .thenThrow(new NotFoundException(""));
+
+        mockMvc.perform(
+            MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/analytics/reviews",
+                    conferenceID, trackID)
+                .param("requesterID", requesterID.toString())
+        ).andExpect(MockMvcResultMatchers.status().is(404));
+    }
+
+    @Test
+    void getReviewAnalyticsForbiddenAccess() throws Exception {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(trackAnalyticsService.getReviewAnalytics(new TrackID(conferenceID, trackID), requesterID))
+            .thenThrow(new ForbiddenAccessException());
+
+        mockMvc.perform(
+            MockMvcRequestBuilders.get("/conferences/{conferenceID}/tracks/{trackID}/analytics/reviews",
+                    conferenceID, trackID)
+                .param("requesterID", requesterID.toString())
+        ).andExpect(MockMvcResultMatchers.status().is(403));
+    }
 }
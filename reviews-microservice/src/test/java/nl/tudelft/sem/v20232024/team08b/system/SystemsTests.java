@@ -425,7 +425,7 @@ class SystemsTests {
     @Test
     void reviewersCanSubmitAndResubmitReviews() {
         // first time submitting a review
-        Review review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 1", null, null, null);
+        Review review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 1", null, null);
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID + "/reviews?requesterID=" + reviewer1ID, review);
         var response = testRestTemplate.getForEntity(reviewsURL + "/papers/" + submission1ID
                 + "/reviews/by-reviewer/" + reviewer1ID + "?requesterID=" + reviewer1ID, Review.class);
@@ -433,7 +433,7 @@ class SystemsTests {
         assertEquals(review, response.getBody());
         assertEquals("Comment version 1", response.getBody().getCommentForAuthor());
         // updating a review
-        review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 2", null, null, null);
+        review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 2", null, null);
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID + "/reviews?requesterID=" + reviewer1ID, review);
         response = testRestTemplate.getForEntity(reviewsURL + "/papers/" + submission1ID + "/reviews/by-reviewer/"
                 + reviewer1ID + "?requesterID=" + reviewer1ID, Review.class);
@@ -475,13 +475,13 @@ class SystemsTests {
 
         Review review1 = new Review(
             new ReviewID(submission1ID, reviewer1ID), null, null,
-            null, null, null);
+            null, null);
         Review review2 = new Review(
             new ReviewID(submission1ID, reviewer2ID), null, null,
-            null, null, null);
+            null, null);
         Review review3 = new Review(
             new ReviewID(submission1ID, reviewer3ID), null, null,
-            null, null, null);
+            null, null);
 
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID +
             "/reviews?requesterID=" + reviewer1ID, review1);
@@ -523,10 +523,10 @@ class SystemsTests {
 
         Review review1 = new Review(
                 new ReviewID(submission1ID, reviewer1ID), null, null,
-                null, null, null);
+                null, null);
         Review review2 = new Review(
                 new ReviewID(submission1ID, reviewer2ID), null, null,
-                null, null, null);
+                null, null);
 
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID +
                 "/reviews?requesterID=" + reviewer1ID, review1);
@@ -573,13 +573,13 @@ class SystemsTests {
 
         final Review review1 = new Review(
             new ReviewID(submission1ID, reviewer1ID), null, null,
-            null, null, null);
+            null, null);
         final Review review2 = new Review(
             new ReviewID(submission1ID, reviewer2ID), null, null,
-            null, null, null);
+            null, null);
         final Review review3 = new Review(
             new ReviewID(submission1ID, reviewer3ID), null, null,
-            null, null, null);
+            null, null);
 
 
         var reviewers = List.of(reviewer1ID, reviewer2ID, reviewer3ID);
@@ -613,7 +613,7 @@ class SystemsTests {
     @Test
     void reviewersCanEditTheirOwnReviewsDuringDiscussionPhase() {
         // first time submitting a review
-        Review review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 1", null, null, null);
+        Review review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 1", null, null);
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID + "/reviews?requesterID=" + reviewer1ID, review);
         var response = testRestTemplate.getForEntity(reviewsURL + "/papers/" + submission1ID
                 + "/reviews/by-reviewer/" + reviewer1ID + "?requesterID=" + reviewer1ID, Review.class);
@@ -622,7 +622,7 @@ class SystemsTests {
         assertEquals("Comment version 1", response.getBody().getCommentForAuthor());
         discussionPhaseBeginsSuccessfully();
         // editing a review
-        review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 2", null, null, null);
+        review = new Review(new ReviewID(submission1ID, reviewer1ID), null, "Comment version 2", null, null);
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID + "/reviews?requesterID=" + reviewer1ID, review);
         response = testRestTemplate.getForEntity(reviewsURL + "/papers/" + submission1ID + "/reviews/by-reviewer/"
                 + reviewer1ID + "?requesterID=" + reviewer1ID, Review.class);
@@ -668,13 +668,13 @@ class SystemsTests {
 
         Review review1 = new Review(
                 new ReviewID(submission1ID, reviewer1ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
         Review review2 = new Review(
                 new ReviewID(submission1ID, reviewer2ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
         Review review3 = new Review(
                 new ReviewID(submission1ID, reviewer3ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
 
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID +
                 "/reviews?requesterID=" + reviewer1ID, review1);
@@ -727,13 +727,13 @@ class SystemsTests {
 
         final Review review1 = new Review(
             new ReviewID(submission1ID, reviewer1ID), null, null,
-            null, null, null);
+            null, null);
         final Review review2 = new Review(
             new ReviewID(submission1ID, reviewer2ID), null, null,
-            null, null, null);
+            null, null);
         final Review review3 = new Review(
             new ReviewID(submission1ID, reviewer3ID), null, null,
-            null, null, null);
+            null, null);
 
 
         var reviewers = List.of(reviewer1ID, reviewer2ID, reviewer3ID);
@@ -808,13 +808,13 @@ class SystemsTests {
 
         Review review1 = new Review(
                 new ReviewID(submission1ID, reviewer1ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
         Review review2 = new Review(
                 new ReviewID(submission1ID, reviewer2ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
         Review review3 = new Review(
                 new ReviewID(submission1ID, reviewer3ID), null, null,
-                RecommendationScore.STRONG_ACCEPT, null, null);
+                RecommendationScore.STRONG_ACCEPT, null);
 
         testRestTemplate.put(reviewsURL + "/papers/" + submission1ID +
                 "/reviews?requesterID=" + reviewer1ID, review1);
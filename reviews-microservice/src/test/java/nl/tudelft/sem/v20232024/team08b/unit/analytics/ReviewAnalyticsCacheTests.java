@@ -0,0 +1,110 @@
+package nl.tudelft.sem.v20232024.team08b.unit.analytics;
+
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCalculator;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReviewAnalyticsCacheTests {
+    private final ReviewAnalyticsCalculator calculator = Mockito.mock(ReviewAnalyticsCalculator.class);
+    private final ExpiringLruCache<TrackID, TrackReviewAnalytics> analyticsCache =
+            new ExpiringLruCache<>(Duration.ofMillis(1000), 10,
+                    Clock.fixed(Instant.ofEpochMilli(0), ZoneOffset.UTC));
+
+    private final ReviewAnalyticsCache cache = new ReviewAnalyticsCache(calculator, analyticsCache);
+
+    private final TrackID trackID = new TrackID(1L, 2L);
+    private final List<Long> paperIDs = List.of(3L, 4L);
+
+    @BeforeEach
+    void init() {
+        when(calculator.calculate(paperIDs))
+                .thenReturn(new TrackReviewAnalytics())
+                .thenReturn(new TrackReviewAnalytics());
+    }
+
+    @Test
+    void analyticsAreCached() {
+        TrackReviewAnalytics first = cache.getAnalytics(trackID, paperIDs);
+        assertThat(cache.getAnalytics(trackID, paperIDs)).isSameAs(first);
+        verify(calculator, times(1)).calculate(paperIDs);
+    }
+
+    @Test
+    void writeOnPaperInvalidatesItsTrack() {
+        TrackReviewAnalytics first = cache.getAnalytics(trackID, paperIDs);
+        cache.invalidatePaper(4L);
+
+        assertThat(cache.getAnalytics(trackID, paperIDs)).isNotSameAs(first);
+        verify(calculator, times(2)).calculate(paperIDs);
+    }
+
+    @Test
+    void writeOnOtherPaperKeepsTheTrack() {
+        TrackReviewAnalytics first = cache.getAnalytics(trackID, paperIDs);
+        cache.invalidatePapers(List.of(5L));
+
+        assertThat(cache.getAnalytics(trackID, paperIDs)).isSameAs(first);
+    }
+
+    @Test
+    void invalidateTrack() {
+        TrackReviewAnalytics first = cache.getAnalytics(trackID, paperIDs);
+        cache.invalidateTrack(trackID);
+
+        assertThat(cache.getAnalytics(trackID, paperIDs)).isNotSameAs(first);
+    }
+
+    @Test
+    void writeDuringCalculationIsNotCached() {
+        when(calculator.calculate(paperIDs)).thenAnswer(invocation -> {
+            // A review is submitted while the analytics are being calculated
+            cache.invalidatePaper(3L);
+            return new TrackReviewAnalytics();
+        });
+
+        cache.getAnalytics(trackID, paperIDs);
+        assertThat(analyticsCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void invalidatedTrackForgetsItsPapers() {
+        cache.getAnalytics(trackID, paperIDs);
+        assertThat(cache.getPaperCount()).isEqualTo(2);
+
+        cache.invalidateTrack(trackID);
+        assertThat(cache.getPaperCount()).isEqualTo(0);
+    }
+
+    @Test
+    void evictedTrackForgetsItsPapers() {
+        ExpiringLruCache<TrackID, TrackReviewAnalytics> smallCache = new ExpiringLruCache<>(
+                Duration.ofMillis(1000), 1, Clock.fixed(Instant.ofEpochMilli(0), ZoneOffset.UTC));
+        ReviewAnalyticsCache boundedCache = new ReviewAnalyticsCache(calculator, smallCache);
+        TrackID otherTrackID = new TrackID(1L, 3L);
+        when(calculator.calculate(List.of(5L))).thenReturn(new TrackReviewAnalytics());
+
+        boundedCache.getAnalytics(trackID, paperIDs);
+        TrackReviewAnalytics other = boundedCache.getAnalytics(otherTrackID, List.of(5L));
+        assertThat(boundedCache.getPaperCount()).isEqualTo(1);
+
+        // A write on a paper of the evicted track leaves the cached track alone
+        boundedCache.invalidatePaper(3L);
+        assertThat(boundedCache.getAnalytics(otherTrackID, List.of(5L))).isSameAs(other);
+    }
+}
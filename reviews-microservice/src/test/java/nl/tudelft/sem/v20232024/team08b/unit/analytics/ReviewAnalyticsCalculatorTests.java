@@ -0,0 +1,150 @@
+package nl.tudelft.sem.v20232024.team08b.unit.analytics;
+
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCalculator;
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
+import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.Bid;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperBidCoverage;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ReviewerWorkload;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperBidCount;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewScores;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReviewAnalyticsCalculatorTests {
+    private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
+    private final BidRepository bidRepository = Mockito.mock(BidRepository.class);
+
+    private final ReviewAnalyticsCalculator calculator = new ReviewAnalyticsCalculator(
+            reviewRepository,
+            bidRepository
+    );
+
+    private PaperReviewScores review(Long paperID, Long reviewerID,
+                                     ConfidenceScore confidence, RecommendationScore recommendation) {
+        return new PaperReviewScores() {
+            @Override
+            public Long getPaperID() {
+                return paperID;
+            }
+
+            @Override
+            public Long getReviewerID() {
+                return reviewerID;
+            }
+
+            @Override
+            public ConfidenceScore getConfidenceScore() {
+                return confidence;
+            }
+
+            @Override
+            public RecommendationScore getRecommendationScore() {
+                return recommendation;
+            }
+        };
+    }
+
+    private PaperBidCount bids(Long paperID, Bid bid, long bids) {
+        return new PaperBidCount() {
+            @Override
+            public Long getPaperID() {
+                return paperID;
+            }
+
+            @Override
+            public Bid getBid() {
+                return bid;
+            }
+
+            @Override
+            public Long getBids() {
+                return bids;
+            }
+        };
+    }
+
+    @Test
+    void calculateTrack() {
+        List<Long> paperIDs = List.of(1L, 2L, 3L, 4L);
+        when(reviewRepository.streamScoresByPapers(paperIDs)).thenReturn(Stream.of(
+                // Paper 1: both reviewers accept
+                review(1L, 10L, ConfidenceScore.EXPERT, RecommendationScore.STRONG_ACCEPT),
+                review(1L, 11L, ConfidenceScore.BASIC, RecommendationScore.WEAK_ACCEPT),
+                // Paper 2: the reviewers disagree
+                review(2L, 10L, ConfidenceScore.EXPERT, RecommendationScore.WEAK_REJECT),
+                review(2L, 12L, ConfidenceScore.KNOWLEDGEABLE, RecommendationScore.WEAK_ACCEPT),
+                // Paper 3: one review is not submitted yet
+                review(3L, 11L, ConfidenceScore.BASIC, RecommendationScore.STRONG_REJECT),
+                review(3L, 12L, null, null)
+        ));
+        when(bidRepository.countBidsPerPaper(paperIDs)).thenReturn(List.of(
+                bids(1L, Bid.CAN_REVIEW, 2L),
+                bids(1L, Bid.NOT_REVIEW, 1L),
+                bids(2L, Bid.NEUTRAL, 3L)
+        ));
+
+        TrackReviewAnalytics result = calculator.calculate(paperIDs);
+
+        assertThat(result.getRecommendationScores()).isEqualTo(Map.of(
+                RecommendationScore.STRONG_REJECT, 1,
+                RecommendationScore.WEAK_REJECT, 1,
+                RecommendationScore.WEAK_ACCEPT, 2,
+                RecommendationScore.STRONG_ACCEPT, 1
+        ));
+        assertThat(result.getConfidenceScores()).isEqualTo(Map.of(
+                ConfidenceScore.EXPERT, 2,
+                ConfidenceScore.KNOWLEDGEABLE, 1,
+                ConfidenceScore.BASIC, 2
+        ));
+
+        List<ReviewerWorkload> workloads = result.getReviewerWorkloads();
+        assertThat(workloads.size()).isEqualTo(3);
+        assertThat(workloads.get(0).getReviewerID()).isEqualTo(10L);
+        assertThat(workloads.get(0).getAssigned()).isEqualTo(2);
+        assertThat(workloads.get(0).getSubmitted()).isEqualTo(2);
+        assertThat(workloads.get(2).getReviewerID()).isEqualTo(12L);
+        assertThat(workloads.get(2).getAssigned()).isEqualTo(2);
+        assertThat(workloads.get(2).getSubmitted()).isEqualTo(1);
+
+        List<PaperBidCoverage> coverage = result.getBidCoverage();
+        assertThat(coverage.size()).isEqualTo(4);
+        assertThat(coverage.get(0).getCanReview()).isEqualTo(2);
+        assertThat(coverage.get(0).getNotReview()).isEqualTo(1);
+        assertThat(coverage.get(1).getNeutral()).isEqualTo(3);
+        // Papers without bids are still listed
+        assertThat(coverage.get(3).getPaperID()).isEqualTo(4L);
+        assertThat(coverage.get(3).getCanReview() + coverage.get(3).getNeutral()
+                + coverage.get(3).getNotReview()).isEqualTo(0);
+
+        // Papers 3 and 4 are not reviewed yet
+        assertThat(result.getReviewedPapers()).isEqualTo(2);
+        assertThat(result.getAgreedPapers()).isEqualTo(1);
+        assertThat(result.getAgreementRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void calculateEmptyTrack() {
+        TrackReviewAnalytics result = calculator.calculate(List.of());
+
+        assertThat(result.getRecommendationScores().get(RecommendationScore.STRONG_ACCEPT)).isEqualTo(0);
+        assertThat(result.getReviewerWorkloads().isEmpty()).isTrue();
+        assertThat(result.getBidCoverage().isEmpty()).isTrue();
+        assertThat(result.getAgreementRate()).isEqualTo(0.0);
+        verify(reviewRepository, never()).streamScoresByPapers(any());
+        verify(bidRepository, never()).countBidsPerPaper(any());
+    }
+}
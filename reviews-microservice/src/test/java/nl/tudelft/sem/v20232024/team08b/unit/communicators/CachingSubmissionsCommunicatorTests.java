@@ -0,0 +1,197 @@
+package nl.tudelft.sem.v20232024.team08b.unit.communicators;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.communicators.CachingSubmissionsCommunicator;
+import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingSubmissionsCommunicatorTests {
+    private final SubmissionsMicroserviceCommunicator submissionsCommunicator =
+            Mockito.mock(SubmissionsMicroserviceCommunicator.class);
+    private final CachingSubmissionsCommunicator cachingCommunicator =
+            new CachingSubmissionsCommunicator(submissionsCommunicator);
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getSubmissionOutsideOfRequestIsNotCached() throws NotFoundException {
+        Submission fakeSubmission = new Submission();
+        when(submissionsCommunicator.getSubmission(1L)).thenReturn(fakeSubmission);
+
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+
+        verify(submissionsCommunicator, times(2)).getSubmission(1L);
+        assertThat(cachingCommunicator.getHitCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void getSubmissionIsFetchedOncePerRequest() throws NotFoundException {
+        Submission fakeSubmission = new Submission();
+        when(submissionsCommunicator.getSubmission(1L)).thenReturn(fakeSubmission);
+
+        startRequest();
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+
+        verify(submissionsCommunicator, times(1)).getSubmission(1L);
+        assertThat(cachingCommunicator.getHitCount()).isEqualTo(2L);
+        assertThat(cachingCommunicator.getMissCount()).isEqualTo(1L);
+        assertThat(cachingCommunicator.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void hitRateIsPublishedAsMetric() throws NotFoundException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cachingCommunicator.bindTo(registry);
+        when(submissionsCommunicator.getSubmission(1L)).thenReturn(new Submission());
+
+        startRequest();
+        cachingCommunicator.getSubmission(1L);
+        cachingCommunicator.getSubmission(1L);
+
+        assertThat(registry.get("submissions.cache.gets").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("submissions.cache.gets").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("submissions.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void getSubmissionIsFetchedAgainInNewRequest() throws NotFoundException {
+        when(submissionsCommunicator.getSubmission(1L)).thenReturn(new Submission());
+
+        startRequest();
+        cachingCommunicator.getSubmission(1L);
+        endRequest();
+        startRequest();
+        cachingCommunicator.getSubmission(1L);
+
+        verify(submissionsCommunicator, times(2)).getSubmission(1L);
+    }
+
+    @Test
+    void getSubmissionNotFoundIsNotCached() throws NotFoundException {
+        when(submissionsCommunicator.getSubmission(1L)).thenThrow(new NotFoundException(""));
+
+        startRequest();
+        assertThrows(NotFoundException.class, () -> cachingCommunicator.getSubmission(1L));
+        assertThrows(NotFoundException.class, () -> cachingCommunicator.getSubmission(1L));
+
+        verify(submissionsCommunicator, times(2)).getSubmission(1L);
+    }
+
+    @Test
+    void getSubmissionAsyncSharesTheRequestCache() throws NotFoundException {
+        Submission fakeSubmission = new Submission();
+        when(submissionsCommunicator.getSubmissionAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(fakeSubmission));
+
+        startRequest();
+        assertThat(cachingCommunicator.getSubmissionAsync(1L).join()).isEqualTo(fakeSubmission);
+        assertThat(cachingCommunicator.getSubmission(1L)).isEqualTo(fakeSubmission);
+        assertThat(cachingCommunicator.getSubmissionAsync(1L).join()).isEqualTo(fakeSubmission);
+
+        verify(submissionsCommunicator, times(1)).getSubmissionAsync(1L);
+        verify(submissionsCommunicator, times(0)).getSubmission(1L);
+        assertThat(cachingCommunicator.getHitCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void concurrentAsyncLookupsShareOneCall() {
+        CompletableFuture<Submission> pending = new CompletableFuture<>();
+        when(submissionsCommunicator.getSubmissionAsync(1L)).thenReturn(pending);
+
+        // Two inbound requests asking for the same paper at the same time
+        startRequest();
+        CompletableFuture<Submission> first = cachingCommunicator.getSubmissionAsync(1L);
+        endRequest();
+        startRequest();
+        CompletableFuture<Submission> second = cachingCommunicator.getSubmissionAsync(1L);
+        Submission fakeSubmission = new Submission();
+        pending.complete(fakeSubmission);
+
+        assertThat(first.join()).isEqualTo(fakeSubmission);
+        assertThat(second.join()).isEqualTo(fakeSubmission);
+        verify(submissionsCommunicator, times(1)).getSubmissionAsync(1L);
+        assertThat(cachingCommunicator.getCoalescedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void coalescedCallsArePublishedAsMetric() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cachingCommunicator.bindTo(registry);
+        CompletableFuture<Submission> pending = new CompletableFuture<>();
+        when(submissionsCommunicator.getSubmissionAsync(1L)).thenReturn(pending);
+
+        startRequest();
+        cachingCommunicator.getSubmissionAsync(1L);
+        endRequest();
+        startRequest();
+        cachingCommunicator.getSubmissionAsync(1L);
+        pending.complete(new Submission());
+
+        assertThat(registry.get("downstream.calls.coalesced").tag("service", "submissions").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getSubmissionsInTrackIsForwarded() throws NotFoundException {
+        var expected = List.of(new Submission());
+        when(submissionsCommunicator.getSubmissionsInTrack(1L, 2L, 3L)).thenReturn(expected);
+        when(submissionsCommunicator.getSubmissionsInTrack(1L, 2L)).thenReturn(expected);
+
+        assertThat(cachingCommunicator.getSubmissionsInTrack(1L, 2L, 3L)).isEqualTo(expected);
+        assertThat(cachingCommunicator.getSubmissionsInTrack(1L, 2L)).isEqualTo(expected);
+    }
+
+    @Test
+    void getSubmissionsOnlyFetchesPapersNotInTheRequestCache() throws NotFoundException {
+        Submission first = new Submission();
+        Submission second = new Submission();
+        when(submissionsCommunicator.getSubmission(1L)).thenReturn(first);
+        when(submissionsCommunicator.getSubmissions(List.of(2L))).thenReturn(Map.of(2L, second));
+
+        startRequest();
+        cachingCommunicator.getSubmission(1L);
+        assertThat(cachingCommunicator.getSubmissions(List.of(1L, 2L))).isEqualTo(Map.of(1L, first, 2L, second));
+        assertThat(cachingCommunicator.getSubmission(2L)).isEqualTo(second);
+
+        verify(submissionsCommunicator, times(1)).getSubmissions(List.of(2L));
+        verify(submissionsCommunicator, times(0)).getSubmission(2L);
+    }
+
+    @Test
+    void getSubmissionsOutsideOfRequestIsForwarded() throws NotFoundException {
+        var expected = Map.of(1L, new Submission());
+        when(submissionsCommunicator.getSubmissions(List.of(1L))).thenReturn(expected);
+
+        assertThat(cachingCommunicator.getSubmissions(List.of(1L))).isEqualTo(expected);
+    }
+}
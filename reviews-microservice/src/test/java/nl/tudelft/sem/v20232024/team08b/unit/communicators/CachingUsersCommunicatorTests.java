@@ -0,0 +1,155 @@
+package nl.tudelft.sem.v20232024.team08b.unit.communicators;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.communicators.CachingUsersCommunicator;
+import nl.tudelft.sem.v20232024.team08b.communicators.UsersMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUserTracksInner;
+import nl.tudelft.sem.v20232024.team08b.dtos.users.Track;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingUsersCommunicatorTests {
+    private final UsersMicroserviceCommunicator usersCommunicator = Mockito.mock(UsersMicroserviceCommunicator.class);
+    private final Clock clock = Mockito.mock(Clock.class);
+    private CachingUsersCommunicator cachingCommunicator;
+    private RolesOfUser fakeRoles;
+
+    @BeforeEach
+    void setup() throws NotFoundException {
+        when(clock.millis()).thenReturn(0L);
+        cachingCommunicator = new CachingUsersCommunicator(usersCommunicator,
+                new ExpiringLruCache<>(Duration.ofMillis(1000), 10, clock));
+        fakeRoles = new RolesOfUser();
+        when(usersCommunicator.getRolesOfUser(1L)).thenReturn(fakeRoles);
+    }
+
+    @Test
+    void getRolesOfUserIsCached() throws NotFoundException {
+        assertThat(cachingCommunicator.getRolesOfUser(1L)).isEqualTo(fakeRoles);
+        assertThat(cachingCommunicator.getRolesOfUser(1L)).isEqualTo(fakeRoles);
+        verify(usersCommunicator, times(1)).getRolesOfUser(1L);
+    }
+
+    @Test
+    void getRolesOfUserExpires() throws NotFoundException {
+        cachingCommunicator.getRolesOfUser(1L);
+        when(clock.millis()).thenReturn(1000L);
+        cachingCommunicator.getRolesOfUser(1L);
+        verify(usersCommunicator, times(2)).getRolesOfUser(1L);
+    }
+
+    @Test
+    void getRolesOfUserNotFoundIsNotCached() throws NotFoundException {
+        when(usersCommunicator.getRolesOfUser(2L)).thenThrow(new NotFoundException(""));
+        assertThrows(NotFoundException.class, () -> cachingCommunicator.getRolesOfUser(2L));
+        assertThrows(NotFoundException.class, () -> cachingCommunicator.getRolesOfUser(2L));
+        verify(usersCommunicator, times(2)).getRolesOfUser(2L);
+    }
+
+    @Test
+    void getRolesOfUserByTrackSharesTheCache() throws NotFoundException {
+        RolesOfUserTracksInner chair = new RolesOfUserTracksInner();
+        chair.setRoleName("PC Chair");
+        chair.setEventId(3L);
+        chair.setTrackId(4L);
+        fakeRoles.setTracks(new ArrayList<>(List.of(chair)));
+
+        assertThat(cachingCommunicator.getRolesOfUserByTrack(1L).getRoles(3L, 4L))
+                .isEqualTo(EnumSet.of(UserRole.CHAIR));
+        assertThat(cachingCommunicator.getRolesOfUser(1L)).isEqualTo(fakeRoles);
+        verify(usersCommunicator, times(1)).getRolesOfUser(1L);
+    }
+
+    @Test
+    void getRolesOfUserAsyncSharesTheCache() throws NotFoundException {
+        when(usersCommunicator.getRolesOfUserAsync(2L)).thenReturn(CompletableFuture.completedFuture(fakeRoles));
+
+        assertThat(cachingCommunicator.getRolesOfUserAsync(2L).join()).isEqualTo(fakeRoles);
+        assertThat(cachingCommunicator.getRolesOfUser(2L)).isEqualTo(fakeRoles);
+        verify(usersCommunicator, times(1)).getRolesOfUserAsync(2L);
+        verify(usersCommunicator, times(0)).getRolesOfUser(2L);
+    }
+
+    @Test
+    void getTrackIsForwarded() throws NotFoundException {
+        Track fakeTrack = new Track();
+        when(usersCommunicator.getTrack(1L, 2L)).thenReturn(fakeTrack);
+        assertThat(cachingCommunicator.getTrack(1L, 2L)).isEqualTo(fakeTrack);
+    }
+
+    @Test
+    void concurrentAsyncRoleLookupsShareOneCall() {
+        CompletableFuture<RolesOfUser> pending = new CompletableFuture<>();
+        when(usersCommunicator.getRolesOfUserAsync(2L)).thenReturn(pending);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Every caller starts its lookup while the first call is still in flight
+        List<CompletableFuture<CompletableFuture<RolesOfUser>>> callers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cachingCommunicator.getRolesOfUserAsync(2L), executor))
+                .collect(Collectors.toList());
+        List<CompletableFuture<RolesOfUser>> lookups = callers.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        pending.complete(fakeRoles);
+
+        for (CompletableFuture<RolesOfUser> lookup : lookups) {
+            assertThat(lookup.join()).isEqualTo(fakeRoles);
+        }
+        verify(usersCommunicator, times(1)).getRolesOfUserAsync(2L);
+        assertThat(cachingCommunicator.getCoalescedCount()).isEqualTo(7L);
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentAsyncTrackLookupsShareOneCall() {
+        CompletableFuture<Track> pending = new CompletableFuture<>();
+        when(usersCommunicator.getTrackAsync(1L, 2L)).thenReturn(pending);
+
+        CompletableFuture<Track> first = cachingCommunicator.getTrackAsync(1L, 2L);
+        CompletableFuture<Track> second = cachingCommunicator.getTrackAsync(1L, 2L);
+        Track fakeTrack = new Track();
+        pending.complete(fakeTrack);
+
+        assertThat(first.join()).isEqualTo(fakeTrack);
+        assertThat(second.join()).isEqualTo(fakeTrack);
+        verify(usersCommunicator, times(1)).getTrackAsync(1L, 2L);
+    }
+
+    @Test
+    void coalescedCallsArePublishedAsMetric() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cachingCommunicator.bindTo(registry);
+        CompletableFuture<Track> pending = new CompletableFuture<>();
+        when(usersCommunicator.getTrackAsync(1L, 2L)).thenReturn(pending);
+
+        cachingCommunicator.getTrackAsync(1L, 2L);
+        cachingCommunicator.getTrackAsync(1L, 2L);
+        pending.complete(new Track());
+
+        assertThat(registry.get("downstream.calls.coalesced").tag("service", "users").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -1,7 +1,8 @@
 package nl.tudelft.sem.v20232024.team08b.unit.communicators;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
@@ -12,9 +13,13 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SubmissionsMicroserviceCommunicatorTests {
@@ -55,11 +60,12 @@ public class SubmissionsMicroserviceCommunicatorTests {
 
 
     @Test
-    void getSubmissionsInTrackSuccessful() throws NotFoundException, JsonProcessingException {
+    void getSubmissionsInTrackSuccessful() throws NotFoundException {
         var expected = List.of(new Submission(), new Submission());
-        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any())).thenReturn("json");
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(ArgumentMatchers.<TypeReference<List<Submission>>>any())).thenReturn(reader);
         when(
-            objectMapper.readValue("json", List.class)
+            httpRequestSender.<List<Submission>>sendGetRequest("http://localhost:8081/submission/event/1/track/2/3", reader)
         ).thenReturn(expected);
         assertThat(submissionsCommunicator.getSubmissionsInTrack(1L, 2L,
             3L)).isEqualTo(expected);
@@ -67,30 +73,63 @@ public class SubmissionsMicroserviceCommunicatorTests {
 
     @Test
     void getSubmissionsInTrackNotFound() throws NotFoundException {
-        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any()))
+        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any(), ArgumentMatchers.any()))
             .thenThrow(new NotFoundException(""));
         assertThrows(NotFoundException.class, () ->
             submissionsCommunicator.getSubmissionsInTrack(1L, 2L, 3L));
     }
 
     @Test
-    void getSubmissionsInTrackOverload() throws NotFoundException, JsonProcessingException {
+    void getSubmissionsInTrackOverload() throws NotFoundException {
         var expected = List.of(new Submission(), new Submission());
-        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any())).thenReturn("json");
         when(
-            objectMapper.readValue("json", List.class)
+            httpRequestSender.<List<Submission>>sendGetRequest(ArgumentMatchers.any(), ArgumentMatchers.any())
         ).thenReturn(expected);
         assertThat(submissionsCommunicator.getSubmissionsInTrack(1L, 2L))
             .isEqualTo(expected);
     }
 
     @Test
-    void getSubmissionsInTrackFail() throws NotFoundException, IOException {
-        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any())).thenReturn("json");
-        when(
-            objectMapper.readValue("json", List.class)
-        ).thenThrow(new RuntimeException(""));
+    void getSubmissionsInTrackFail() throws NotFoundException {
+        when(httpRequestSender.sendGetRequest(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenThrow(new RuntimeException(""));
         assertThrows(RuntimeException.class, () ->
             submissionsCommunicator.getSubmissionsInTrack(1L, 2L, 3L));
     }
+
+    @Test
+    void getSubmissionAsync() {
+        Submission fakeSubmission = new Submission();
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(Submission.class)).thenReturn(reader);
+        when(httpRequestSender.<Submission>sendGetRequestAsync("http://localhost:8081/submission/1/-1", reader))
+            .thenReturn(CompletableFuture.completedFuture(fakeSubmission));
+        assertThat(submissionsCommunicator.getSubmissionAsync(1L).join()).isEqualTo(fakeSubmission);
+    }
+
+    @Test
+    void getSubmissionsFetchesEveryPaperOnce() throws NotFoundException {
+        Submission first = new Submission();
+        Submission second = new Submission();
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(Submission.class)).thenReturn(reader);
+        when(httpRequestSender.<Submission>sendGetRequestAsync("http://localhost:8081/submission/1/-1", reader))
+            .thenReturn(CompletableFuture.completedFuture(first));
+        when(httpRequestSender.<Submission>sendGetRequestAsync("http://localhost:8081/submission/2/-1", reader))
+            .thenReturn(CompletableFuture.completedFuture(second));
+
+        Map<Long, Submission> submissions = submissionsCommunicator.getSubmissions(List.of(1L, 2L, 1L));
+
+        assertThat(submissions).isEqualTo(Map.of(1L, first, 2L, second));
+        verify(httpRequestSender, times(1)).sendGetRequestAsync("http://localhost:8081/submission/1/-1", reader);
+    }
+
+    @Test
+    void getSubmissionsNotFound() {
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(Submission.class)).thenReturn(reader);
+        when(httpRequestSender.<Submission>sendGetRequestAsync(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn(CompletableFuture.failedFuture(new NotFoundException("")));
+        assertThrows(NotFoundException.class, () -> submissionsCommunicator.getSubmissions(List.of(1L, 2L)));
+    }
 }
@@ -1,6 +1,7 @@
 package nl.tudelft.sem.v20232024.team08b.unit.communicators;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.communicators.UsersMicroserviceCommunicator;
 import nl.tudelft.sem.v20232024.team08b.dtos.users.RolesOfUser;
@@ -11,6 +12,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -77,4 +79,24 @@ public class UsersMicroserviceCommunicatorTests {
         assertThat(usersCommunicator.getTrack(1L, 2L)).isEqualTo(fakeTrack);
     }
 
+
+    @Test
+    void getRolesOfUserAsync() {
+        RolesOfUser fakeRoles = new RolesOfUser();
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(RolesOfUser.class)).thenReturn(reader);
+        when(httpRequestSender.<RolesOfUser>sendGetRequestAsync("http://localhost:8082/user/1/tracks/role", reader))
+                .thenReturn(CompletableFuture.completedFuture(fakeRoles));
+        assertThat(usersCommunicator.getRolesOfUserAsync(1L).join()).isEqualTo(fakeRoles);
+    }
+
+    @Test
+    void getTrackAsync() {
+        Track fakeTrack = new Track();
+        ObjectReader reader = Mockito.mock(ObjectReader.class);
+        when(objectMapper.readerFor(Track.class)).thenReturn(reader);
+        when(httpRequestSender.<Track>sendGetRequestAsync("http://localhost:8082/track/1/2", reader))
+                .thenReturn(CompletableFuture.completedFuture(fakeTrack));
+        assertThat(usersCommunicator.getTrackAsync(1L, 2L).join()).isEqualTo(fakeTrack);
+    }
 }
@@ -0,0 +1,153 @@
+package nl.tudelft.sem.v20232024.team08b.unit.discussion;
+
+import nl.tudelft.sem.v20232024.team08b.application.DiscussionService;
+import nl.tudelft.sem.v20232024.team08b.application.discussion.DiscussionCommentHub;
+import nl.tudelft.sem.v20232024.team08b.domain.Comment;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
+import nl.tudelft.sem.v20232024.team08b.repos.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DiscussionCommentHubTests {
+    private final CommentRepository commentRepository = Mockito.mock(CommentRepository.class);
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private DiscussionCommentHub hub;
+
+    private final ReviewID reviewID = new ReviewID(10L, 2L);
+
+    @BeforeEach
+    void setUp() {
+        hub = new DiscussionCommentHub(commentRepository, queuedTasks::add, 2, 1000L);
+    }
+
+    private void runQueuedTasks() {
+        List<Runnable> tasks = new ArrayList<>(queuedTasks);
+        queuedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private Comment comment(Long id, ReviewID reviewID) {
+        return new Comment(id, reviewID.getPaperID(), reviewID.getReviewerID(), 5L, "comment " + id);
+    }
+
+    /**
+     * Gets the IDs of the events sent over an emitter.
+     *
+     * @param emitter the mocked emitter
+     * @return the IDs of the events, in the order they were sent
+     * @throws IOException never, the emitter is a mock
+     */
+    private List<String> sentIDs(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, Mockito.atLeast(0)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(event -> event.build().iterator().next().getData().toString())
+                .map(text -> text.substring("id:".length(), text.indexOf('\n')))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void publishesToTheSubscribersOfTheReview() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        SseEmitter otherEmitter = Mockito.mock(SseEmitter.class);
+        hub.subscribe(reviewID, null, emitter);
+        hub.subscribe(new ReviewID(10L, 3L), null, otherEmitter);
+
+        hub.publish(comment(1L, reviewID));
+        hub.publish(comment(2L, reviewID));
+        runQueuedTasks();
+
+        assertThat(sentIDs(emitter)).isEqualTo(List.of("1", "2"));
+        assertThat(sentIDs(otherEmitter)).isEqualTo(List.of());
+        // Without a cursor, nothing is read from the database
+        verify(commentRepository, never()).findPage(any(), any(), any(), Mockito.anyInt());
+    }
+
+    @Test
+    void replaysMissedCommentsWithoutDuplicates() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        when(commentRepository.findPage(10L, 2L, 3L, DiscussionService.MAX_COMMENTS_PER_PAGE))
+                .thenReturn(List.of(comment(4L, reviewID), comment(5L, reviewID)));
+
+        hub.subscribe(reviewID, 3L, emitter);
+        // Comment 5 was saved before the replay, but published after it
+        hub.publish(comment(5L, reviewID));
+        hub.publish(comment(6L, reviewID));
+        runQueuedTasks();
+
+        assertThat(sentIDs(emitter)).isEqualTo(List.of("4", "5", "6"));
+    }
+
+    @Test
+    void disconnectsSlowSubscribers() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        hub.subscribe(reviewID, null, emitter);
+
+        // The buffer holds two comments, and the worker never got to send them
+        hub.publish(comment(1L, reviewID));
+        hub.publish(comment(2L, reviewID));
+        hub.publish(comment(3L, reviewID));
+
+        verify(emitter).completeWithError(any(IllegalStateException.class));
+        assertThat(hub.getSubscriberCount(reviewID)).isEqualTo(0);
+        runQueuedTasks();
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void disconnectsSubscribersWhoseConnectionFailed() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        hub.subscribe(reviewID, null, emitter);
+        IOException failure = new IOException("Broken pipe");
+        doThrow(failure).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        hub.publish(comment(1L, reviewID));
+        runQueuedTasks();
+
+        verify(emitter).completeWithError(failure);
+        assertThat(hub.getSubscriberCount(reviewID)).isEqualTo(0);
+    }
+
+    @Test
+    void disconnectsSubscribersWhenTheWorkersAreBusy() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        hub = new DiscussionCommentHub(commentRepository, task -> {
+            throw new RejectedExecutionException();
+        }, 2, 1000L);
+        hub.subscribe(reviewID, null, emitter);
+
+        hub.publish(comment(1L, reviewID));
+
+        verify(emitter).completeWithError(any(RejectedExecutionException.class));
+        assertThat(hub.getSubscriberCount(reviewID)).isEqualTo(0);
+    }
+
+    @Test
+    void failedReplayUnsubscribes() throws IOException {
+        SseEmitter emitter = Mockito.mock(SseEmitter.class);
+        when(commentRepository.findPage(eq(10L), eq(2L), eq(3L), Mockito.anyInt()))
+                .thenReturn(List.of(comment(4L, reviewID)));
+        doThrow(new IOException()).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        assertThrows(IOException.class, () -> hub.subscribe(reviewID, 3L, emitter));
+        assertThat(hub.getSubscriberCount(reviewID)).isEqualTo(0);
+    }
+}
@@ -8,6 +8,7 @@ import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewCount;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +18,14 @@ import org.mockito.Mockito;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PaperPhaseCalculatorTests {
@@ -69,8 +74,7 @@ public class PaperPhaseCalculatorTests {
                 ConfidenceScore.KNOWLEDGEABLE,
                 "Comment",
                 RecommendationScore.STRONG_ACCEPT,
-                "Comment",
-                List.of()
+                "Comment"
         );
 
         ReviewID reviewID2 = new ReviewID(paper1.getId(), 6L);
@@ -79,8 +83,7 @@ public class PaperPhaseCalculatorTests {
                 ConfidenceScore.EXPERT,
                 "Comment2",
                 RecommendationScore.WEAK_ACCEPT,
-                "Comment2",
-                List.of()
+                "Comment2"
         );
         reviews = List.of(review1, review2);
 
@@ -128,27 +131,22 @@ public class PaperPhaseCalculatorTests {
     @Test
     void checkIfEveryReviewerHasSubmitted_Yes() {
         Long paperID = papers.get(0).getId();
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.existsByReviewIDPaperIDAndConfidenceScoreIsNull(paperID)).thenReturn(false);
         boolean result = paperPhaseCalculator.checkIfEveryReviewerHasSubmitted(paperID);
 
-        // Since both reviews review1 and review2 are not empty reviews, then we expect the method
+        // Since there is no review without a confidence score, then we expect the method
         // to say that all reviewers have submitted
         assertThat(result).isTrue();
     }
 
     @Test
     void checkIfEveryReviewerHasSubmitted_No() {
-
-        // Let's change review1 to be not-submitted. To do that, we need to take review1,
-        // and change it's confidenceScore to null.
-        Review review1 = reviews.get(0);
-        review1.setConfidenceScore(null);
-
+        // A review that was not submitted yet has no confidence score
         Long paperID = papers.get(0).getId();
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.existsByReviewIDPaperIDAndConfidenceScoreIsNull(paperID)).thenReturn(true);
         boolean result = paperPhaseCalculator.checkIfEveryReviewerHasSubmitted(paperID);
 
-        // Since both reviews review1 IS an empty review, we expect the method to
+        // Since one of the reviews is an empty review, we expect the method to
         // return false
         assertThat(result).isFalse();
     }
@@ -194,8 +192,8 @@ public class PaperPhaseCalculatorTests {
 
         // Assume that reviewers have not yet been assigned in the track
         doReturn(false).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
-                trackID.getTrackID(),
-                trackID.getConferenceID()
+                trackID.getConferenceID(),
+                trackID.getTrackID()
         );
 
         // If the reviewers are not assigned to track, then the paper is in before-review phase
@@ -210,8 +208,8 @@ public class PaperPhaseCalculatorTests {
 
         // Assume that reviewers have been assigned in the track
         doReturn(true).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
-                trackID.getTrackID(),
-                trackID.getConferenceID()
+                trackID.getConferenceID(),
+                trackID.getTrackID()
         );
 
         // Assume that not every reviewer has submitted at least once
@@ -232,8 +230,8 @@ public class PaperPhaseCalculatorTests {
 
         // Assume that reviewers have been assigned in the track
         doReturn(true).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
-                trackID.getTrackID(),
-                trackID.getConferenceID()
+                trackID.getConferenceID(),
+                trackID.getTrackID()
         );
 
         // Assume that every reviewer has submitted at least once
@@ -258,8 +256,8 @@ public class PaperPhaseCalculatorTests {
 
         // Assume that reviewers have been assigned in the track
         doReturn(true).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
-                trackID.getTrackID(),
-                trackID.getConferenceID()
+                trackID.getConferenceID(),
+                trackID.getTrackID()
         );
 
         // Assume that every reviewer has submitted at least once
@@ -277,4 +275,80 @@ public class PaperPhaseCalculatorTests {
         PaperPhase result = paperPhaseCalculator.getPaperPhase(paper1ID);
         assertThat(result).isEqualTo(PaperPhase.REVIEWED);
     }
+
+    @Test
+    void getPaperPhase_LooksUpTheTrackOfThePaper() throws NotFoundException {
+        Paper paper1 = papers.get(0);
+        Long paper1ID = paper1.getId();
+
+        // The conference and track IDs differ, so only the track (1, 2) has its reviewers assigned
+        track.setReviewersHaveBeenFinalized(true);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+        doReturn(false).when(paperPhaseCalculator).checkIfEveryReviewerHasSubmitted(
+                paper1ID
+        );
+
+        PaperPhase result = paperPhaseCalculator.getPaperPhase(paper1ID);
+        assertThat(result).isEqualTo(PaperPhase.IN_REVIEW);
+        verify(trackRepository).findById(trackID);
+    }
+
+    private PaperReviewCount reviewCount(Long paperID, long reviews, long submitted) {
+        return new PaperReviewCount() {
+            @Override
+            public Long getPaperID() {
+                return paperID;
+            }
+
+            @Override
+            public Long getReviews() {
+                return reviews;
+            }
+
+            @Override
+            public Long getSubmitted() {
+                return submitted;
+            }
+        };
+    }
+
+    @Test
+    void getPaperPhases_ReviewersNotAssignedToTrack() {
+        doReturn(false).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
+                trackID.getConferenceID(),
+                trackID.getTrackID()
+        );
+
+        Map<Long, PaperPhase> result = paperPhaseCalculator.getPaperPhases(trackID, List.of(10L, 11L));
+        assertThat(result).isEqualTo(Map.of(10L, PaperPhase.BEFORE_REVIEW, 11L, PaperPhase.BEFORE_REVIEW));
+
+        // No need to look at the reviews of the papers
+        verify(reviewRepository, never()).countReviewsPerPaper(any());
+        verify(paperRepository, never()).findFinalizedPaperIDs(any());
+    }
+
+    @Test
+    void getPaperPhases_EveryPhase() {
+        doReturn(true).when(paperPhaseCalculator).checkIfReviewersAreAssignedToTrack(
+                trackID.getConferenceID(),
+                trackID.getTrackID()
+        );
+        List<Long> paperIDs = List.of(10L, 11L, 12L, 13L);
+        // Paper 10 has no reviewers, paper 11 waits for a review, papers 12 and 13 have all of them
+        when(reviewRepository.countReviewsPerPaper(paperIDs)).thenReturn(List.of(
+                reviewCount(11L, 2L, 1L),
+                reviewCount(12L, 2L, 2L),
+                reviewCount(13L, 3L, 3L)
+        ));
+        when(paperRepository.findFinalizedPaperIDs(paperIDs)).thenReturn(List.of(13L));
+
+        Map<Long, PaperPhase> result = paperPhaseCalculator.getPaperPhases(trackID, paperIDs);
+        assertThat(result).isEqualTo(Map.of(
+                10L, PaperPhase.IN_DISCUSSION,
+                11L, PaperPhase.IN_REVIEW,
+                12L, PaperPhase.IN_DISCUSSION,
+                13L, PaperPhase.REVIEWED
+        ));
+        assertThat(result.keySet().toArray()).isEqualTo(paperIDs.toArray());
+    }
 }
@@ -0,0 +1,156 @@
+package nl.tudelft.sem.v20232024.team08b.unit.phase;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackDeadlineScheduler;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseChangedEvent;
+import nl.tudelft.sem.v20232024.team08b.communicators.CommunicationWithUsersMicroservice;
+import nl.tudelft.sem.v20232024.team08b.domain.Track;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TrackDeadlineSchedulerTests {
+    private final TrackRepository trackRepository = Mockito.mock(TrackRepository.class);
+    private final CommunicationWithUsersMicroservice usersCommunicator =
+            Mockito.mock(CommunicationWithUsersMicroservice.class);
+    private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
+    private final ApplicationEventPublisher eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+    private final ScheduledExecutorService executor = Mockito.mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> future = Mockito.mock(ScheduledFuture.class);
+
+    private final TrackDeadlineScheduler scheduler = new TrackDeadlineScheduler(
+            trackRepository,
+            usersCommunicator,
+            trackPhaseCalculator,
+            eventPublisher,
+            executor
+    );
+
+    private final TrackID trackID = new TrackID(1L, 2L);
+
+    @BeforeEach
+    void init() {
+        // Set current time to 100ms since start of time
+        scheduler.setClock(Clock.fixed(Instant.ofEpochMilli(100L), ZoneOffset.UTC));
+        doReturn(future).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    /**
+     * Helper method that gets the task of the deadline scheduled last.
+     *
+     * @param delay the expected delay of the task, in milliseconds
+     * @return the task
+     */
+    private Runnable scheduledTask(long delay) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(task.capture(), Mockito.eq(delay), Mockito.eq(TimeUnit.MILLISECONDS));
+        return task.getValue();
+    }
+
+    @Test
+    void biddingDeadlinePasses() throws NotFoundException {
+        when(trackPhaseCalculator.getTrackPhase(1L, 2L)).thenReturn(TrackPhase.ASSIGNING);
+
+        scheduler.scheduleBiddingDeadline(trackID, new Date(150L));
+        assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+
+        // The phase changes right after the deadline
+        scheduledTask(51L).run();
+
+        verify(trackPhaseCalculator).invalidateTrackPhase(1L, 2L);
+        verify(eventPublisher).publishEvent(new TrackPhaseChangedEvent(trackID, TrackPhase.ASSIGNING));
+        assertThat(scheduler.getScheduledCount()).isEqualTo(0);
+    }
+
+    @Test
+    void movedDeadlineReplacesThePreviousOne() {
+        ScheduledFuture<?> newFuture = Mockito.mock(ScheduledFuture.class);
+        scheduler.scheduleBiddingDeadline(trackID, new Date(150L));
+        doReturn(newFuture).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        scheduler.scheduleBiddingDeadline(trackID, new Date(300L));
+
+        verify(future).cancel(false);
+        verify(newFuture, never()).cancel(Mockito.anyBoolean());
+        assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replacedDeadlineDoesNotRemoveTheNewOne() {
+        scheduler.scheduleBiddingDeadline(trackID, new Date(150L));
+        Runnable old = scheduledTask(51L);
+        scheduler.scheduleBiddingDeadline(trackID, new Date(300L));
+
+        // The old task was already running when it was cancelled
+        old.run();
+
+        assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void passedDeadlineIsNotScheduled() {
+        scheduler.scheduleSubmissionDeadline(trackID, 99L);
+        scheduler.scheduleBiddingDeadline(trackID, null);
+
+        verify(executor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(scheduler.getScheduledCount()).isEqualTo(0);
+    }
+
+    @Test
+    void deadlineRightNowFiresRightAfter() {
+        // The phase only changes once the current time is after the deadline
+        scheduler.scheduleSubmissionDeadline(trackID, 100L);
+
+        scheduledTask(1L);
+        assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void nothingPublishedIfThePhaseCanNotBeCalculated() throws NotFoundException {
+        when(trackPhaseCalculator.getTrackPhase(1L, 2L)).thenThrow(new NotFoundException(""));
+
+        scheduler.scheduleSubmissionDeadline(trackID, 120L);
+        scheduledTask(21L).run();
+
+        verify(trackPhaseCalculator).invalidateTrackPhase(1L, 2L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void recoverSchedulesOpenTracks() {
+        Track track = new Track(trackID, new Date(500L), false, List.of());
+        when(trackRepository.findByBiddingDeadlineAfter(new Date(100L))).thenReturn(List.of(track));
+        var external = new nl.tudelft.sem.v20232024.team08b.dtos.users.Track();
+        external.setDeadline(300L);
+        when(usersCommunicator.getTrackAsync(1L, 2L)).thenReturn(CompletableFuture.completedFuture(external));
+
+        scheduler.recover();
+
+        verify(executor).schedule(any(Runnable.class), Mockito.eq(401L), Mockito.eq(TimeUnit.MILLISECONDS));
+        verify(executor).schedule(any(Runnable.class), Mockito.eq(201L), Mockito.eq(TimeUnit.MILLISECONDS));
+        assertThat(scheduler.getScheduledCount()).isEqualTo(2);
+    }
+}
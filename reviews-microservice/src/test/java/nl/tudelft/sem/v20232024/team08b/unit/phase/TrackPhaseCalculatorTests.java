@@ -23,7 +23,11 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TrackPhaseCalculatorTests {
@@ -82,6 +86,7 @@ public class TrackPhaseCalculatorTests {
                 false,
                 papers
         );
+        when(trackRepository.findPaperIDs(trackID)).thenReturn(List.of(3L, 4L));
 
         // Set up a fake track DTO
         trackDTO = new nl.tudelft.sem.v20232024.team08b.dtos.users.Track();
@@ -372,6 +377,38 @@ public class TrackPhaseCalculatorTests {
         assertThat(result).isTrue();
     }
 
+    @Test
+    void checkIfAllPapersFinalized_CountersNotAllFinalized() throws NotFoundException {
+        track.setTotalPapers(2);
+        track.setFinalizedPapers(1);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+
+        boolean result = trackPhaseCalculator.checkIfAllPapersFinalized(
+                trackID.getConferenceID(),
+                trackID.getTrackID()
+        );
+
+        assertThat(result).isFalse();
+        verify(paperPhaseCalculator, never()).getPaperPhase(any());
+    }
+
+    @Test
+    void checkIfAllPapersFinalized_CountersAllFinalized() throws NotFoundException {
+        // The counters are used even if the papers say otherwise
+        setPaperPhase(0, PaperPhase.IN_REVIEW);
+        track.setTotalPapers(2);
+        track.setFinalizedPapers(2);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+
+        boolean result = trackPhaseCalculator.checkIfAllPapersFinalized(
+                trackID.getConferenceID(),
+                trackID.getTrackID()
+        );
+
+        assertThat(result).isTrue();
+        verify(paperPhaseCalculator, never()).getPaperPhase(any());
+    }
+
     @Test
     void getBiddingDeadlineAsLong_NotInRepo() {
         // Assume track is not in repo
@@ -397,4 +434,95 @@ public class TrackPhaseCalculatorTests {
         );
         assertThat(result).isEqualTo(dateUnix);
     }
+
+    /**
+     * Helper method that creates a calculator that keeps the phases for 100ms.
+     *
+     * @return the caching calculator
+     */
+    private TrackPhaseCalculator cachingCalculator() {
+        TrackPhaseCalculator calculator = new TrackPhaseCalculator(
+                trackRepository,
+                usersCommunicator,
+                paperPhaseCalculator,
+                100L
+        );
+        calculator.setClock(clock);
+        return calculator;
+    }
+
+    @Test
+    void getTrackPhase_CachedUntilSubmissionDeadline() throws NotFoundException {
+        TrackPhaseCalculator calculator = cachingCalculator();
+        trackDTO.setDeadline(20L);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.SUBMITTING);
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(20L));
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.SUBMITTING);
+        verify(usersCommunicator, times(1)).getTrack(trackID.getConferenceID(), trackID.getTrackID());
+
+        // Once the submission deadline passes, the phase is calculated again
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(21L));
+        trackDTO.setDeadline(5L);
+        track.setBiddingDeadline(Date.from(Instant.ofEpochMilli(50L)));
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.BIDDING);
+        verify(usersCommunicator, times(2)).getTrack(trackID.getConferenceID(), trackID.getTrackID());
+    }
+
+    @Test
+    void getTrackPhase_CachedUntilTimeToLive() throws NotFoundException {
+        TrackPhaseCalculator calculator = cachingCalculator();
+        trackDTO.setDeadline(5L);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(30L));
+
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.ASSIGNING);
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(129L));
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.ASSIGNING);
+        verify(usersCommunicator, times(1)).getTrack(trackID.getConferenceID(), trackID.getTrackID());
+
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(130L));
+        calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+        verify(usersCommunicator, times(2)).getTrack(trackID.getConferenceID(), trackID.getTrackID());
+    }
+
+    @Test
+    void getTrackPhase_RecalculatedAfterInvalidation() throws NotFoundException {
+        TrackPhaseCalculator calculator = cachingCalculator();
+        trackDTO.setDeadline(5L);
+        when(trackRepository.findById(trackID)).thenReturn(Optional.of(track));
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(30L));
+
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.ASSIGNING);
+
+        when(paperPhaseCalculator.checkIfReviewersAreAssignedToTrack(trackID.getConferenceID(), trackID.getTrackID()))
+                .thenReturn(true);
+        setPaperPhase(0, PaperPhase.IN_REVIEW);
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.ASSIGNING);
+
+        calculator.invalidateTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+        assertThat(calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
+                .isEqualTo(TrackPhase.REVIEWING);
+    }
+
+    @Test
+    void invalidateTrackPhaseOfPaper() throws NotFoundException {
+        TrackPhaseCalculator calculator = cachingCalculator();
+        trackDTO.setDeadline(20L);
+        when(paperPhaseCalculator.getTrackOfPaper(3L)).thenReturn(trackID);
+
+        calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+        calculator.invalidateTrackPhaseOfPaper(3L);
+        calculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
+
+        verify(usersCommunicator, times(2)).getTrack(trackID.getConferenceID(), trackID.getTrackID());
+    }
 }
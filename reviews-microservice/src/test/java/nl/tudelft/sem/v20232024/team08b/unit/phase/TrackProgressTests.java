@@ -0,0 +1,54 @@
+package nl.tudelft.sem.v20232024.team08b.unit.phase;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.phase.PaperPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackProgress;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TrackProgressTests {
+    private final TrackRepository trackRepository = Mockito.mock(TrackRepository.class);
+    private final PaperRepository paperRepository = Mockito.mock(PaperRepository.class);
+    private final PaperPhaseCalculator paperPhaseCalculator = Mockito.mock(PaperPhaseCalculator.class);
+
+    private final TrackProgress trackProgress = new TrackProgress(
+            trackRepository,
+            paperRepository,
+            paperPhaseCalculator
+    );
+
+    private final Long paperID = 3L;
+    private final TrackID trackID = new TrackID(1L, 2L);
+
+    @BeforeEach
+    void init() throws NotFoundException {
+        when(paperPhaseCalculator.getTrackOfPaper(paperID)).thenReturn(trackID);
+    }
+
+    @Test
+    void finalizePaper_Successful() throws NotFoundException {
+        when(paperRepository.finalizeReviews(paperID, PaperStatus.ACCEPTED)).thenReturn(1);
+
+        assertThat(trackProgress.finalizePaper(paperID, PaperStatus.ACCEPTED)).isTrue();
+        verify(trackRepository).incrementFinalizedPapers(trackID);
+    }
+
+    @Test
+    void finalizePaper_AlreadyFinalized() throws NotFoundException {
+        when(paperRepository.finalizeReviews(paperID, PaperStatus.REJECTED)).thenReturn(0);
+
+        assertThat(trackProgress.finalizePaper(paperID, PaperStatus.REJECTED)).isFalse();
+        verify(trackRepository, never()).incrementFinalizedPapers(any());
+    }
+}
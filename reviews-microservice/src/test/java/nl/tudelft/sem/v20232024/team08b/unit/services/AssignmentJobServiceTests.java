@@ -0,0 +1,176 @@
+package nl.tudelft.sem.v20232024.team08b.unit.services;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.AssignmentJobService;
+import nl.tudelft.sem.v20232024.team08b.application.AssignmentsService;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobRequest;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrack;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentJobTrackStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.JobStatus;
+import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AssignmentJobServiceTests {
+    private final AssignmentsService assignmentsService = Mockito.mock(AssignmentsService.class);
+    private final Clock clock = Mockito.mock(Clock.class);
+    private final List<Runnable> queuedTracks = new ArrayList<>();
+    private AssignmentJobService assignmentJobService;
+
+    private final Long requesterID = 1L;
+    private final Long conferenceID = 2L;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(1000L);
+        assignmentJobService = new AssignmentJobService(assignmentsService, queuedTracks::add,
+                new ExpiringLruCache<>(Duration.ofMillis(10_000), 10, clock), clock);
+    }
+
+    private AssignmentJobRequest request(Long... trackIDs) {
+        List<AssignmentJobTrack> tracks = new ArrayList<>();
+        for (Long trackID : trackIDs) {
+            tracks.add(new AssignmentJobTrack(conferenceID, trackID));
+        }
+        return new AssignmentJobRequest(tracks, AssignmentStrategyType.MIN_COST_FLOW);
+    }
+
+    private void runQueuedTracks() {
+        queuedTracks.forEach(Runnable::run);
+        queuedTracks.clear();
+    }
+
+    @Test
+    void submit_tracksArePending() throws Exception {
+        AssignmentJobStatus status = assignmentJobService.submit(requesterID, request(3L, 4L));
+
+        assertThat(status.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(status.getTracksTotal()).isEqualTo(2);
+        assertThat(status.getTracksFinished()).isEqualTo(0);
+        assertThat(queuedTracks.size()).isEqualTo(2);
+        verify(assignmentsService, never()).runAutomaticAssignment(any(), any(), any(), any());
+    }
+
+    @Test
+    void submit_noTracks() {
+        assertThrows(IllegalArgumentException.class, () ->
+                assignmentJobService.submit(requesterID, request()));
+        assertThrows(IllegalArgumentException.class, () ->
+                assignmentJobService.submit(requesterID, null));
+    }
+
+    @Test
+    void submit_sameTrackOnlyOnce() {
+        AssignmentJobStatus status = assignmentJobService.submit(requesterID, request(3L, 3L));
+
+        assertThat(status.getTracksTotal()).isEqualTo(1);
+        assertThat(queuedTracks.size()).isEqualTo(1);
+    }
+
+    @Test
+    void runTracks_reportsProgress() throws Exception {
+        when(assignmentsService.runAutomaticAssignment(requesterID, conferenceID, 3L,
+                AssignmentStrategyType.MIN_COST_FLOW))
+                .thenReturn(List.of(new Review(10L, 20L), new Review(10L, 21L), new Review(11L, 20L)));
+        Long jobID = assignmentJobService.submit(requesterID, request(3L)).getJobID();
+
+        when(clock.millis()).thenReturn(1200L, 1500L, 2000L);
+        runQueuedTracks();
+        AssignmentJobStatus status = assignmentJobService.getJob(requesterID, jobID);
+
+        assertThat(status.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(status.getTracksFinished()).isEqualTo(1);
+        assertThat(status.getPapersAssigned()).isEqualTo(2);
+        assertThat(status.getReviewersAssigned()).isEqualTo(3);
+        assertThat(status.getElapsedMillis()).isEqualTo(500L);
+        AssignmentJobTrackStatus track = status.getTracks().get(0);
+        assertThat(track.getElapsedMillis()).isEqualTo(300L);
+        assertThat(track.getError()).isEqualTo(null);
+    }
+
+    @Test
+    void runTracks_failingTrackDoesNotAffectOthers() throws Exception {
+        when(assignmentsService.runAutomaticAssignment(requesterID, conferenceID, 3L,
+                AssignmentStrategyType.MIN_COST_FLOW))
+                .thenThrow(new IllegalArgumentException("At least One reviewer needed"));
+        when(assignmentsService.runAutomaticAssignment(requesterID, conferenceID, 4L,
+                AssignmentStrategyType.MIN_COST_FLOW))
+                .thenReturn(List.of(new Review(10L, 20L)));
+        Long jobID = assignmentJobService.submit(requesterID, request(3L, 4L)).getJobID();
+
+        runQueuedTracks();
+        AssignmentJobStatus status = assignmentJobService.getJob(requesterID, jobID);
+
+        assertThat(status.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(status.getTracksFinished()).isEqualTo(2);
+        assertThat(status.getTracks().get(0).getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(status.getTracks().get(0).getError()).isEqualTo("At least One reviewer needed");
+        assertThat(status.getTracks().get(1).getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+        assertThat(status.getReviewersAssigned()).isEqualTo(1);
+    }
+
+    @Test
+    void runTracks_requesterIsNotAChair() throws Exception {
+        when(assignmentsService.runAutomaticAssignment(any(), any(), any(), any()))
+                .thenThrow(new IllegalAccessException());
+        Long jobID = assignmentJobService.submit(requesterID, request(3L)).getJobID();
+
+        runQueuedTracks();
+        AssignmentJobTrackStatus track = assignmentJobService.getJob(requesterID, jobID).getTracks().get(0);
+
+        assertThat(track.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(track.getError()).isEqualTo("Only the chairs of the track can assign its reviewers");
+    }
+
+    @Test
+    void submit_rejectedTrackFails() throws Exception {
+        assignmentJobService = new AssignmentJobService(assignmentsService, task -> {
+            throw new RejectedExecutionException();
+        }, new ExpiringLruCache<>(Duration.ofMillis(10_000), 10, clock), clock);
+
+        AssignmentJobStatus status = assignmentJobService.submit(requesterID, request(3L));
+
+        assertThat(status.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(status.getTracks().get(0).getError()).isEqualTo("Too many automatic assignments are running");
+    }
+
+    @Test
+    void getJob_notFound() {
+        assertThrows(NotFoundException.class, () -> assignmentJobService.getJob(requesterID, 42L));
+    }
+
+    @Test
+    void getJob_otherRequester() {
+        Long jobID = assignmentJobService.submit(requesterID, request(3L)).getJobID();
+
+        assertThrows(ForbiddenAccessException.class, () -> assignmentJobService.getJob(requesterID + 1, jobID));
+    }
+
+    @Test
+    void getJob_runningWhileSomeTracksArePending() throws Exception {
+        when(assignmentsService.runAutomaticAssignment(any(), any(), any(), any())).thenReturn(List.of());
+        Long jobID = assignmentJobService.submit(requesterID, request(3L, 4L)).getJobID();
+
+        queuedTracks.get(0).run();
+
+        assertThat(assignmentJobService.getJob(requesterID, jobID).getStatus()).isEqualTo(JobStatus.RUNNING);
+    }
+}
@@ -2,8 +2,13 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.AssignmentsService;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
 import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentRepairer;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshotLoader;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
 import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentWithThreeSmallest;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.MinCostFlowAssignment;
 import nl.tudelft.sem.v20232024.team08b.application.verification.AssignmentsVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.PapersVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
@@ -11,7 +16,8 @@ import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerificati
 import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
 import nl.tudelft.sem.v20232024.team08b.communicators.UsersMicroserviceCommunicator;
 import nl.tudelft.sem.v20232024.team08b.domain.*;
-import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.ManualAssignment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
@@ -19,11 +25,13 @@ import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ConflictOfInterestException;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
 import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperReviewCount;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.TrackRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.*;
@@ -44,6 +52,7 @@ public class AssignmentsServiceTests {
             Mockito.mock(SubmissionsMicroserviceCommunicator.class);
     private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
     private final TrackRepository trackRepository = Mockito.mock(TrackRepository.class);
+    private final ReviewAnalyticsCache reviewAnalyticsCache = Mockito.mock(ReviewAnalyticsCache.class);
 
     private final AssignmentsVerification assignmentsVerification =
             Mockito.spy(new AssignmentsVerification(
@@ -53,6 +62,9 @@ public class AssignmentsServiceTests {
                     usersCommunicator,
                     trackPhaseCalculator
             ));
+    private final AssignmentSnapshotLoader snapshotLoader =
+            new AssignmentSnapshotLoader(bidRepository, reviewRepository, submissionsCommunicator);
+    private final AssignmentRepairer assignmentRepairer = Mockito.mock(AssignmentRepairer.class);
     private AssignmentsService assignmentsService;
 
     private final Long reviewerID = 1L;
@@ -68,41 +80,45 @@ public class AssignmentsServiceTests {
                         reviewRepository,
                         submissionsCommunicator,
                         trackRepository,
-                        assignmentsVerification
+                        assignmentsVerification,
+                        trackPhaseCalculator,
+                        reviewAnalyticsCache
                 )
         );
         assignmentsService.setAutomaticAssignmentStrategy(new AssignmentWithThreeSmallest(
-                bidRepository, reviewRepository, submissionsCommunicator));
+                snapshotLoader, reviewRepository));
+        assignmentsService.setAssignmentSnapshotLoader(snapshotLoader);
+        assignmentsService.setAssignmentRepairer(assignmentRepairer);
     }
 
     @Test
     void verifyIfRequesterCanAssignRequesterIsChair()
             throws IllegalAccessException, NotFoundException, ConflictOfInterestException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.CHAIR));
 
         Assertions.assertTrue(assignmentsVerification.verifyIfUserCanAssign(requesterID, paperID, UserRole.CHAIR));
 
-        verify(usersVerification).verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
+        verify(usersVerification).getRolesFromPaper(requesterID, paperID);
     }
 
     @Test
     void verifyIfRequesterCanAssignRequesterIsNotChair() {
 
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.noneOf(UserRole.class));
         assertThrows(IllegalAccessException.class, () ->
                 assignmentsVerification.verifyIfUserCanAssign(requesterID, paperID, UserRole.CHAIR)
         );
 
-        verify(usersVerification).verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR);
+        verify(usersVerification).getRolesFromPaper(requesterID, paperID);
     }
 
     @Test
     void verifyIfReviewerCanBeAssignedUserNotInTrack() throws NotFoundException, ConflictOfInterestException {
 
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER))
-                .thenReturn(false);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID))
+                .thenReturn(EnumSet.noneOf(UserRole.class));
         assertThrows(NotFoundException.class, () ->
                 assignmentsVerification.verifyIfUserCanAssign(reviewerID, paperID, UserRole.REVIEWER)
         );
@@ -114,8 +130,8 @@ public class AssignmentsServiceTests {
     void verifyIfReviewerCanBeAssignedUserInTrackNoConflictOfInterest()
             throws NotFoundException, ConflictOfInterestException, IllegalAccessException {
 
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER))
-                .thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
         doNothing().when(papersVerification).verifyCOI(anyLong(), anyLong());
         Assertions.assertTrue(assignmentsVerification.verifyIfUserCanAssign(reviewerID, paperID, UserRole.REVIEWER));
 
@@ -126,8 +142,8 @@ public class AssignmentsServiceTests {
     void verifyIfReviewerCanBeAssignedUserInTrackConflictOfInterest()
             throws NotFoundException, ConflictOfInterestException {
 
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER))
-                .thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
         doThrow(new ConflictOfInterestException("there is coi")).when(papersVerification).verifyCOI(anyLong(), anyLong());
         assertThrows(ConflictOfInterestException.class, () ->
                 assignmentsVerification.verifyIfUserCanAssign(reviewerID, paperID, UserRole.REVIEWER));
@@ -147,8 +163,8 @@ public class AssignmentsServiceTests {
         TrackPhase phase = TrackPhase.ASSIGNING;
         phases.add(phase);
         doNothing().when(tracksVerification).verifyTrackPhaseThePaperIsIn(paperID, phases);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         doNothing().when(tracksVerification).verifyIfTrackExists(paperID);
 
         // Execute the method
@@ -163,6 +179,41 @@ public class AssignmentsServiceTests {
         // Verify that reviewRepository.save is called with the correct argument
         verify(reviewRepository).save(argThat(review -> review.getReviewID().getPaperID().equals(paperID)
                 && review.getReviewID().getReviewerID().equals(reviewerID)));
+        verify(reviewAnalyticsCache).invalidatePaper(paperID);
+    }
+
+    @Test
+    void assignManuallyBulkSkipsExistingAndRepeatedPairs()
+            throws IllegalAccessException, NotFoundException, ConflictOfInterestException {
+        doNothing().when(assignmentsVerification).verifyIfManualAssignmentIsPossible(anyLong(), anyLong(), anyLong());
+        when(reviewRepository.findByReviewIDPaperIDIn(Set.of(paperID, 10L)))
+                .thenReturn(List.of(new Review(paperID, reviewerID)));
+
+        assignmentsService.assignManually(requesterID, List.of(new ManualAssignment(paperID, reviewerID),
+                new ManualAssignment(paperID, 7L), new ManualAssignment(paperID, 7L), new ManualAssignment(10L, 7L)));
+
+        verify(assignmentsVerification, times(4)).verifyIfManualAssignmentIsPossible(eq(requesterID), any(), any());
+        verify(reviewRepository).insertAll(List.of(new Review(paperID, 7L), new Review(10L, 7L)));
+        verify(reviewRepository, never()).save(any());
+        verify(reviewAnalyticsCache).invalidatePapers(Set.of(paperID, 10L));
+    }
+
+    @Test
+    void assignManuallyBulkNothingSavedIfOneFails()
+            throws IllegalAccessException, NotFoundException, ConflictOfInterestException {
+        doNothing().when(assignmentsVerification).verifyIfManualAssignmentIsPossible(requesterID, paperID, reviewerID);
+        doThrow(new ConflictOfInterestException("COI")).when(assignmentsVerification)
+                .verifyIfManualAssignmentIsPossible(requesterID, 10L, reviewerID);
+
+        assertThrows(ConflictOfInterestException.class, () -> assignmentsService.assignManually(requesterID,
+                List.of(new ManualAssignment(paperID, reviewerID), new ManualAssignment(10L, reviewerID))));
+        verify(reviewRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void assignManuallyBulkWithoutAssignments() {
+        assertThrows(IllegalArgumentException.class, () -> assignmentsService.assignManually(requesterID, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> assignmentsService.assignManually(requesterID, null));
     }
 
     @Test
@@ -194,23 +245,14 @@ public class AssignmentsServiceTests {
     void assignmentsSuccessful() throws IllegalAccessException, NotFoundException {
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        List<Review> reviews = new ArrayList<>();
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        List<Long> reviewers = new ArrayList<>();
+        when(reviewRepository.findReviewersByPaper(paperID)).thenReturn(reviewers);
         assertThat(assignmentsService.assignments(requesterID, paperID).size()).isEqualTo(0);
-        Review r1 = new Review();
-        Review r2 = new Review();
-        Review r3 = new Review();
-        ReviewID riD1 = new ReviewID(paperID, 8L);
-        ReviewID riD2 = new ReviewID(paperID, reviewerID);
-        ReviewID riD3 = new ReviewID(paperID, reviewerID);
-        r1.setReviewID(riD1);
-        r2.setReviewID(riD2);
-        r3.setReviewID(riD3);
-        reviews.add(r1);
+        reviewers.add(8L);
         assertThat(assignmentsService.assignments(requesterID, paperID).size()).isEqualTo(1);
-        reviews.add(r2);
+        reviewers.add(reviewerID);
         assertThat(assignmentsService.assignments(requesterID, paperID).size()).isEqualTo(2);
-        reviews.add(r3);
+        reviewers.add(reviewerID);
         assertThat(assignmentsService.assignments(requesterID, paperID).size()).isEqualTo(3);
     }
 
@@ -224,444 +266,275 @@ public class AssignmentsServiceTests {
     @Test
     void assignAuto_userNotExist() {
         when(tracksVerification.verifyTrack(123L, 123L)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(123L, 123L, 123L, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesInTrack(123L, 123L, 123L)).thenReturn(EnumSet.noneOf(UserRole.class));
         assertThrows(NotFoundException.class, () -> assignmentsService.assignAuto(123L, 123L, 123L));
     }
 
     @Test
     void assignAuto_notPcChair() {
         when(tracksVerification.verifyTrack(123L, 123L)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(123L, 123L, 123L, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(123L, 123L, 123L, UserRole.CHAIR)).thenReturn(false);
+        when(usersVerification.getRolesInTrack(123L, 123L, 123L))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
         assertThrows(IllegalAccessException.class, () -> assignmentsService.assignAuto(123L, 123L, 123L));
     }
 
-    @Test
-    void assignAuto_zeroUser() {
-        List<Paper> papers = new ArrayList<>();
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Date date = new Date();
-        Optional<Track> trackOptional =
-                Optional.of(new Track(trackID1, date, false, papers));
-        Track track = trackOptional.get();
-        Paper paper = new Paper(123L, track, PaperStatus.ACCEPTED, false);
-        papers.add(paper);
-        List<Bid> bids = new ArrayList<>();
+    /**
+     * Stubs everything the automatic assignment of the test track needs.
+     *
+     * @param paperIDs the IDs of the papers in the track
+     * @param bids the bids on the papers of the track
+     * @param reviews the reviews already assigned to the papers of the track
+     */
+    private void stubAutoAssignment(List<Long> paperIDs, List<Bid> bids, List<Review> reviews) {
         when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR))
-                .thenReturn(true);
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(trackOptional);
-
-        when(bidRepository.findByPaperID(paper.getId())).thenReturn(bids);
-        assertThrows(IllegalArgumentException.class, () ->
-                assignmentsService.assignAuto(requesterID, conferenceID, trackID));
-
+        when(usersVerification.getRolesInTrack(requesterID, conferenceID, trackID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER, UserRole.CHAIR));
+        TrackID trackID1 = new TrackID(conferenceID, trackID);
+        when(trackRepository.existsById(trackID1)).thenReturn(true);
+        when(trackRepository.findPaperIDs(trackID1)).thenReturn(paperIDs);
+        when(bidRepository.findByPaperIDIn(any())).thenReturn(bids);
+        when(reviewRepository.findByReviewIDPaperIDIn(any())).thenReturn(reviews);
+    }
 
+    /**
+     * Gets the assignments saved by the automatic assignment.
+     *
+     * @return the IDs of the saved reviews
+     */
+    @SuppressWarnings("unchecked")
+    private Set<ReviewID> savedAssignments() {
+        ArgumentCaptor<Collection<Review>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(reviewRepository).insertAll(captor.capture());
+        Set<ReviewID> saved = new HashSet<>();
+        captor.getValue().forEach(review -> saved.add(review.getReviewID()));
+        return saved;
     }
 
-    @Test
-    void assignAuto_oneUser() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        List<Bid> bids = new ArrayList<>();
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Date date = new Date();
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, date, false, papers));
-        Track track = trackOptional.get();
-        Paper paper = new Paper(123L, track, PaperStatus.ACCEPTED, false);
-        Bid bid = new Bid(paper.getId(), 123L,
-                nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        papers.add(paper);
-        bids.add(bid);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
+    private Bid canReview(Long paperID, Long bidderID) {
+        return new Bid(paperID, bidderID, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
+    }
 
-        when(bidRepository.findByPaperID(paper.getId())).thenReturn(bids);
-        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(review -> review.getReviewID().getPaperID().equals(123L)
-                && review.getReviewID().getReviewerID().equals(123L)));
+    private PaperReviewCount reviewCount(Long paperID, long reviews) {
+        return new PaperReviewCount() {
+            @Override
+            public Long getPaperID() {
+                return paperID;
+            }
 
+            @Override
+            public Long getReviews() {
+                return reviews;
+            }
 
+            @Override
+            public Long getSubmitted() {
+                return 0L;
+            }
+        };
     }
 
     @Test
-    void assignAuto_oneUserException() throws NotFoundException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
+    void assignAuto_zeroUser() {
+        stubAutoAssignment(List.of(123L), List.of(), List.of());
+        assertThrows(IllegalArgumentException.class, () ->
+                assignmentsService.assignAuto(requesterID, conferenceID, trackID));
+        verify(reviewRepository, never()).insertAll(any());
+    }
 
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenThrow((new NotFoundException("Track not found")));
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
+    @Test
+    void assignAuto_oneUser() throws NotFoundException, IllegalAccessException {
+        stubAutoAssignment(List.of(123L), List.of(canReview(123L, 123L)), List.of());
 
-        assertThrows(RuntimeException.class, () -> assignmentsService.assignAuto(requesterID, conferenceID, trackID));
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+        assertEquals(Set.of(new ReviewID(123L, 123L)), savedAssignments());
+        verify(reviewAnalyticsCache).invalidateTrack(new TrackID(conferenceID, trackID));
+    }
 
+    @Test
+    void assignAuto_doesNotAskTheSubmissionsMicroservice() throws NotFoundException, IllegalAccessException {
+        stubAutoAssignment(List.of(paperID),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L)),
+                List.of(new Review(10L, 1L)));
 
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+        // The load of the reviewers is computed from the papers of the track alone
+        verify(submissionsCommunicator, never()).getSubmission(any());
+        verify(submissionsCommunicator, never()).getSubmissions(any());
+        verify(reviewRepository, never()).findByReviewIDReviewerID(any());
     }
 
     @Test
     void assignAuto_twoUsersAutomatic() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Submission submission = new Submission();
-        submission.setTrackId(trackID);
-        submission.setEventId(conferenceID);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-        Review review2 = new Review();
-        review2.setReviewID(new ReviewID(10L, 2L));
-        Review review3 = new Review();
-        review3.setReviewID(new ReviewID(20L, 2L));
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-        List<Review> reviews2 = new ArrayList<>();
-        reviews2.add(review2);
-        reviews2.add(review3);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
-        when(reviewRepository.findByReviewIDReviewerID(2L)).thenReturn(reviews2);
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
+        stubAutoAssignment(List.of(paperID),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L)),
+                List.of());
 
         assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(1L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(2L)));
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 2L)), savedAssignments());
     }
 
-
-
     @Test
     void assignAuto_fourUsersAutomatic() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Submission submission = new Submission();
-        submission.setTrackId(trackID);
-        submission.setEventId(conferenceID);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid3 = new Bid(paperID, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid4 = new Bid(paperID, 4L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-        bids.add(bid3);
-        bids.add(bid4);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-        Review review2 = new Review();
-        review2.setReviewID(new ReviewID(10L, 2L));
-        Review review3 = new Review();
-        review3.setReviewID(new ReviewID(20L, 2L));
-        Review review4 = new Review();
-        review4.setReviewID(new ReviewID(10L, 3L));
-        Review review5 = new Review();
-        review5.setReviewID(new ReviewID(20L, 4L));
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-        List<Review> reviews2 = new ArrayList<>();
-        reviews2.add(review2);
-        reviews2.add(review3);
-        List<Review> reviews3 = new ArrayList<>();
-        reviews3.add(review4);
-        List<Review> reviews4 = new ArrayList<>();
-        reviews4.add(review5);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
-        when(reviewRepository.findByReviewIDReviewerID(2L)).thenReturn(reviews2);
-        when(reviewRepository.findByReviewIDReviewerID(3L)).thenReturn(reviews3);
-        when(reviewRepository.findByReviewIDReviewerID(4L)).thenReturn(reviews4);
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
+        // Paper 10 and 20 already have their three reviewers, so they only count towards the load
+        stubAutoAssignment(List.of(paperID, 10L, 20L),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L), canReview(paperID, 3L), canReview(paperID, 4L)),
+                List.of(new Review(10L, 1L), new Review(10L, 2L), new Review(10L, 3L),
+                        new Review(20L, 2L), new Review(20L, 4L), new Review(20L, 5L)));
 
         assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(1L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(3L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(4L)));
-        verify(reviewRepository, never()).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(2L)));
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 3L), new ReviewID(paperID, 4L)),
+                savedAssignments());
+    }
 
+    @Test
+    void assignAuto_threeUsersAutomatic() throws NotFoundException, IllegalAccessException {
+        stubAutoAssignment(List.of(paperID, 10L),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L), canReview(paperID, 3L)),
+                List.of(new Review(10L, 1L), new Review(10L, 2L), new Review(10L, 3L)));
 
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 2L), new ReviewID(paperID, 3L)),
+                savedAssignments());
+    }
 
+    @Test
+    void assignAuto_fourUsersNotInTrack() throws NotFoundException, IllegalAccessException {
+        // Reviewer 2 reviews papers of other tracks only, which are not loaded
+        stubAutoAssignment(List.of(paperID, 10L, 20L),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L), canReview(paperID, 3L), canReview(paperID, 4L)),
+                List.of(new Review(10L, 1L), new Review(10L, 3L), new Review(10L, 6L),
+                        new Review(20L, 4L), new Review(20L, 6L), new Review(20L, 7L)));
 
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 2L), new ReviewID(paperID, 3L)),
+                savedAssignments());
+        verify(reviewRepository).findByReviewIDPaperIDIn(List.of(paperID, 10L, 20L));
     }
 
     @Test
-    void assignAuto_threeUsersAutomatic() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Submission submission = new Submission();
-        submission.setTrackId(trackID);
-        submission.setEventId(conferenceID);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid3 = new Bid(paperID, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-        bids.add(bid3);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-        Review review2 = new Review();
-        review2.setReviewID(new ReviewID(10L, 2L));
-        Review review3 = new Review();
-        review3.setReviewID(new ReviewID(20L, 2L));
-        Review review4 = new Review();
-        review4.setReviewID(new ReviewID(10L, 3L));
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-        List<Review> reviews2 = new ArrayList<>();
-        reviews2.add(review2);
-        reviews2.add(review3);
-        List<Review> reviews3 = new ArrayList<>();
-        reviews3.add(review4);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
-        when(reviewRepository.findByReviewIDReviewerID(2L)).thenReturn(reviews2);
-        when(reviewRepository.findByReviewIDReviewerID(3L)).thenReturn(reviews3);
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-            trackOptional
-        );
+    void assignAuto_accountsForAssignmentsOfTheSameRun() throws NotFoundException, IllegalAccessException {
+        stubAutoAssignment(List.of(paperID, 10L),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L), canReview(paperID, 3L), canReview(paperID, 4L),
+                        canReview(10L, 1L), canReview(10L, 2L), canReview(10L, 3L), canReview(10L, 4L)),
+                List.of());
 
         assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-            && reviewCheck.getReviewID().getReviewerID().equals(1L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-            && reviewCheck.getReviewID().getReviewerID().equals(3L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-            && reviewCheck.getReviewID().getReviewerID().equals(2L)));
+        // Reviewer 4 got nothing for the first paper, so it is the first pick for the second one
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 2L), new ReviewID(paperID, 3L),
+                new ReviewID(10L, 4L), new ReviewID(10L, 1L), new ReviewID(10L, 2L)), savedAssignments());
+    }
 
+    @Test
+    void assignAuto_skipsReviewersAlreadyAssigned() throws NotFoundException, IllegalAccessException {
+        stubAutoAssignment(List.of(paperID),
+                List.of(canReview(paperID, 1L), canReview(paperID, 2L), canReview(paperID, 3L)),
+                List.of(new Review(paperID, 1L), new Review(paperID, 2L)));
 
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
+        assertEquals(Set.of(new ReviewID(paperID, 3L)), savedAssignments());
+    }
 
+    @Test
+    void assignAuto_withSelectedStrategy() throws NotFoundException, IllegalAccessException {
+        assignmentsService.setAutomaticAssignmentStrategies(List.of(
+                new MinCostFlowAssignment(snapshotLoader, reviewRepository, 0)));
+        stubAutoAssignment(List.of(paperID),
+                List.of(canReview(paperID, 1L),
+                        new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NOT_REVIEW),
+                        canReview(paperID, 3L)),
+                List.of());
 
+        assignmentsService.assignAuto(requesterID, conferenceID, trackID, AssignmentStrategyType.MIN_COST_FLOW);
+        assertEquals(Set.of(new ReviewID(paperID, 1L), new ReviewID(paperID, 3L)), savedAssignments());
     }
 
     @Test
-    void assignAuto_fourUsersNotInTrack() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Submission submission = new Submission();
-        submission.setTrackId(trackID);
-        submission.setEventId(conferenceID);
-        Submission submission2 = new Submission();
-        submission2.setTrackId(trackID + 1);
-        submission2.setEventId(conferenceID);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid3 = new Bid(paperID, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid4 = new Bid(paperID, 4L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-        bids.add(bid3);
-        bids.add(bid4);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-        Review review2 = new Review();
-        review2.setReviewID(new ReviewID(40L, 2L));
-        Review review3 = new Review();
-        review3.setReviewID(new ReviewID(50L, 2L));
-        Review review4 = new Review();
-        review4.setReviewID(new ReviewID(10L, 3L));
-        Review review5 = new Review();
-        review5.setReviewID(new ReviewID(20L, 4L));
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-        List<Review> reviews2 = new ArrayList<>();
-        reviews2.add(review2);
-        reviews2.add(review3);
-        List<Review> reviews3 = new ArrayList<>();
-        reviews3.add(review4);
-        List<Review> reviews4 = new ArrayList<>();
-        reviews4.add(review5);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
-        when(reviewRepository.findByReviewIDReviewerID(2L)).thenReturn(reviews2);
-        when(reviewRepository.findByReviewIDReviewerID(3L)).thenReturn(reviews3);
-        when(reviewRepository.findByReviewIDReviewerID(4L)).thenReturn(reviews4);
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(40L)).thenReturn(submission2);
-        when(submissionsCommunicator.getSubmission(50L)).thenReturn(submission2);
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
-
-        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(1L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(3L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(2L)));
-        verify(reviewRepository, never()).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(4L)));
+    void assignAuto_strategyNotAvailable() {
+        stubAutoAssignment(List.of(paperID), List.of(canReview(paperID, 1L)), List.of());
 
+        assertThrows(IllegalArgumentException.class, () -> assignmentsService.assignAuto(requesterID,
+                conferenceID, trackID, AssignmentStrategyType.MIN_COST_FLOW));
+        verify(reviewRepository, never()).insertAll(any());
+    }
 
+    @Test
+    void simulate_comparesStrategiesWithoutSaving() throws NotFoundException, IllegalAccessException {
+        assignmentsService.setAutomaticAssignmentStrategies(List.of(
+                new AssignmentWithThreeSmallest(snapshotLoader, reviewRepository),
+                new MinCostFlowAssignment(snapshotLoader, reviewRepository, 0)));
+        stubAutoAssignment(List.of(paperID),
+                List.of(canReview(paperID, 1L),
+                        new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL),
+                        canReview(paperID, 3L)),
+                List.of());
 
+        List<AssignmentSimulation> simulations = assignmentsService.simulate(requesterID, conferenceID, trackID,
+                List.of(AssignmentStrategyType.MIN_COST_FLOW, AssignmentStrategyType.THREE_SMALLEST));
 
+        assertThat(simulations.size()).isEqualTo(2);
+        assertThat(simulations.get(0).getStrategy()).isEqualTo(AssignmentStrategyType.MIN_COST_FLOW);
+        assertThat(simulations.get(1).getStrategy()).isEqualTo(AssignmentStrategyType.THREE_SMALLEST);
+        for (AssignmentSimulation simulation : simulations) {
+            assertThat(simulation.getAssignments().size()).isEqualTo(3);
+            assertThat(simulation.getCanReviewFraction()).isEqualTo(2.0 / 3);
+            assertThat(simulation.getLoadVariance()).isEqualTo(0.0);
+            assertEquals(List.of(), simulation.getUnassignedPapers());
+        }
+        // The snapshot is loaded once for all the strategies, and nothing is saved
+        verify(bidRepository, times(1)).findByPaperIDIn(any());
+        verify(reviewRepository, never()).insertAll(any());
+        verify(reviewRepository, never()).save(any());
     }
 
     @Test
-    void assignAuto_fourUsersNotInConference() throws NotFoundException, IllegalAccessException {
-        List<Paper> papers = new ArrayList<>();
-        Paper paper1 = new Paper();
-        paper1.setId(paperID);
-        papers.add(paper1);
-        Submission submission = new Submission();
-        submission.setTrackId(trackID);
-        submission.setEventId(conferenceID);
-        Submission submission2 = new Submission();
-        submission2.setTrackId(trackID);
-        submission2.setEventId(conferenceID + 1);
-        Bid bid1 = new Bid(paperID, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid2 = new Bid(paperID, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid3 = new Bid(paperID, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        Bid bid4 = new Bid(paperID, 4L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
-        List<Bid> bids = new ArrayList<>();
-        bids.add(bid1);
-        bids.add(bid2);
-        bids.add(bid3);
-        bids.add(bid4);
-
-        Review review1 = new Review();
-        review1.setReviewID(new ReviewID(10L, 1L));
-        Review review2 = new Review();
-        review2.setReviewID(new ReviewID(40L, 2L));
-        Review review3 = new Review();
-        review3.setReviewID(new ReviewID(50L, 2L));
-        Review review4 = new Review();
-        review4.setReviewID(new ReviewID(10L, 3L));
-        Review review5 = new Review();
-        review5.setReviewID(new ReviewID(20L, 4L));
-        List<Review> reviews1 = new ArrayList<>();
-        reviews1.add(review1);
-        List<Review> reviews2 = new ArrayList<>();
-        reviews2.add(review2);
-        reviews2.add(review3);
-        List<Review> reviews3 = new ArrayList<>();
-        reviews3.add(review4);
-        List<Review> reviews4 = new ArrayList<>();
-        reviews4.add(review5);
-        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(1L)).thenReturn(reviews1);
-        when(reviewRepository.findByReviewIDReviewerID(2L)).thenReturn(reviews2);
-        when(reviewRepository.findByReviewIDReviewerID(3L)).thenReturn(reviews3);
-        when(reviewRepository.findByReviewIDReviewerID(4L)).thenReturn(reviews4);
-        when(bidRepository.findByPaperID(paperID)).thenReturn(bids);
-        when(submissionsCommunicator.getSubmission(10L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(20L)).thenReturn(submission);
-        when(submissionsCommunicator.getSubmission(40L)).thenReturn(submission2);
-        when(submissionsCommunicator.getSubmission(50L)).thenReturn(submission2);
-        TrackID trackID1 = new TrackID(conferenceID, trackID);
-        Optional<Track> trackOptional = Optional.of(new Track(trackID1, new Date(), false, papers));
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-                trackOptional
-        );
+    void simulate_strategyCannotAssign() throws NotFoundException, IllegalAccessException {
+        assignmentsService.setAutomaticAssignmentStrategies(List.of(
+                new AssignmentWithThreeSmallest(snapshotLoader, reviewRepository),
+                new MinCostFlowAssignment(snapshotLoader, reviewRepository, 0)));
+        stubAutoAssignment(List.of(paperID), List.of(), List.of());
 
-        assignmentsService.assignAuto(requesterID, conferenceID, trackID);
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(1L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(3L)));
-        verify(reviewRepository).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(2L)));
-        verify(reviewRepository, never()).save(argThat(reviewCheck -> reviewCheck.getReviewID().getPaperID().equals(paperID)
-                && reviewCheck.getReviewID().getReviewerID().equals(4L)));
+        List<AssignmentSimulation> simulations = assignmentsService.simulate(requesterID, conferenceID, trackID,
+                null);
 
+        assertThat(simulations.size()).isEqualTo(2);
+        // The default strategy gives up, while the min-cost flow leaves the paper without reviewers
+        assertThat(simulations.get(0).getStrategy()).isEqualTo(AssignmentStrategyType.THREE_SMALLEST);
+        assertThat(simulations.get(0).getError()).isEqualTo("At least One reviewer needed");
+        assertThat(simulations.get(1).getStrategy()).isEqualTo(AssignmentStrategyType.MIN_COST_FLOW);
+        assertThat(simulations.get(1).getError()).isNull();
+        assertEquals(List.of(), simulations.get(1).getAssignments());
+        for (AssignmentSimulation simulation : simulations) {
+            assertEquals(List.of(paperID), simulation.getUnassignedPapers());
+        }
+    }
 
+    @Test
+    void simulate_strategyNotAvailable() {
+        // Only the default strategy is registered
+        stubAutoAssignment(List.of(paperID), List.of(canReview(paperID, 1L)), List.of());
 
+        assertThrows(IllegalArgumentException.class, () -> assignmentsService.simulate(requesterID,
+                conferenceID, trackID, List.of(AssignmentStrategyType.MIN_COST_FLOW)));
+    }
 
+    @Test
+    void simulate_notPcChair() {
+        when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
+        when(usersVerification.getRolesInTrack(requesterID, conferenceID, trackID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
+
+        assertThrows(IllegalAccessException.class, () -> assignmentsService.simulate(requesterID,
+                conferenceID, trackID, null));
+        verify(bidRepository, never()).findByPaperIDIn(any());
     }
 
     @Test
     void optionalEmpty() {
         when(tracksVerification.verifyTrack(conferenceID, trackID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)).thenReturn(true);
+        when(usersVerification.getRolesInTrack(requesterID, conferenceID, trackID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER, UserRole.CHAIR));
 
-        Optional<Track> trackOptional = Optional.empty();
-        when(trackRepository.findById(new TrackID(conferenceID, trackID))).thenReturn(
-            trackOptional
-        );
+        when(trackRepository.existsById(new TrackID(conferenceID, trackID))).thenReturn(false);
 
         assertThrows(NotFoundException.class, () -> assignmentsService.assignAuto(requesterID, conferenceID, trackID));
 
@@ -681,7 +554,7 @@ public class AssignmentsServiceTests {
     @Test
     void testGetAssignedPaperNoAssignedPapers() throws NotFoundException {
         when(usersVerification.verifyIfUserExists(requesterID)).thenReturn(true);
-        when(reviewRepository.findByReviewIDReviewerID(requesterID)).thenReturn(Collections.emptyList());
+        when(reviewRepository.findPapersByReviewer(requesterID)).thenReturn(Collections.emptyList());
 
         List<PaperSummaryWithID> result = assignmentsService.getAssignedPapers(requesterID);
         Assertions.assertTrue(result.isEmpty());
@@ -704,7 +577,7 @@ public class AssignmentsServiceTests {
         when(usersVerification.verifyIfUserExists(requesterID)).thenReturn(true);
         when(reviewRepository.findPapersByReviewer(requesterID))
                 .thenReturn(Collections.singletonList(reviewID.getPaperID()));
-        when(submissionsCommunicator.getSubmission(paperID)).thenReturn(submission);
+        when(submissionsCommunicator.getSubmissions(List.of(paperID))).thenReturn(Map.of(paperID, submission));
 
         List<PaperSummaryWithID> result = assignmentsService.getAssignedPapers(requesterID);
         assertFalse(result.isEmpty());
@@ -734,9 +607,8 @@ public class AssignmentsServiceTests {
                 .thenReturn(true);
         when(trackPhaseCalculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
                 .thenReturn(TrackPhase.ASSIGNING);
-        when(reviewRepository.findByReviewIDPaperID(5L)).thenReturn(List.of(new Review(), new Review(), new Review()));
-        when(reviewRepository.findByReviewIDPaperID(6L)).thenReturn(List.of(new Review(),
-                new Review(), new Review(), new Review()));
+        when(reviewRepository.countReviewsPerPaper(List.of(5L, 6L)))
+                .thenReturn(List.of(reviewCount(5L, 3L), reviewCount(6L, 4L)));
         var t = new Track();
         when(trackRepository.findById(trackID.getConferenceID(), trackID.getTrackID()))
                 .thenReturn(Optional.of(t));
@@ -748,6 +620,9 @@ public class AssignmentsServiceTests {
                 assignmentsService.finalization(requesterID, trackID.getConferenceID(), trackID.getTrackID())
         );
         Assertions.assertTrue(t.getReviewersHaveBeenFinalized());
+        assertThat(t.getTotalPapers()).isEqualTo(2);
+        assertThat(t.getFinalizedPapers()).isEqualTo(0);
+        verify(trackPhaseCalculator).invalidateTrackPhase(trackID.getConferenceID(), trackID.getTrackID());
     }
 
     @Test
@@ -762,9 +637,8 @@ public class AssignmentsServiceTests {
                 .thenReturn(true);
         when(trackPhaseCalculator.getTrackPhase(trackID.getConferenceID(), trackID.getTrackID()))
                 .thenReturn(TrackPhase.ASSIGNING);
-        when(reviewRepository.findByReviewIDPaperID(5L)).thenReturn(List.of(new Review(), new Review(), new Review()));
-        when(reviewRepository.findByReviewIDPaperID(6L)).thenReturn(List.of(new Review(),
-                new Review(), new Review(), new Review()));
+        when(reviewRepository.countReviewsPerPaper(List.of(5L, 6L)))
+                .thenReturn(List.of(reviewCount(5L, 3L), reviewCount(6L, 4L)));
         when(trackRepository.findById(trackID.getConferenceID(), trackID.getTrackID()))
                 .thenReturn(Optional.empty());
         when(usersVerification.verifyRoleFromTrack(
@@ -844,10 +718,8 @@ public class AssignmentsServiceTests {
                 .thenReturn(TrackPhase.ASSIGNING);
         when(submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(),
                 trackID.getTrackID(), requesterID)).thenReturn(submissions);
-        when(reviewRepository.findByReviewIDPaperID(5L))
-                .thenReturn(List.of(new Review(), new Review(), new Review()));
-        when(reviewRepository.findByReviewIDPaperID(6L)).thenReturn(List.of(new Review(),
-                new Review()));
+        when(reviewRepository.countReviewsPerPaper(List.of(5L, 6L)))
+                .thenReturn(List.of(reviewCount(5L, 3L), reviewCount(6L, 2L)));
 
         Assertions.assertThrows(IllegalStateException.class,
                 () -> assignmentsService.finalization(requesterID, trackID.getConferenceID(), trackID.getTrackID()));
@@ -949,4 +821,37 @@ public class AssignmentsServiceTests {
 
         verify(reviewRepository, times(1)).delete(review);
     }
+
+    @Test
+    void testRemoveAndReplace() throws NotFoundException, IllegalAccessException {
+        when(papersVerification.verifyPaper(paperID)).thenReturn(true);
+        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
+        doNothing().when(tracksVerification).verifyTrackPhaseThePaperIsIn(paperID, List.of(TrackPhase.ASSIGNING));
+        Review review = new Review(paperID, reviewerID);
+        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(List.of(review));
+
+        Submission submission = new Submission();
+        submission.setEventId(conferenceID);
+        submission.setTrackId(trackID);
+        when(submissionsCommunicator.getSubmission(paperID)).thenReturn(submission);
+        TrackID trackID1 = new TrackID(conferenceID, trackID);
+        when(assignmentRepairer.repair(trackID1, Map.of(paperID, Set.of(reviewerID))))
+                .thenReturn(List.of(new Review(paperID, 7L)));
+
+        assertEquals(List.of(7L), assignmentsService.removeAndReplace(requesterID, paperID, reviewerID));
+        verify(reviewRepository).delete(review);
+        // The load of the reviewers is counted in the database, without loading the papers of the track
+        verify(trackRepository, never()).findById(any(TrackID.class));
+    }
+
+    @Test
+    void testRemoveAndReplaceNoSuchAssignment() throws NotFoundException {
+        when(papersVerification.verifyPaper(paperID)).thenReturn(true);
+        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
+        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(List.of());
+
+        assertThrows(NotFoundException.class,
+                () -> assignmentsService.removeAndReplace(requesterID, paperID, reviewerID));
+        verify(assignmentRepairer, never()).repair(any(), any());
+    }
 }
@@ -2,6 +2,7 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.BidsService;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
 import nl.tudelft.sem.v20232024.team08b.application.verification.BidsVerification;
 import nl.tudelft.sem.v20232024.team08b.domain.Bid;
 import nl.tudelft.sem.v20232024.team08b.domain.BidID;
@@ -24,7 +25,9 @@ public class BidsServiceTests {
     private final BidRepository bidRepository = Mockito.mock(BidRepository.class);
     private final BidsVerification bidsVerification = Mockito.mock(BidsVerification.class);
 
-    private final BidsService bidsService = new BidsService(bidRepository, bidsVerification);
+    private final ReviewAnalyticsCache reviewAnalyticsCache = Mockito.mock(ReviewAnalyticsCache.class);
+
+    private final BidsService bidsService = new BidsService(bidRepository, bidsVerification, reviewAnalyticsCache);
 
     @Test
     public void testGetBidForPaperByReviewer() throws NotFoundException, ForbiddenAccessException {
@@ -103,6 +106,7 @@ public class BidsServiceTests {
         bidsService.bid(requesterID, paperID, bid);
 
         verify(bidRepository, times(1)).save(new Bid(paperID, requesterID, bid));
+        verify(reviewAnalyticsCache).invalidatePaper(paperID);
     }
 
     @Test
@@ -114,5 +118,6 @@ public class BidsServiceTests {
         doThrow(new ForbiddenAccessException())
                 .when(bidsVerification).verifyPermissionToSubmitBid(requesterID, paperID);
         assertThrows(ForbiddenAccessException.class, () -> bidsService.bid(requesterID, paperID, bid));
+        verify(reviewAnalyticsCache, never()).invalidatePaper(any());
     }
 }
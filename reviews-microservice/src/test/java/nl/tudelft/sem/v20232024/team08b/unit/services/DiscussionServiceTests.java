@@ -2,26 +2,30 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.DiscussionService;
-import nl.tudelft.sem.v20232024.team08b.application.ReviewsService;
+import nl.tudelft.sem.v20232024.team08b.application.discussion.DiscussionCommentHub;
 import nl.tudelft.sem.v20232024.team08b.application.phase.PaperPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackProgress;
 import nl.tudelft.sem.v20232024.team08b.application.verification.DiscussionVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.domain.Comment;
+import nl.tudelft.sem.v20232024.team08b.domain.ConfidenceScore;
 import nl.tudelft.sem.v20232024.team08b.domain.Paper;
 import nl.tudelft.sem.v20232024.team08b.domain.RecommendationScore;
-import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.DiscussionComment;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
+import nl.tudelft.sem.v20232024.team08b.repos.CommentRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
 import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewScores;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,28 +38,43 @@ public class DiscussionServiceTests {
     private final PaperPhaseCalculator paperPhaseCalculator = Mockito.mock(PaperPhaseCalculator.class);
     private final UsersVerification usersVerification = Mockito.mock(UsersVerification.class);
     private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
-    private final ReviewsService reviewsService = Mockito.mock(ReviewsService.class);
+    private final CommentRepository commentRepository = Mockito.mock(CommentRepository.class);
+    private final DiscussionCommentHub discussionCommentHub = Mockito.mock(DiscussionCommentHub.class);
     private final DiscussionVerification discussionVerification = Mockito.mock(DiscussionVerification.class);
+    private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
+    private final TrackProgress trackProgress = Mockito.mock(TrackProgress.class);
 
     private final DiscussionService discussionService = new DiscussionService(
             reviewRepository,
-            reviewsService,
+            commentRepository,
+            discussionCommentHub,
             paperRepository,
-            discussionVerification
+            discussionVerification,
+            trackPhaseCalculator,
+            trackProgress
     );
 
-    private Review fakeReview;
     private final Long requesterID = 0L;
     private final Long reviewerID = 3L;
     private final Long paperID = 4L;
 
-    @BeforeEach
-    void prepare() {
-        fakeReview = new Review();
-        List<Comment> comments = new ArrayList<>();
-        comments.add(new Comment(2L, "comment"));
-        comments.add(new Comment(3L, "comment"));
-        fakeReview.setConfidentialComments(comments);
+    private ReviewScores scores(RecommendationScore recommendationScore) {
+        return new ReviewScores() {
+            @Override
+            public Long getReviewerID() {
+                return reviewerID;
+            }
+
+            @Override
+            public ConfidenceScore getConfidenceScore() {
+                return ConfidenceScore.EXPERT;
+            }
+
+            @Override
+            public RecommendationScore getRecommendationScore() {
+                return recommendationScore;
+            }
+        };
     }
 
     @Test
@@ -64,47 +83,46 @@ public class DiscussionServiceTests {
                 .verifyIfUserCanFinalizeDiscussionPhase(requesterID, paperID);
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         assertThrows(IllegalStateException.class, () -> discussionService.finalizeDiscussionPhase(requesterID, paperID));
-        verify(reviewRepository, never()).findByReviewIDPaperID(paperID);
+        verify(reviewRepository, never()).findScoresByPaper(paperID);
     }
 
     @Test
     public void finalizeDiscussion_MixedReviews() throws Exception {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null)
+        List<ReviewScores> reviews = List.of(
+                scores(RecommendationScore.STRONG_ACCEPT),
+                scores(RecommendationScore.STRONG_REJECT),
+                scores(RecommendationScore.WEAK_ACCEPT)
         );
         doNothing().when(discussionVerification).verifyIfUserCanFinalizeDiscussionPhase(requesterID, paperID);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(reviews);
         Exception e = assertThrows(IllegalStateException.class, () ->
                 discussionService.finalizeDiscussionPhase(requesterID, paperID));
         assertEquals("Reviews are not all positive nor all negative.", e.getMessage());
     }
 
     @Test
-    public void finalizeDiscussion_NullReviews() throws Exception {
+    public void finalizeDiscussion_NoReviews() throws Exception {
         when(paperPhaseCalculator.getPaperPhase(paperID)).thenReturn(PaperPhase.IN_DISCUSSION);
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(null);
-        assertThrows(RuntimeException.class, () -> discussionService.finalizeDiscussionPhase(requesterID, paperID));
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(List.of());
+        assertThrows(IllegalStateException.class, () -> discussionService.finalizeDiscussionPhase(requesterID, paperID));
     }
 
     @Test
     public void finalizeDiscussionSuccessful_AllAccept() throws Exception {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null)
+        List<ReviewScores> reviews = List.of(
+                scores(RecommendationScore.STRONG_ACCEPT),
+                scores(RecommendationScore.WEAK_ACCEPT),
+                scores(RecommendationScore.STRONG_ACCEPT)
         );
         Paper paper = new Paper(paperID, null, PaperStatus.NOT_DECIDED, false);
         doNothing().when(discussionVerification)
                 .verifyIfUserCanFinalizeDiscussionPhase(requesterID, paperID);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(reviews);
         when(paperRepository.findById(paperID)).thenReturn(Optional.of(paper));
-        when(reviewsService.getReview(reviewerID, paperID)).thenReturn(fakeReview);
         discussionService.finalizeDiscussionPhase(requesterID, paperID);
-        assertTrue(paper.getReviewsHaveBeenFinalized());
-        verify(paperRepository, times(1)).save(paper);
+        verify(trackProgress, times(1)).finalizePaper(paperID, PaperStatus.ACCEPTED);
+        verify(trackPhaseCalculator).invalidateTrackPhaseOfPaper(paperID);
     }
 
     @Test
@@ -132,42 +150,38 @@ public class DiscussionServiceTests {
             throws IllegalAccessException, NotFoundException, IllegalStateException {
         Paper paper = new Paper();
         paper.setId(paperID);
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null)
+        List<ReviewScores> reviews = List.of(
+                scores(RecommendationScore.STRONG_REJECT),
+                scores(RecommendationScore.STRONG_REJECT),
+                scores(RecommendationScore.STRONG_REJECT)
         );
 
         when(paperPhaseCalculator.getPaperPhase(paperID)).thenReturn(PaperPhase.IN_DISCUSSION);
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(reviews);
         when(paperRepository.findById(paperID)).thenReturn(Optional.of(paper));
 
         discussionService.finalizeDiscussionPhase(requesterID, paperID);
-        Assertions.assertEquals(PaperStatus.REJECTED, paper.getStatus());
-        assertTrue(paper.getReviewsHaveBeenFinalized());
-        verify(paperRepository, times(1)).save(paper);
+        verify(trackProgress, times(1)).finalizePaper(paperID, PaperStatus.REJECTED);
     }
 
     @Test
     void testFinalizeDiscussionPhaseRejectedWeakReject() throws Exception {
         Paper paper = new Paper();
         paper.setId(paperID);
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.WEAK_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_REJECT, null, null)
+        List<ReviewScores> reviews = List.of(
+                scores(RecommendationScore.WEAK_REJECT),
+                scores(RecommendationScore.WEAK_REJECT),
+                scores(RecommendationScore.WEAK_REJECT)
         );
 
         when(paperPhaseCalculator.getPaperPhase(paperID)).thenReturn(PaperPhase.IN_DISCUSSION);
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(reviews);
         when(paperRepository.findById(paperID)).thenReturn(Optional.of(paper));
 
         discussionService.finalizeDiscussionPhase(requesterID, paperID);
-        Assertions.assertEquals(PaperStatus.REJECTED, paper.getStatus());
-        assertTrue(paper.getReviewsHaveBeenFinalized());
-        verify(paperRepository, times(1)).save(paper);
+        verify(trackProgress, times(1)).finalizePaper(paperID, PaperStatus.REJECTED);
     }
 
     @Test
@@ -175,20 +189,20 @@ public class DiscussionServiceTests {
         Paper paper = new Paper();
         paper.setId(paperID);
 
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null)
+        List<ReviewScores> reviews = List.of(
+                scores(RecommendationScore.STRONG_ACCEPT),
+                scores(RecommendationScore.STRONG_ACCEPT),
+                scores(RecommendationScore.WEAK_ACCEPT)
         );
 
         when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(paperPhaseCalculator.getPaperPhase(paperID)).thenReturn(PaperPhase.IN_DISCUSSION);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(reviews);
+        when(reviewRepository.findScoresByPaper(paperID)).thenReturn(reviews);
         when(paperRepository.findById(paperID)).thenReturn(Optional.of(paper));
 
         discussionService.finalizeDiscussionPhase(requesterID, paperID);
 
-        assertEquals(PaperStatus.ACCEPTED, paper.getStatus());
+        verify(trackProgress).finalizePaper(paperID, PaperStatus.ACCEPTED);
     }
 
 
@@ -234,16 +248,28 @@ public class DiscussionServiceTests {
                 discussionService.submitDiscussionComment(requesterID, reviewerID, paperID, "text"));
     }
 
+    @Test
+    void submitConfidentialComment_NoSuchReview() throws NotFoundException, IllegalAccessException {
+        doNothing().when(discussionVerification).verifySubmitDiscussionComment(requesterID, reviewerID, paperID);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () ->
+                discussionService.submitDiscussionComment(requesterID, reviewerID, paperID, "text"));
+        verify(commentRepository, never()).save(any());
+        verify(discussionCommentHub, never()).publish(any());
+    }
+
     @Test
     void submitConfidentialComment_Successful() throws NotFoundException, IllegalAccessException {
         doNothing().when(discussionVerification).verifySubmitDiscussionComment(requesterID, reviewerID, paperID);
-        when(reviewsService.getReview(reviewerID, paperID)).thenReturn(fakeReview);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(true);
 
-        discussionService.submitDiscussionComment(requesterID, reviewerID, paperID, "text");
-        Comment comment = new Comment(requesterID, "text");
-        assertThat(fakeReview.getConfidentialComments().contains(comment)).isTrue();
-        verify(reviewRepository).save(fakeReview);
+        Comment saved = new Comment(12L, paperID, reviewerID, requesterID, "text");
+        when(commentRepository.save(new Comment(paperID, reviewerID, requesterID, "text"))).thenReturn(saved);
 
+        discussionService.submitDiscussionComment(requesterID, reviewerID, paperID, "text");
+        verify(discussionCommentHub).publish(saved);
+        verify(reviewRepository, never()).save(any());
     }
 
     @Test
@@ -252,7 +278,7 @@ public class DiscussionServiceTests {
                 .when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
 
         assertThrows(NotFoundException.class, () ->
-                discussionService.getDiscussionComments(requesterID, reviewerID, paperID));
+                discussionService.getDiscussionComments(requesterID, reviewerID, paperID, null, 10));
     }
 
     @Test
@@ -261,22 +287,69 @@ public class DiscussionServiceTests {
                 .when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
 
         assertThrows(IllegalAccessException.class, () ->
-                discussionService.getDiscussionComments(requesterID, reviewerID, paperID));
+                discussionService.getDiscussionComments(requesterID, reviewerID, paperID, null, 10));
+    }
+
+    @Test
+    void getDiscussionComments_NoSuchReview() throws NotFoundException, IllegalAccessException {
+        doNothing().when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () ->
+                discussionService.getDiscussionComments(requesterID, reviewerID, paperID, null, 10));
     }
 
+    @Test
+    void getDiscussionComments_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () ->
+                discussionService.getDiscussionComments(requesterID, reviewerID, paperID, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> discussionService.getDiscussionComments(requesterID,
+                reviewerID, paperID, null, DiscussionService.MAX_COMMENTS_PER_PAGE + 1));
+        verifyNoInteractions(commentRepository);
+    }
 
     @Test
     void getDiscussionComments_Successful() throws NotFoundException, IllegalAccessException {
-        List<DiscussionComment> expectedComments = new ArrayList<>();
-        expectedComments.add(new DiscussionComment(2L, "comment"));
-        expectedComments.add(new DiscussionComment(3L, "comment"));
+        doNothing().when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(true);
+        when(commentRepository.findPage(paperID, reviewerID, 7L, 2)).thenReturn(List.of(
+                new Comment(8L, paperID, reviewerID, 2L, "comment"),
+                new Comment(9L, paperID, reviewerID, 3L, "comment")));
+
+        List<DiscussionComment> actualComments =
+                discussionService.getDiscussionComments(requesterID, reviewerID, paperID, 7L, 2);
+
+        assertThat(actualComments).isEqualTo(List.of(new DiscussionComment(8L, 2L, "comment"),
+                new DiscussionComment(9L, 3L, "comment")));
+    }
 
+    @Test
+    void streamDiscussionComments_Successful() throws Exception {
         doNothing().when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
-        when(reviewsService.getReview(reviewerID, paperID)).thenReturn(fakeReview);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(true);
+        SseEmitter emitter = new SseEmitter();
+        when(discussionCommentHub.subscribe(new ReviewID(paperID, reviewerID), 7L)).thenReturn(emitter);
 
-        List<DiscussionComment> actualComments = discussionService.getDiscussionComments(requesterID, reviewerID, paperID);
+        assertThat(discussionService.streamDiscussionComments(requesterID, reviewerID, paperID, 7L)).isEqualTo(emitter);
+    }
 
-        assertThat(actualComments).isEqualTo(expectedComments);
+    @Test
+    void streamDiscussionComments_IllegalAccessException() throws Exception {
+        doThrow(new IllegalAccessException(""))
+                .when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+
+        assertThrows(IllegalAccessException.class, () ->
+                discussionService.streamDiscussionComments(requesterID, reviewerID, paperID, null));
+        verify(discussionCommentHub, never()).subscribe(any(), any());
     }
 
+    @Test
+    void streamDiscussionComments_NoSuchReview() throws Exception {
+        doNothing().when(discussionVerification).verifyGetDiscussionComments(requesterID, reviewerID, paperID);
+        when(reviewRepository.existsById(new ReviewID(paperID, reviewerID))).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () ->
+                discussionService.streamDiscussionComments(requesterID, reviewerID, paperID, null));
+        verify(discussionCommentHub, never()).subscribe(any(), any());
+    }
 }
@@ -3,6 +3,8 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.DiscussionService;
 import nl.tudelft.sem.v20232024.team08b.application.ReviewsService;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.PapersVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
@@ -19,8 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,12 +41,16 @@ public class ReviewsServiceTests {
     @MockBean
     private final SubmissionsMicroserviceCommunicator submissionsCommunicator =
             Mockito.mock(SubmissionsMicroserviceCommunicator.class);
+    private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
+    private final ReviewAnalyticsCache reviewAnalyticsCache = Mockito.mock(ReviewAnalyticsCache.class);
 
     private ReviewsService reviewsService = new ReviewsService(
             reviewRepository,
             papersVerification,
             tracksVerification,
-            usersVerification
+            usersVerification,
+            trackPhaseCalculator,
+            reviewAnalyticsCache
     );
 
     private nl.tudelft.sem.v20232024.team08b.dtos.review.Review reviewDTO;
@@ -64,10 +70,6 @@ public class ReviewsServiceTests {
         );
 
         fakeReview = new Review();
-        List<Comment> comments = new ArrayList<>();
-        comments.add(new Comment(2L, "comment"));
-        comments.add(new Comment(3L, "comment"));
-        fakeReview.setConfidentialComments(comments);
 
         fakeSubmission = new Submission();
         fakeSubmission.setTrackId(2L);
@@ -83,58 +85,66 @@ public class ReviewsServiceTests {
 
     @Test
     void testAllReviewsAgreePositively() {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null)
+        List<RecommendationScore> scores = List.of(
+                RecommendationScore.STRONG_ACCEPT,
+                RecommendationScore.STRONG_ACCEPT,
+                RecommendationScore.WEAK_ACCEPT
         );
-        assertTrue(DiscussionService.isAgreed(reviews));
+        assertTrue(DiscussionService.isAgreed(scores));
     }
 
     @Test
     void testIsAgreedWithFirstReviewWeakAccept() {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null)
+        List<RecommendationScore> scores = List.of(
+                RecommendationScore.WEAK_ACCEPT,
+                RecommendationScore.STRONG_ACCEPT,
+                RecommendationScore.WEAK_ACCEPT
         );
-        assertTrue(DiscussionService.isAgreed(reviews));
+        assertTrue(DiscussionService.isAgreed(scores));
     }
 
     @Test
     void testIsAgreedWithFirstReviewWeakAcceptAndDisagreement() {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.WEAK_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null)
+        List<RecommendationScore> scores = List.of(
+                RecommendationScore.WEAK_ACCEPT,
+                RecommendationScore.STRONG_ACCEPT,
+                RecommendationScore.STRONG_REJECT
         );
-        assertFalse(DiscussionService.isAgreed(reviews));
+        assertFalse(DiscussionService.isAgreed(scores));
     }
 
     @Test
     void testAllReviewsAgreeNegatively() {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_REJECT, null, null)
+        List<RecommendationScore> scores = List.of(
+                RecommendationScore.STRONG_REJECT,
+                RecommendationScore.STRONG_REJECT,
+                RecommendationScore.WEAK_REJECT
         );
-        assertTrue(DiscussionService.isAgreed(reviews));
+        assertTrue(DiscussionService.isAgreed(scores));
     }
 
     @Test
     void testMixedReviews() {
-        List<Review> reviews = List.of(
-                new Review(null, null, null, RecommendationScore.STRONG_REJECT, null, null),
-                new Review(null, null, null, RecommendationScore.STRONG_ACCEPT, null, null),
-                new Review(null, null, null, RecommendationScore.WEAK_REJECT, null, null)
+        List<RecommendationScore> scores = List.of(
+                RecommendationScore.STRONG_REJECT,
+                RecommendationScore.STRONG_ACCEPT,
+                RecommendationScore.WEAK_REJECT
         );
-        assertFalse(DiscussionService.isAgreed(reviews));
+        assertFalse(DiscussionService.isAgreed(scores));
+    }
+
+    @Test
+    void testCountedReviews() {
+        assertTrue(DiscussionService.isAgreed(3, 0));
+        assertTrue(DiscussionService.isAgreed(0, 2));
+        assertFalse(DiscussionService.isAgreed(1, 2));
+        assertThrows(IllegalStateException.class, () -> DiscussionService.isAgreed(0, 0));
     }
 
     @Test
     void testEmptyListOfReviews() {
-        List<Review> reviews = Collections.emptyList();
-        Exception exception = assertThrows(IllegalStateException.class, () -> DiscussionService.isAgreed(reviews));
+        List<RecommendationScore> scores = Collections.emptyList();
+        Exception exception = assertThrows(IllegalStateException.class, () -> DiscussionService.isAgreed(scores));
         Assertions.assertEquals("No reviews found.", exception.getMessage());
     }
 
@@ -216,6 +226,8 @@ public class ReviewsServiceTests {
         Review expected = new Review(reviewDTO, new ReviewID(paperID, requesterID));
         reviewsService.submitReview(reviewDTO, requesterID, paperID);
         verify(reviewRepository).save(expected);
+        verify(trackPhaseCalculator).invalidateTrackPhaseOfPaper(paperID);
+        verify(reviewAnalyticsCache).invalidatePaper(paperID);
     }
 
     @Test
@@ -231,15 +243,9 @@ public class ReviewsServiceTests {
     void verifyIfUserCanAccessReview_NoSuchUserInTheTrack() {
         // Assume paper exists
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        // Assume user is not a reviewer
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER))
-                .thenReturn(false);
-        // Assume user is not a chair either
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
-        // Assume user is not an author
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
+        // Assume the user has no role in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.noneOf(UserRole.class));
 
         // Assume the review does exist
         when(reviewRepository.findById(new ReviewID(paperID, reviewerID))).thenReturn(Optional.of(new Review()));
@@ -253,15 +259,9 @@ public class ReviewsServiceTests {
     void verifyIfUserCanAccessReview_NoSuchReview() {
         // Assume paper exists
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        // Assume is reviewer
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER))
-                .thenReturn(true);
-        // Assume is not chair
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
-        // Assume user is not an author
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR))
-                .thenReturn(false);
+        // Assume the user has the role reviewer in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
         // Assume the review doesn't exist
         when(reviewRepository.findById(new ReviewID(paperID, reviewerID))).thenReturn(Optional.empty());
 
@@ -274,15 +274,9 @@ public class ReviewsServiceTests {
     void verifyIfUserCanAccessReview_SuccessfulChair() throws NotFoundException, IllegalAccessException {
         // Assume paper exists
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        // Assume user is not a reviewer
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER))
-                .thenReturn(false);
-        // Assume user is a chair
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(true);
-        // Assume user is not an author
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR))
-                .thenReturn(false);
+        // Assume the user has the role chair in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.CHAIR));
         // Assume the review does exist
         when(reviewRepository.findById(new ReviewID(paperID, reviewerID))).thenReturn(Optional.of(new Review()));
 
@@ -297,15 +291,9 @@ public class ReviewsServiceTests {
     void verifyIfUserCanAccessReview_SuccessfulReviewer() throws NotFoundException, IllegalAccessException {
         // Assume paper exists
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        // Assume user is a reviewer
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER))
-                .thenReturn(true);
-        // Assume user is not a chair
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
-        // Assume user is not an author
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR))
-                .thenReturn(false);
+        // Assume the user has the role reviewer in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
 
         // Assume the review does exist
         when(reviewRepository.findById(new ReviewID(paperID, reviewerID))).thenReturn(Optional.of(new Review()));
@@ -322,15 +310,9 @@ public class ReviewsServiceTests {
     void verifyIfUserCanAccessReview_SuccessfulAuthor() throws NotFoundException, IllegalAccessException {
         // Assume paper exists
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
-        // Assume user is not reviewer
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER))
-                .thenReturn(false);
-        // Assume user is not a chair
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR))
-                .thenReturn(false);
-        // Assume user is an author
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.AUTHOR))
-                .thenReturn(true);
+        // Assume the user has the role author in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.AUTHOR));
         // Assume the review does exist
         when(reviewRepository.findById(new ReviewID(paperID, reviewerID))).thenReturn(Optional.of(new Review()));
 
@@ -393,15 +375,10 @@ public class ReviewsServiceTests {
 
     @Test
     void testGetReviewersFromPaperSuccessChair() throws NotFoundException, IllegalAccessException {
-        ReviewID id1 = new ReviewID(paperID, 1L);
-        ReviewID id2 = new ReviewID(paperID, 2L);
-        List<Review> mockReviews = List.of(
-                new Review(id1, null, null, null, null, null),
-                new Review(id2, null, null, null, null, null)
-        );
-
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(mockReviews);
+        // Assume the user has the role chair in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.CHAIR));
+        when(reviewRepository.findReviewersByPaper(paperID)).thenReturn(List.of(1L, 2L));
 
         List<Long> reviewers = reviewsService.getReviewersFromPaper(requesterID, paperID);
         Assertions.assertEquals(List.of(1L, 2L), reviewers);
@@ -409,15 +386,10 @@ public class ReviewsServiceTests {
 
     @Test
     void testGetReviewersFromPaperSuccessReviewer() throws NotFoundException, IllegalAccessException {
-        ReviewID id1 = new ReviewID(paperID, 1L);
-        ReviewID id2 = new ReviewID(paperID, 2L);
-        List<Review> mockReviews = List.of(
-                new Review(id1, null, null, null, null, null),
-                new Review(id2, null, null, null, null, null)
-        );
-
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
-        when(reviewRepository.findByReviewIDPaperID(paperID)).thenReturn(mockReviews);
+        // Assume the user has the role reviewer in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER));
+        when(reviewRepository.findReviewersByPaper(paperID)).thenReturn(List.of(1L, 2L));
 
         List<Long> reviewers = reviewsService.getReviewersFromPaper(requesterID, paperID);
         Assertions.assertEquals(List.of(1L, 2L), reviewers);
@@ -425,8 +397,9 @@ public class ReviewsServiceTests {
 
     @Test
     void testGetReviewersFromPaperAccessException() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        // Assume the user has no role in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.noneOf(UserRole.class));
 
         Exception e = assertThrows(IllegalAccessException.class, () ->
                 reviewsService.getReviewersFromPaper(requesterID, paperID));
@@ -435,7 +408,9 @@ public class ReviewsServiceTests {
 
     @Test
     void testGetReviewersFromPaperInvalidTrackPhase() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
+        // Assume the user has the role chair in the track of the paper
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.CHAIR));
         doThrow(new IllegalStateException()).when(tracksVerification)
                 .verifyTrackPhaseThePaperIsIn(paperID, List.of(TrackPhase.REVIEWING, TrackPhase.FINAL));
 
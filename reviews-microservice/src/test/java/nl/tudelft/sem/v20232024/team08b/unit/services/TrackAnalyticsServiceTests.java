@@ -1,16 +1,19 @@
 package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
-import nl.tudelft.sem.v20232024.team08b.application.PapersService;
 import nl.tudelft.sem.v20232024.team08b.application.TrackAnalyticsService;
+import nl.tudelft.sem.v20232024.team08b.application.analytics.ReviewAnalyticsCache;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
 import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperStatus;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackAnalytics;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackReviewAnalytics;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
 import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.exceptions.ForbiddenAccessException;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.PaperStatusCount;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -18,24 +21,43 @@ import org.mockito.Mockito;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TrackAnalyticsServiceTests {
     private final UsersVerification usersVerification = Mockito.mock(UsersVerification.class);
     private final SubmissionsMicroserviceCommunicator submissionsCommunicator =
             Mockito.mock(SubmissionsMicroserviceCommunicator.class);
-    private final PapersService papersService = Mockito.mock(PapersService.class);
+    private final PaperRepository paperRepository = Mockito.mock(PaperRepository.class);
+    private final ReviewAnalyticsCache reviewAnalyticsCache = Mockito.mock(ReviewAnalyticsCache.class);
 
     private final TrackAnalyticsService trackAnalyticsService = Mockito.spy(
             new TrackAnalyticsService(
                     usersVerification,
                     submissionsCommunicator,
-                    papersService
+                    paperRepository,
+                    reviewAnalyticsCache
             )
     );
 
+    private PaperStatusCount statusCount(PaperStatus status, long papers) {
+        return new PaperStatusCount() {
+            @Override
+            public PaperStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getPapers() {
+                return papers;
+            }
+        };
+    }
+
     @Test
-    void testGetAnalyticsSuccess() throws NotFoundException, ForbiddenAccessException, IllegalAccessException {
+    void testGetAnalyticsSuccess() throws NotFoundException, ForbiddenAccessException {
         TrackID trackID = new TrackID();
         trackID.setConferenceID(1L);
         trackID.setTrackID(2L);
@@ -72,18 +94,21 @@ public class TrackAnalyticsServiceTests {
         when(submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(), trackID.getTrackID(), requesterID))
                 .thenReturn(submissions);
 
-        when(papersService.getState(requesterID, 1L)).thenReturn(PaperStatus.ACCEPTED);
-        when(papersService.getState(requesterID, 2L)).thenReturn(PaperStatus.REJECTED);
-        when(papersService.getState(requesterID, 3L)).thenReturn(PaperStatus.NOT_DECIDED);
-        when(papersService.getState(requesterID, 4L)).thenReturn(PaperStatus.ACCEPTED);
-        when(papersService.getState(requesterID, 5L)).thenReturn(PaperStatus.ACCEPTED);
-        when(papersService.getState(requesterID, 6L)).thenReturn(PaperStatus.NOT_DECIDED);
+        when(paperRepository.countPapersPerStatus(trackID)).thenReturn(List.of(
+                statusCount(PaperStatus.ACCEPTED, 3L),
+                statusCount(PaperStatus.REJECTED, 1L),
+                statusCount(PaperStatus.NOT_DECIDED, 2L)
+        ));
 
         TrackAnalytics result = trackAnalyticsService.getAnalytics(trackID, requesterID);
 
         Assertions.assertEquals(3, result.getAccepted());
         Assertions.assertEquals(1, result.getRejected());
         Assertions.assertEquals(2, result.getUnknown());
+
+        // The permissions are checked once for the whole track
+        verify(usersVerification).verifyRoleFromTrack(requesterID, trackID.getConferenceID(),
+                trackID.getTrackID(), UserRole.CHAIR);
     }
 
     @Test
@@ -117,8 +142,7 @@ public class TrackAnalyticsServiceTests {
     }
 
     @Test
-    void testGetAnalyticsRuntimeException()
-            throws NotFoundException, IllegalAccessException {
+    void testGetAnalyticsPapersNotStoredAreUndecided() throws NotFoundException, ForbiddenAccessException {
         TrackID trackID = new TrackID();
         trackID.setConferenceID(1L);
         trackID.setTrackID(1L);
@@ -129,14 +153,81 @@ public class TrackAnalyticsServiceTests {
         submission1.setSubmissionId(1L);
         submissions.add(submission1);
 
+        Submission submission2 = new Submission();
+        submission2.setSubmissionId(2L);
+        submissions.add(submission2);
+
         when(usersVerification.verifyRoleFromTrack(requesterID, trackID.getConferenceID(),
                 trackID.getTrackID(), UserRole.CHAIR)).thenReturn(true);
 
         when(submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(), trackID.getTrackID(), requesterID))
                 .thenReturn(submissions);
 
-        when(papersService.getState(1L, requesterID)).thenThrow(new IllegalAccessException());
+        // Only the first paper is stored with the track
+        when(paperRepository.countPapersPerStatus(trackID))
+                .thenReturn(List.of(statusCount(PaperStatus.ACCEPTED, 1L)));
+
+        TrackAnalytics result = trackAnalyticsService.getAnalytics(trackID, requesterID);
+
+        Assertions.assertEquals(1, result.getAccepted());
+        Assertions.assertEquals(0, result.getRejected());
+        Assertions.assertEquals(1, result.getUnknown());
+    }
+
+    @Test
+    void testGetAnalyticsEmptyTrack() throws NotFoundException, ForbiddenAccessException {
+        TrackID trackID = new TrackID();
+        trackID.setConferenceID(1L);
+        trackID.setTrackID(1L);
+        Long requesterID = 1L;
+
+        when(usersVerification.verifyRoleFromTrack(requesterID, trackID.getConferenceID(),
+                trackID.getTrackID(), UserRole.CHAIR)).thenReturn(true);
+
+        when(submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(), trackID.getTrackID(), requesterID))
+                .thenReturn(new ArrayList<>());
+
+        TrackAnalytics result = trackAnalyticsService.getAnalytics(trackID, requesterID);
 
-        Assertions.assertThrows(RuntimeException.class, () -> trackAnalyticsService.getAnalytics(trackID, requesterID));
+        Assertions.assertEquals(0, result.getAccepted());
+        Assertions.assertEquals(0, result.getRejected());
+        Assertions.assertEquals(0, result.getUnknown());
+        verify(paperRepository, never()).countPapersPerStatus(any());
+    }
+
+    @Test
+    void testGetReviewAnalyticsSuccess() throws NotFoundException, ForbiddenAccessException {
+        TrackID trackID = new TrackID(1L, 2L);
+        Long requesterID = 3L;
+
+        Submission submission1 = new Submission();
+        submission1.setSubmissionId(4L);
+        Submission submission2 = new Submission();
+        submission2.setSubmissionId(5L);
+
+        when(usersVerification.verifyRoleFromTrack(requesterID, trackID.getConferenceID(),
+                trackID.getTrackID(), UserRole.CHAIR)).thenReturn(true);
+
+        when(submissionsCommunicator.getSubmissionsInTrack(trackID.getConferenceID(), trackID.getTrackID(), requesterID))
+                .thenReturn(List.of(submission1, submission2));
+
+        TrackReviewAnalytics analytics = new TrackReviewAnalytics();
+        when(reviewAnalyticsCache.getAnalytics(trackID, List.of(4L, 5L))).thenReturn(analytics);
+
+        Assertions.assertSame(analytics, trackAnalyticsService.getReviewAnalytics(trackID, requesterID));
+    }
+
+    @Test
+    void testGetReviewAnalyticsForbiddenAccessException() throws NotFoundException {
+        TrackID trackID = new TrackID(1L, 2L);
+        Long requesterID = 3L;
+
+        when(usersVerification.verifyRoleFromTrack(requesterID, trackID.getConferenceID(),
+                trackID.getTrackID(), UserRole.CHAIR)).thenReturn(false);
+
+        Assertions.assertThrows(ForbiddenAccessException.class, () ->
+                trackAnalyticsService.getReviewAnalytics(trackID, requesterID));
+        verify(submissionsCommunicator, never()).getSubmissionsInTrack(any(), any(), any());
+        verify(reviewAnalyticsCache, never()).getAnalytics(any(), any());
     }
 }
@@ -2,6 +2,8 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.TrackDeadlineService;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackDeadlineScheduler;
+import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.UsersMicroserviceCommunicator;
@@ -33,12 +35,16 @@ public class TrackDeadlineServiceTests {
     private final UsersVerification usersVerification = Mockito.mock(UsersVerification.class);
     private final TrackRepository trackRepository = Mockito.mock(TrackRepository.class);
     private final UsersMicroserviceCommunicator usersCommunicator = Mockito.mock(UsersMicroserviceCommunicator.class);
+    private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
+    private final TrackDeadlineScheduler trackDeadlineScheduler = Mockito.mock(TrackDeadlineScheduler.class);
     private final TrackDeadlineService trackDeadlineService = Mockito.spy(
             new TrackDeadlineService(
                     tracksVerification,
                     trackRepository,
                     usersCommunicator,
-                    usersVerification
+                    usersVerification,
+                    trackPhaseCalculator,
+                    trackDeadlineScheduler
             )
     );
     
@@ -80,6 +86,11 @@ public class TrackDeadlineServiceTests {
         Date calculatedDate = track.getBiddingDeadline();
 
         assertThat(calculatedDate).isEqualTo(expectedDate);
+
+        // Verify that both deadlines were scheduled
+        verify(trackDeadlineScheduler).scheduleBiddingDeadline(new TrackID(conferenceID, trackID), expectedDate);
+        verify(trackDeadlineScheduler).scheduleSubmissionDeadline(new TrackID(conferenceID, trackID),
+                submissionDeadlineLong);
     }
 
     @Test
@@ -241,6 +252,10 @@ public class TrackDeadlineServiceTests {
         // Make sure our track was saved
         verify(trackRepository).save(track);
 
+        // Make sure the cached phase of the track is dropped
+        verify(trackPhaseCalculator).invalidateTrackPhase(conferenceID, trackID);
+        verify(trackDeadlineScheduler).scheduleBiddingDeadline(new TrackID(conferenceID, trackID), date);
+
         // Make sure track date is set
         assertThat(track.getBiddingDeadline()).isEqualTo(date);
     }
@@ -2,10 +2,14 @@ package nl.tudelft.sem.v20232024.team08b.unit.services;
 
 import javassist.NotFoundException;
 import nl.tudelft.sem.v20232024.team08b.application.TrackInformationService;
+import nl.tudelft.sem.v20232024.team08b.application.phase.PaperPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.phase.TrackPhaseCalculator;
 import nl.tudelft.sem.v20232024.team08b.application.verification.TracksVerification;
 import nl.tudelft.sem.v20232024.team08b.application.verification.UsersVerification;
 import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhase;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperPhaseWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.PaperSummaryWithID;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.TrackPhase;
 import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
@@ -15,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,14 +33,15 @@ public class TrackInformationServicesTests {
     private final TrackPhaseCalculator trackPhaseCalculator = Mockito.mock(TrackPhaseCalculator.class);
     private final SubmissionsMicroserviceCommunicator submissionsCommunicator =
             Mockito.mock(SubmissionsMicroserviceCommunicator.class);
-
+    private final PaperPhaseCalculator paperPhaseCalculator = Mockito.mock(PaperPhaseCalculator.class);
 
     private final TrackInformationService trackInformationService = Mockito.spy(
             new TrackInformationService(
                     trackPhaseCalculator,
                     tracksVerification,
                     usersVerification,
-                    submissionsCommunicator
+                    submissionsCommunicator,
+                    paperPhaseCalculator
             )
     );
 
@@ -172,4 +179,58 @@ public class TrackInformationServicesTests {
         var abstractSolution = papersSolution.stream().map(PaperSummaryWithID::getAbstractSection).toArray();
         assertThat(abstractSolution).isEqualTo(abstractExample);
     }
+
+    @Test
+    void getPaperPhasesNoPermission() {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
+                trackID, UserRole.CHAIR)).thenReturn(false);
+        assertThrows(ForbiddenAccessException.class, () ->
+                trackInformationService.getPaperPhases(requesterID, conferenceID, trackID));
+        verifyNoInteractions(paperPhaseCalculator);
+    }
+
+    @Test
+    void getPaperPhasesNoTrack() {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
+                trackID, UserRole.CHAIR)).thenReturn(true);
+        when(tracksVerification.verifyTrack(conferenceID,
+                trackID)).thenReturn(false);
+        assertThrows(NotFoundException.class, () ->
+                trackInformationService.getPaperPhases(requesterID, conferenceID, trackID));
+        verifyNoInteractions(paperPhaseCalculator);
+    }
+
+    @Test
+    void getPaperPhasesTwoPapers() throws NotFoundException, ForbiddenAccessException {
+        Long requesterID = 3L;
+        Long conferenceID = 4L;
+        Long trackID = 5L;
+        when(usersVerification.verifyRoleFromTrack(requesterID, conferenceID,
+                trackID, UserRole.CHAIR)).thenReturn(true);
+        when(tracksVerification.verifyTrack(conferenceID,
+                trackID)).thenReturn(true);
+        Submission submission1 = new Submission();
+        submission1.setSubmissionId(1L);
+        Submission submission2 = new Submission();
+        submission2.setSubmissionId(2L);
+        when(submissionsCommunicator.getSubmissionsInTrack(conferenceID, trackID, requesterID))
+                .thenReturn(List.of(submission1, submission2));
+        Map<Long, PaperPhase> phases = new LinkedHashMap<>();
+        phases.put(1L, PaperPhase.IN_REVIEW);
+        phases.put(2L, PaperPhase.REVIEWED);
+        when(paperPhaseCalculator.getPaperPhases(new TrackID(conferenceID, trackID), List.of(1L, 2L)))
+                .thenReturn(phases);
+
+        var result = trackInformationService.getPaperPhases(requesterID, conferenceID, trackID);
+        assertThat(result.stream().map(PaperPhaseWithID::getPaperID).toArray())
+                .isEqualTo(new Long[] {1L, 2L});
+        assertThat(result.stream().map(PaperPhaseWithID::getPhase).toArray())
+                .isEqualTo(new PaperPhase[] {PaperPhase.IN_REVIEW, PaperPhase.REVIEWED});
+    }
 }
@@ -0,0 +1,56 @@
+package nl.tudelft.sem.v20232024.team08b.unit.strategies;
+
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentEvaluator;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshot;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentStrategyType;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.review.AssignmentSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.within;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AssignmentEvaluatorTests {
+    private final AssignmentEvaluator evaluator = new AssignmentEvaluator();
+    private final TrackID trackID = new TrackID(1L, 2L);
+
+    @Test
+    void computesTheMetricsOfTheProposal() {
+        Map<Long, List<Bid>> bids = Map.of(
+                10L, List.of(new Bid(10L, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW)),
+                20L, List.of(new Bid(20L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW),
+                        new Bid(20L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL),
+                        new Bid(20L, 4L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW)));
+        AssignmentSnapshot snapshot = new AssignmentSnapshot(trackID, List.of(10L, 20L), bids,
+                Map.of(10L, Set.of(1L, 2L)), Map.of(), Map.of(1L, 1, 2L, 1));
+
+        AssignmentSimulation simulation = evaluator.evaluate(AssignmentStrategyType.THREE_SMALLEST, snapshot,
+                List.of(new Review(10L, 3L), new Review(20L, 1L), new Review(20L, 2L)));
+
+        assertThat(simulation.getStrategy()).isEqualTo(AssignmentStrategyType.THREE_SMALLEST);
+        assertThat(simulation.getAssignments().size()).isEqualTo(3);
+        // Loads after the proposal are 2, 2, 1 and 0, since reviewer 4 bid but got nothing
+        assertThat(simulation.getLoadVariance()).isCloseTo(0.6875, within(1e-9));
+        assertThat(simulation.getCanReviewFraction()).isCloseTo(2.0 / 3, within(1e-9));
+        assertEquals(List.of(20L), simulation.getUnassignedPapers());
+        assertThat(simulation.getError()).isEqualTo(null);
+    }
+
+    @Test
+    void emptyProposal() {
+        AssignmentSnapshot snapshot = new AssignmentSnapshot(trackID, List.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        AssignmentSimulation simulation = evaluator.evaluate(AssignmentStrategyType.MIN_COST_FLOW, snapshot, List.of());
+
+        assertThat(simulation.getLoadVariance()).isEqualTo(0.0);
+        assertThat(simulation.getCanReviewFraction()).isEqualTo(0.0);
+        assertEquals(List.of(), simulation.getUnassignedPapers());
+    }
+}
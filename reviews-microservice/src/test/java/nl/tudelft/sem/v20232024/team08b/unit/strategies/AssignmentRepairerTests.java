@@ -0,0 +1,119 @@
+package nl.tudelft.sem.v20232024.team08b.unit.strategies;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentRepairer;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshotLoader;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentWithThreeSmallest;
+import nl.tudelft.sem.v20232024.team08b.communicators.SubmissionsMicroserviceCommunicator;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.User;
+import nl.tudelft.sem.v20232024.team08b.repos.BidRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewerLoad;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AssignmentRepairerTests {
+    private final BidRepository bidRepository = Mockito.mock(BidRepository.class);
+    private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
+    private final SubmissionsMicroserviceCommunicator submissionsCommunicator =
+            Mockito.mock(SubmissionsMicroserviceCommunicator.class);
+    private final AssignmentRepairer repairer = new AssignmentRepairer(bidRepository, reviewRepository,
+            submissionsCommunicator, new AssignmentWithThreeSmallest(
+                    Mockito.mock(AssignmentSnapshotLoader.class), reviewRepository));
+
+    private final TrackID trackID = new TrackID(1L, 2L);
+    private final Submission submission = new Submission();
+
+    @BeforeEach
+    void setUp() throws NotFoundException {
+        submission.setSubmissionId(10L);
+        when(submissionsCommunicator.getSubmissions(any())).thenReturn(Map.of(10L, submission));
+    }
+
+    private Bid canReview(Long paperID, Long bidderID) {
+        return new Bid(paperID, bidderID, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW);
+    }
+
+    private ReviewerLoad load(Long reviewerID, long papers) {
+        return new ReviewerLoad() {
+            @Override
+            public Long getReviewerID() {
+                return reviewerID;
+            }
+
+            @Override
+            public Long getPapers() {
+                return papers;
+            }
+        };
+    }
+
+    private void stubPaper(List<Long> reviewers, List<Long> bidders) {
+        List<Review> reviews = new ArrayList<>();
+        reviewers.forEach(reviewer -> reviews.add(new Review(10L, reviewer)));
+        List<Bid> bids = new ArrayList<>();
+        bidders.forEach(bidder -> bids.add(canReview(10L, bidder)));
+        when(reviewRepository.findByReviewIDPaperIDIn(Set.of(10L))).thenReturn(reviews);
+        when(bidRepository.findByPaperIDIn(List.of(10L))).thenReturn(bids);
+    }
+
+    @Test
+    void replacesWithTheLeastLoadedBidder() throws NotFoundException {
+        stubPaper(List.of(2L, 3L), List.of(1L, 2L, 3L, 4L, 5L));
+        when(reviewRepository.countPapersPerReviewer(Set.of(1L, 2L, 3L, 4L, 5L), trackID))
+                .thenReturn(List.of(load(2L, 1), load(3L, 1), load(4L, 2), load(5L, 1)));
+
+        List<Review> replacements = repairer.repair(trackID, Map.of(10L, Set.of(1L)));
+
+        // Reviewer 1 has no papers left, but was just removed from this one
+        assertEquals(List.of(new Review(10L, 5L)), replacements);
+        verify(reviewRepository).insertAll(replacements);
+    }
+
+    @Test
+    void skipsConflictsOfInterest() throws NotFoundException {
+        User author = new User();
+        author.setUserId(5L);
+        submission.setConflictsOfInterest(List.of(author));
+        stubPaper(List.of(2L, 3L), List.of(4L, 5L));
+        when(reviewRepository.countPapersPerReviewer(any(), any())).thenReturn(List.of(load(4L, 3)));
+
+        List<Review> replacements = repairer.repair(trackID, Map.of(10L, Set.of(1L)));
+
+        assertEquals(List.of(new Review(10L, 4L)), replacements);
+    }
+
+    @Test
+    void paperStillHasEnoughReviewers() throws NotFoundException {
+        stubPaper(List.of(2L, 3L, 4L), List.of(5L));
+
+        assertEquals(List.of(), repairer.repair(trackID, Map.of(10L, Set.of(1L))));
+        verify(bidRepository, never()).findByPaperIDIn(any());
+        verify(reviewRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void nobodyBidOnThePaper() throws NotFoundException {
+        stubPaper(List.of(2L), List.of());
+
+        assertEquals(List.of(), repairer.repair(trackID, Map.of(10L, Set.of(1L))));
+        verify(reviewRepository, never()).countPapersPerReviewer(any(), any());
+        verify(reviewRepository, never()).insertAll(any());
+    }
+}
@@ -0,0 +1,128 @@
+package nl.tudelft.sem.v20232024.team08b.unit.strategies;
+
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshot;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.AssignmentSnapshotLoader;
+import nl.tudelft.sem.v20232024.team08b.application.strategies.MinCostFlowAssignment;
+import nl.tudelft.sem.v20232024.team08b.domain.Bid;
+import nl.tudelft.sem.v20232024.team08b.domain.Review;
+import nl.tudelft.sem.v20232024.team08b.domain.ReviewID;
+import nl.tudelft.sem.v20232024.team08b.domain.TrackID;
+import nl.tudelft.sem.v20232024.team08b.repos.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MinCostFlowAssignmentTests {
+    private final MinCostFlowAssignment strategy = new MinCostFlowAssignment(
+            Mockito.mock(AssignmentSnapshotLoader.class), Mockito.mock(ReviewRepository.class), 0);
+    private final TrackID trackID = new TrackID(1L, 2L);
+
+    private Bid bid(Long paperID, Long bidderID, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid preference) {
+        return new Bid(paperID, bidderID, preference);
+    }
+
+    private AssignmentSnapshot snapshot(List<Long> paperIDs, List<Bid> bids,
+                                        Map<Long, Set<Long>> reviewers, Map<Long, Set<Long>> conflicts) {
+        Map<Long, List<Bid>> bidsByPaper = bids.stream().collect(Collectors.groupingBy(Bid::getPaperID));
+        Map<Long, Integer> loads = new HashMap<>();
+        reviewers.values().forEach(paperReviewers -> paperReviewers.forEach(
+                reviewer -> loads.merge(reviewer, 1, Integer::sum)));
+        return new AssignmentSnapshot(trackID, paperIDs, bidsByPaper, reviewers, conflicts, loads);
+    }
+
+    private Set<ReviewID> idsOf(List<Review> reviews) {
+        return reviews.stream().map(Review::getReviewID).collect(Collectors.toSet());
+    }
+
+    @Test
+    void prefersCanReviewOverNeutral() {
+        List<Bid> bids = new ArrayList<>();
+        for (long reviewer = 1; reviewer <= 3; reviewer++) {
+            bids.add(bid(10L, reviewer, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL));
+        }
+        for (long reviewer = 4; reviewer <= 6; reviewer++) {
+            bids.add(bid(10L, reviewer, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+        }
+
+        List<Review> proposed = strategy.proposeAssignments(snapshot(List.of(10L), bids, Map.of(), Map.of()));
+
+        assertEquals(Set.of(new ReviewID(10L, 4L), new ReviewID(10L, 5L), new ReviewID(10L, 6L)), idsOf(proposed));
+    }
+
+    @Test
+    void skipsNotReviewConflictsAndAssignedReviewers() {
+        List<Bid> bids = List.of(
+                bid(10L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW),
+                bid(10L, 2L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NOT_REVIEW),
+                bid(10L, 3L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW),
+                bid(10L, 4L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL));
+
+        List<Review> proposed = strategy.proposeAssignments(
+                snapshot(List.of(10L), bids, Map.of(10L, Set.of(1L)), Map.of(10L, Set.of(3L))));
+
+        assertEquals(Set.of(new ReviewID(10L, 4L)), idsOf(proposed));
+    }
+
+    @Test
+    void balancesTheLoadOverTheTrack() {
+        // Every reviewer bids on every paper, so a balanced assignment gives each of them 3 papers
+        List<Long> papers = List.of(10L, 11L, 12L, 13L, 14L, 15L);
+        List<Bid> bids = new ArrayList<>();
+        for (Long paper : papers) {
+            for (long reviewer = 1; reviewer <= 6; reviewer++) {
+                bids.add(bid(paper, reviewer, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+            }
+        }
+
+        List<Review> proposed = strategy.proposeAssignments(snapshot(papers, bids, Map.of(), Map.of()));
+
+        assertThat(proposed.size()).isEqualTo(18);
+        Map<Long, Long> papersPerReviewer = proposed.stream().collect(Collectors.groupingBy(
+                review -> review.getReviewID().getReviewerID(), Collectors.counting()));
+        assertThat(papersPerReviewer.values().stream().allMatch(count -> count == 3)).isTrue();
+    }
+
+    @Test
+    void respectsTheCapacityOfReviewers() {
+        MinCostFlowAssignment capped = new MinCostFlowAssignment(
+                Mockito.mock(AssignmentSnapshotLoader.class), Mockito.mock(ReviewRepository.class), 1);
+        List<Bid> bids = List.of(
+                bid(10L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW),
+                bid(11L, 1L, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+
+        List<Review> proposed = capped.proposeAssignments(snapshot(List.of(10L, 11L), bids, Map.of(), Map.of()));
+
+        assertThat(proposed.size()).isEqualTo(1);
+    }
+
+    @Test
+    void paperWithoutBids() {
+        AssignmentSnapshot snapshot = snapshot(List.of(10L), List.of(), Map.of(), Map.of());
+        assertEquals(List.of(), strategy.proposeAssignments(snapshot));
+    }
+
+    @Test
+    void paperWithoutBidsDoesNotStopTheOthers() {
+        List<Bid> bids = new ArrayList<>();
+        for (long reviewer = 1; reviewer <= 3; reviewer++) {
+            bids.add(bid(10L, reviewer, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.CAN_REVIEW));
+            bids.add(bid(12L, reviewer, nl.tudelft.sem.v20232024.team08b.dtos.review.Bid.NEUTRAL));
+        }
+
+        // Nobody bid on paper 11
+        List<Review> proposed = strategy.proposeAssignments(
+                snapshot(List.of(10L, 11L, 12L), bids, Map.of(), Map.of()));
+
+        assertThat(proposed.size()).isEqualTo(6);
+        assertThat(proposed.stream().noneMatch(review -> review.getReviewID().getPaperID() == 11L)).isTrue();
+    }
+}
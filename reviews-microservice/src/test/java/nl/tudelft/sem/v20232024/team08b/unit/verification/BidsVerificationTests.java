@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.EnumSet;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -35,8 +37,7 @@ public class BidsVerificationTests {
 
     @Test
     void verifyPermissionToAccessBid_ByReviewer() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
 
         assertDoesNotThrow(() -> bidsVerification.verifyPermissionToAccessBidsOfPaper(requesterID, paperID));
     }
@@ -44,8 +45,7 @@ public class BidsVerificationTests {
     @Test
     void verifyPermissionToAccessBid_ByChair() {
 
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
 
         assertDoesNotThrow(() -> bidsVerification.verifyPermissionToAccessBidsOfPaper(requesterID, paperID));
     }
@@ -53,8 +53,7 @@ public class BidsVerificationTests {
     @Test
     void verifyPermissionToAccessBid_ForbiddenAccess() {
 
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.noneOf(UserRole.class));
 
         assertThrows(ForbiddenAccessException.class,
                 () -> bidsVerification.verifyPermissionToAccessBidsOfPaper(requesterID, paperID));
@@ -10,6 +10,8 @@ import nl.tudelft.sem.v20232024.team08b.dtos.review.UserRole;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.EnumSet;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -78,9 +80,9 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_NotFoundException() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER, UserRole.CHAIR));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(false);
 
         assertThrows(NotFoundException.class, () ->
@@ -89,9 +91,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_IllegalAccessException() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.noneOf(UserRole.class));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         assertThrows(IllegalAccessException.class, () ->
@@ -100,9 +101,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_IllegalAccessException_NotChairNotAssigned() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         assertThrows(IllegalAccessException.class, () ->
@@ -111,9 +111,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_IllegalAccessException_NotChairNotReviewer() {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.noneOf(UserRole.class));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         assertThrows(IllegalAccessException.class, () ->
@@ -122,9 +121,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_Successful_isReviewer() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(false);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
@@ -132,9 +130,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_Successful_isChair() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
@@ -142,9 +139,9 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_Successful_isChairAndReviewer() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER, UserRole.CHAIR));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
@@ -152,9 +149,8 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_Successful_isChairAndAssigned() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
@@ -162,9 +158,9 @@ public class DiscussionVerificationTests {
 
     @Test
     void verifyGetDiscussionComments_Successful() throws NotFoundException, IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(requesterID, paperID))
+                .thenReturn(EnumSet.of(UserRole.REVIEWER, UserRole.CHAIR));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(requesterID, paperID, UserRole.CHAIR)).thenReturn(true);
         when(papersVerification.verifyPaper(paperID)).thenReturn(true);
 
         discussionVerification.verifyGetDiscussionComments(requesterID, reviewerID, paperID);
@@ -19,6 +19,7 @@ import org.mockito.Mockito;
 
 import javax.validation.Valid;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -88,7 +89,7 @@ public class PapersVerificationTests {
     @Test
     void verifyPermissionToViewStatus_UserIsReviewer() throws IllegalAccessException {
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
 
         papersVerification.verifyPermissionToViewStatus(reviewerID, paperID);
     }
@@ -96,7 +97,7 @@ public class PapersVerificationTests {
     @Test
     void verifyPermissionToViewStatus_UserIsReviewerButToDifferentPaper() {
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
 
         assertThrows(IllegalAccessException.class, () ->
                 papersVerification.verifyPermissionToViewStatus(reviewerID, paperID));
@@ -105,7 +106,7 @@ public class PapersVerificationTests {
     @Test
     void verifyPermissionToViewStatus_UserIsAuthor() throws IllegalAccessException {
         when(usersVerification.isAuthorToPaper(reviewerID, paperID)).thenReturn(true);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.AUTHOR)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.AUTHOR));
 
         papersVerification.verifyPermissionToViewStatus(reviewerID, paperID);
     }
@@ -113,7 +114,7 @@ public class PapersVerificationTests {
     @Test
     void verifyPermissionToViewStatus_UserIsAuthorButToDifferentPaper() {
         when(usersVerification.isAuthorToPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.AUTHOR)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.AUTHOR));
 
         assertThrows(IllegalAccessException.class, () ->
                 papersVerification.verifyPermissionToViewStatus(reviewerID, paperID));
@@ -121,7 +122,7 @@ public class PapersVerificationTests {
 
     @Test
     void verifyPermissionToViewStatus_UserIsChair() throws IllegalAccessException {
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.CHAIR)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
 
         papersVerification.verifyPermissionToViewStatus(reviewerID, paperID);
     }
@@ -129,10 +130,8 @@ public class PapersVerificationTests {
     @Test
     void verifyPermissionToViewStatus_UserDoesNotHavePermission() {
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(false);
         when(usersVerification.isAuthorToPaper(reviewerID, paperID)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.AUTHOR)).thenReturn(false);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.CHAIR)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.noneOf(UserRole.class));
 
         assertThrows(IllegalAccessException.class, () ->
                 papersVerification.verifyPermissionToViewStatus(reviewerID, paperID));
@@ -148,7 +147,7 @@ public class PapersVerificationTests {
     void verifyPermissionToGetPaper_NoUserFound() throws Exception {
         doReturn(true).when(papersVerification).verifyPaper(paperID);
         when(externalRepository.getSubmission(paperID)).thenReturn(fakeSubmission);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(false);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.noneOf(UserRole.class));
 
         assertThrows(IllegalCallerException.class, () -> papersVerification.verifyPermissionToGetPaper(reviewerID, paperID));
     }
@@ -157,7 +156,7 @@ public class PapersVerificationTests {
     void verifyPermissionToGetPaper_NotAReviewer() throws Exception {
         doReturn(true).when(papersVerification).verifyPaper(paperID);
         when(externalRepository.getSubmission(paperID)).thenReturn(fakeSubmission);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(false);
 
         assertThrows(IllegalAccessException.class, () -> papersVerification.verifyPermissionToGetPaper(reviewerID, paperID));
@@ -175,7 +174,7 @@ public class PapersVerificationTests {
         // Make verifyPermissionToViewUser() passes nicely
         doReturn(true).when(papersVerification).verifyPaper(paperID);
         when(externalRepository.getSubmission(paperID)).thenReturn(fakeSubmission);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
 
         // Make sure exception is thrown when phase is checked
@@ -195,7 +194,7 @@ public class PapersVerificationTests {
 
         doReturn(true).when(papersVerification).verifyPaper(paperID);
         when(externalRepository.getSubmission(paperID)).thenReturn(fakeSubmission);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.REVIEWER)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.REVIEWER));
         when(usersVerification.isReviewerForPaper(reviewerID, paperID)).thenReturn(true);
 
         assertDoesNotThrow(() -> papersVerification.verifyPermissionToGetPaper(reviewerID, paperID));
@@ -206,7 +205,7 @@ public class PapersVerificationTests {
 
         doReturn(true).when(papersVerification).verifyPaper(paperID);
         when(externalRepository.getSubmission(paperID)).thenReturn(fakeSubmission);
-        when(usersVerification.verifyRoleFromPaper(reviewerID, paperID, UserRole.CHAIR)).thenReturn(true);
+        when(usersVerification.getRolesFromPaper(reviewerID, paperID)).thenReturn(EnumSet.of(UserRole.CHAIR));
 
         assertDoesNotThrow(() -> papersVerification.verifyPermissionToGetPaper(reviewerID, paperID));
 
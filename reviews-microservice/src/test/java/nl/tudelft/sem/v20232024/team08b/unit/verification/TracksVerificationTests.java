@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,14 +56,8 @@ public class TracksVerificationTests {
 
         // Assume that the user has no role
         when(
-                usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.REVIEWER)
-        ).thenReturn(false);
-        when(
-                usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.CHAIR)
-        ).thenReturn(false);
-        when(
-                usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, UserRole.AUTHOR)
-        ).thenReturn(false);
+                usersVerification.getRolesInTrack(requesterID, conferenceID, trackID)
+        ).thenReturn(EnumSet.noneOf(UserRole.class));
     }
 
     @Test
@@ -224,8 +219,8 @@ public class TracksVerificationTests {
 
     void applyRole(UserRole role) {
         when(
-                usersVerification.verifyRoleFromTrack(requesterID, conferenceID, trackID, role)
-        ).thenReturn(true);
+                usersVerification.getRolesInTrack(requesterID, conferenceID, trackID)
+        ).thenReturn(EnumSet.of(role));
     }
 
     @Test
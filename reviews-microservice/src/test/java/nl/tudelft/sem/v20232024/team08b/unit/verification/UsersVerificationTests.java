@@ -16,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.*;
@@ -37,7 +39,11 @@ public class UsersVerificationTests {
     private RolesOfUser fakeRolesOfUser;
 
     @BeforeEach
-    void prepare() {
+    void prepare() throws NotFoundException {
+        // The index of the roles is built by the communicator itself from getRolesOfUser
+        when(usersCommunicator.getRolesOfUserByTrack(anyLong())).thenCallRealMethod();
+        when(usersCommunicator.getRolesOfUserByTrackAsync(anyLong())).thenCallRealMethod();
+
         fakeSubmission = new Submission();
         fakeSubmission.setTrackId(3L);
 
@@ -153,6 +159,67 @@ public class UsersVerificationTests {
     }
 
 
+    @Test
+    void getRolesInTrack_MultipleRoles() throws NotFoundException {
+        RolesOfUserTracksInner innerChair = new RolesOfUserTracksInner();
+        innerChair.setRoleName("PC Chair");
+        innerChair.setTrackId(2L);
+        innerChair.setEventId(4L);
+        fakeRolesOfUser.getTracks().add(innerChair);
+
+        when(usersCommunicator.getRolesOfUser(1L)).thenReturn(fakeRolesOfUser);
+        assertThat(usersVerification.getRolesInTrack(1L, 4L, 2L))
+                .isEqualTo(EnumSet.of(UserRole.CHAIR, UserRole.REVIEWER));
+        assertThat(usersVerification.getRolesInTrack(1L, 4L, 1L))
+                .isEqualTo(EnumSet.noneOf(UserRole.class));
+    }
+
+    @Test
+    void getRolesInTrack_UnknownRoleIsSkipped() throws NotFoundException {
+        RolesOfUserTracksInner innerUnknown = new RolesOfUserTracksInner();
+        innerUnknown.setRoleName("Attendee");
+        innerUnknown.setTrackId(2L);
+        innerUnknown.setEventId(4L);
+        fakeRolesOfUser.getTracks().add(innerUnknown);
+
+        when(usersCommunicator.getRolesOfUser(1L)).thenReturn(fakeRolesOfUser);
+        assertThat(usersVerification.getRolesInTrack(1L, 4L, 2L))
+                .isEqualTo(EnumSet.of(UserRole.REVIEWER));
+    }
+
+    @Test
+    void getRolesInTrack_UserDoesNotExist() throws NotFoundException {
+        when(usersCommunicator.getRolesOfUser(1L)).thenThrow(new NotFoundException(""));
+        assertThat(usersVerification.getRolesInTrack(1L, 4L, 2L))
+                .isEqualTo(EnumSet.noneOf(UserRole.class));
+    }
+
+    @Test
+    void getRolesFromPaper() {
+        Submission fakeSubmission = new Submission();
+        fakeSubmission.setEventId(4L);
+        fakeSubmission.setTrackId(2L);
+
+        when(submissionsCommunicator.getSubmissionAsync(3L))
+                .thenReturn(CompletableFuture.completedFuture(fakeSubmission));
+        when(usersCommunicator.getRolesOfUserAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(fakeRolesOfUser));
+        assertThat(usersVerification.getRolesFromPaper(1L, 3L))
+                .isEqualTo(EnumSet.of(UserRole.REVIEWER));
+        verify(submissionsCommunicator, times(1)).getSubmissionAsync(3L);
+        verify(usersCommunicator, times(1)).getRolesOfUserAsync(1L);
+    }
+
+    @Test
+    void getRolesFromPaper_NoSuchPaper() {
+        when(submissionsCommunicator.getSubmissionAsync(3L))
+                .thenReturn(CompletableFuture.failedFuture(new NotFoundException("")));
+        when(usersCommunicator.getRolesOfUserAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(fakeRolesOfUser));
+        assertThat(usersVerification.getRolesFromPaper(1L, 3L))
+                .isEqualTo(EnumSet.noneOf(UserRole.class));
+    }
+
     @Test
     void verifyRoleFromPaper_Yes() throws NotFoundException {
         Submission fakeSubmission = new Submission();
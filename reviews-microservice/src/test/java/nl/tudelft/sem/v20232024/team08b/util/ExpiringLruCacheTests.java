@@ -0,0 +1,97 @@
+package nl.tudelft.sem.v20232024.team08b.util;
+
+import nl.tudelft.sem.v20232024.team08b.utils.ExpiringLruCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+public class ExpiringLruCacheTests {
+    private final Clock clock = Mockito.mock(Clock.class);
+    private ExpiringLruCache<Long, String> cache;
+
+    @BeforeEach
+    void setup() {
+        when(clock.millis()).thenReturn(1000L);
+        cache = new ExpiringLruCache<>(Duration.ofMillis(100), 2, clock);
+    }
+
+    @Test
+    void getMissing() {
+        assertThat(cache.get(1L)).isEqualTo(Optional.empty());
+        assertThat(cache.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void getPresent() {
+        cache.put(1L, "one");
+        assertThat(cache.get(1L)).isEqualTo(Optional.of("one"));
+        assertThat(cache.getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void getExpired() {
+        cache.put(1L, "one");
+        when(clock.millis()).thenReturn(1100L);
+        assertThat(cache.get(1L)).isEqualTo(Optional.empty());
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvicted() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        // Touch the first entry, so that the second one becomes the least recently used
+        cache.get(1L);
+        cache.put(3L, "three");
+
+        assertThat(cache.get(1L)).isEqualTo(Optional.of("one"));
+        assertThat(cache.get(2L)).isEqualTo(Optional.empty());
+        assertThat(cache.get(3L)).isEqualTo(Optional.of("three"));
+        assertThat(cache.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void invalidate() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.invalidate(1L);
+        assertThat(cache.get(1L)).isEqualTo(Optional.empty());
+        assertThat(cache.get(2L)).isEqualTo(Optional.of("two"));
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void removedKeysAreReported() {
+        List<Long> removed = new ArrayList<>();
+        cache.setRemovalListener(removed::add);
+        cache.put(1L, "one");
+        cache.put(1L, "uno");
+        cache.put(2L, "two");
+        cache.put(3L, "three");
+        cache.invalidate(2L);
+        cache.invalidate(2L);
+        when(clock.millis()).thenReturn(1100L);
+        cache.get(3L);
+
+        // Replacing a value is not a removal, and a missing key is not removed twice
+        assertThat(removed).isEqualTo(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void invalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ExpiringLruCache<Long, String>(Duration.ofMillis(100), 0, clock));
+    }
+}
@@ -1,16 +1,29 @@
 package nl.tudelft.sem.v20232024.team08b.util;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.config.DownstreamProperties;
+import nl.tudelft.sem.v20232024.team08b.dtos.submissions.Submission;
 import nl.tudelft.sem.v20232024.team08b.utils.HttpRequestSender;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import java.io.IOException;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("unchecked")
@@ -64,4 +77,104 @@ public class HttpRequestSenderTests {
                 httpRequestSender.sendGetRequest(url)
         );
     }
+
+    @Test
+    void requestTimeoutIsApplied() throws NotFoundException, IOException, InterruptedException {
+        DownstreamProperties properties = new DownstreamProperties();
+        properties.setRequestTimeout(Duration.ofMillis(1234));
+        HttpRequestSender configuredSender = new HttpRequestSender(httpClient, properties);
+
+        var fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn("fake body");
+        when(fakeResponse.statusCode()).thenReturn(200);
+        when(httpClient.send(any(), any())).thenReturn(fakeResponse);
+        configuredSender.sendGetRequest("http://fake.url");
+
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).send(request.capture(), any());
+        assertThat(request.getValue().timeout()).isEqualTo(Optional.of(Duration.ofMillis(1234)));
+    }
+
+    @Test
+    void typedListIsReadFromTheBody() throws NotFoundException, IOException, InterruptedException {
+        HttpResponse<byte[]> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn(
+                "[{\"submissionId\": 1}, {\"submissionId\": 2}]".getBytes());
+        when(fakeResponse.statusCode()).thenReturn(200);
+        when(httpClient.<byte[]>send(any(), any())).thenReturn(fakeResponse);
+
+        ObjectReader reader = new ObjectMapper().readerFor(new TypeReference<List<Submission>>() {});
+        List<Submission> result = httpRequestSender.sendGetRequest("http://fake.url", reader);
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(1).getSubmissionId()).isEqualTo(2L);
+    }
+
+    @Test
+    void typedNotFound() throws IOException, InterruptedException {
+        HttpResponse<byte[]> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn(new byte[0]);
+        when(fakeResponse.statusCode()).thenReturn(404);
+        when(httpClient.<byte[]>send(any(), any())).thenReturn(fakeResponse);
+
+        ObjectReader reader = new ObjectMapper().readerFor(Map.class);
+        assertThrows(NotFoundException.class, () -> httpRequestSender.sendGetRequest("http://fake.url", reader));
+    }
+
+    @Test
+    void asyncStatusOK() throws NotFoundException {
+        String url = "http://fake.url";
+        HttpResponse<String> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn("fake body");
+        when(fakeResponse.statusCode()).thenReturn(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(fakeResponse));
+        assertThat(HttpRequestSender.await(httpRequestSender.sendGetRequestAsync(url))).isEqualTo("fake body");
+    }
+
+    @Test
+    void asyncStatusNotFound() {
+        String url = "http://fake.url";
+        HttpResponse<String> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.statusCode()).thenReturn(404);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(fakeResponse));
+        assertThrows(NotFoundException.class, () ->
+                HttpRequestSender.await(httpRequestSender.sendGetRequestAsync(url)));
+    }
+
+    @Test
+    void asyncStatusUnknown() {
+        String url = "http://fake.url";
+        HttpResponse<String> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.statusCode()).thenReturn(500);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(fakeResponse));
+        assertThrows(RuntimeException.class, () ->
+                HttpRequestSender.await(httpRequestSender.sendGetRequestAsync(url)));
+    }
+
+    @Test
+    void asyncTypedIsReadFromTheBody() throws NotFoundException {
+        String url = "http://fake.url";
+        HttpResponse<byte[]> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn("{\"value\": 5}".getBytes());
+        when(fakeResponse.statusCode()).thenReturn(200);
+        when(httpClient.<byte[]>sendAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(fakeResponse));
+
+        ObjectReader reader = new ObjectMapper().readerFor(Map.class);
+        Map<String, Integer> result = HttpRequestSender.await(httpRequestSender.sendGetRequestAsync(url, reader));
+        assertThat(result.get("value")).isEqualTo(5);
+    }
+
+    @Test
+    void asyncTypedNotFound() {
+        String url = "http://fake.url";
+        HttpResponse<byte[]> fakeResponse = Mockito.mock(HttpResponse.class);
+        when(fakeResponse.body()).thenReturn(new byte[0]);
+        when(fakeResponse.statusCode()).thenReturn(404);
+        when(httpClient.<byte[]>sendAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(fakeResponse));
+
+        ObjectReader reader = new ObjectMapper().readerFor(Map.class);
+        assertThrows(NotFoundException.class, () ->
+                HttpRequestSender.await(httpRequestSender.sendGetRequestAsync(url, reader)));
+    }
 }
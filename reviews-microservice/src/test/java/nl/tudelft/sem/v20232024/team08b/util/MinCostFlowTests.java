@@ -0,0 +1,55 @@
+package nl.tudelft.sem.v20232024.team08b.util;
+
+import nl.tudelft.sem.v20232024.team08b.utils.MinCostFlow;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MinCostFlowTests {
+    @Test
+    void takesTheCheapestPaths() {
+        MinCostFlow network = new MinCostFlow(4, 5);
+        int cheap = network.addEdge(0, 2, 1, 1);
+        int expensive = network.addEdge(0, 3, 1, 5);
+        network.addEdge(2, 1, 1, 0);
+        network.addEdge(3, 1, 1, 0);
+
+        assertThat(network.solve(0, 1)).isEqualTo(2L);
+        assertThat(network.getTotalCost()).isEqualTo(6L);
+        assertThat(network.getFlow(cheap)).isEqualTo(1);
+        assertThat(network.getFlow(expensive)).isEqualTo(1);
+    }
+
+    @Test
+    void reroutesFlowToLowerTheCost() {
+        // The first shortest path 0-2-3-1 blocks both cheap routes and has to be undone
+        MinCostFlow network = new MinCostFlow(4, 5);
+        network.addEdge(0, 2, 1, 0);
+        network.addEdge(0, 3, 1, 2);
+        int middle = network.addEdge(2, 3, 1, 0);
+        network.addEdge(2, 1, 1, 2);
+        network.addEdge(3, 1, 1, 0);
+
+        assertThat(network.solve(0, 1)).isEqualTo(2L);
+        assertThat(network.getTotalCost()).isEqualTo(4L);
+        assertThat(network.getFlow(middle)).isEqualTo(0);
+    }
+
+    @Test
+    void growsPastTheExpectedEdges() {
+        MinCostFlow network = new MinCostFlow(3, 1);
+        network.addEdge(0, 2, 3, 1);
+        network.addEdge(2, 1, 2, 1);
+        network.addEdge(0, 1, 1, 5);
+
+        assertThat(network.solve(0, 1)).isEqualTo(3L);
+        assertThat(network.getTotalCost()).isEqualTo(9L);
+    }
+
+    @Test
+    void negativeCostsAreRejected() {
+        MinCostFlow network = new MinCostFlow(2, 1);
+        assertThrows(IllegalArgumentException.class, () -> network.addEdge(0, 1, 1, -1));
+    }
+}
@@ -0,0 +1,154 @@
+package nl.tudelft.sem.v20232024.team08b.util;
+
+import javassist.NotFoundException;
+import nl.tudelft.sem.v20232024.team08b.utils.HttpRequestSender;
+import nl.tudelft.sem.v20232024.team08b.utils.SingleFlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTests {
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    /**
+     * Waits until the given number of callers joined an in-flight call.
+     *
+     * @param expected the number of coalesced callers to wait for
+     */
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getCoalescedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void sequentialCallsAreNotCoalesced() throws NotFoundException {
+        assertThat(singleFlight.execute(1L, () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute(1L, () -> "again")).isEqualTo("again");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2L);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                    return "one";
+                });
+            } catch (NotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return singleFlight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    return "two";
+                });
+            } catch (NotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+        awaitCoalesced(1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1L);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(1L);
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentAsyncCallsShareOneExecution() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.executeAsync(1L, () -> {
+            calls.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync(1L, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("two");
+        });
+        assertThat(second.isDone()).isFalse();
+        pending.complete("one");
+
+        assertThat(first.join()).isEqualTo("one");
+        assertThat(second.join()).isEqualTo("one");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(1L);
+
+        // The finished call is not kept
+        assertThat(singleFlight.executeAsync(1L, () -> CompletableFuture.completedFuture("again")).join())
+                .isEqualTo("again");
+    }
+
+    @Test
+    void blockingCallJoinsAsyncCall() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        singleFlight.executeAsync(1L, () -> pending);
+
+        CompletableFuture<String> blocking = CompletableFuture.supplyAsync(() -> {
+            try {
+                return singleFlight.execute(1L, () -> "two");
+            } catch (NotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        awaitCoalesced(1);
+        pending.complete("one");
+
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void asyncNotFoundIsShared() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.executeAsync(1L, () -> pending);
+        CompletableFuture<String> second = singleFlight.executeAsync(1L, () -> pending);
+        pending.completeExceptionally(new NotFoundException(""));
+
+        assertThrows(NotFoundException.class, () -> HttpRequestSender.await(first));
+        assertThrows(NotFoundException.class, () -> HttpRequestSender.await(second));
+    }
+
+    @Test
+    void notFoundIsRethrown() {
+        assertThrows(NotFoundException.class, () ->
+                singleFlight.execute(1L, () -> {
+                    throw new NotFoundException("");
+                }));
+    }
+
+    @Test
+    void otherCheckedExceptionsAreWrapped() {
+        assertThrows(RuntimeException.class, () ->
+                singleFlight.execute(1L, () -> {
+                    throw new Exception("");
+                }));
+    }
+}